@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.benchmark.model.Author;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Persisting {@code entities} new entities of two types, interleaved, and
+ * flushing them with JDBC batching and insert ordering. The transaction is
+ * rolled back, so that the size of the tables does not change over time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchInsertBenchmark {
+
+	@Param({ "1000" })
+	public int entities;
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( Map.of(
+				AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ),
+				AvailableSettings.ORDER_INSERTS, "true"
+		) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.beginTransaction();
+			Author author = null;
+			for ( int i = 0; i < entities; i++ ) {
+				if ( i % 10 == 0 ) {
+					author = new Author( "Author " + i );
+					session.persist( author );
+				}
+				session.persist( BenchmarkSessionFactory.newBook( author, i ) );
+			}
+			session.flush();
+			session.getTransaction().rollback();
+		}
+	}
+}
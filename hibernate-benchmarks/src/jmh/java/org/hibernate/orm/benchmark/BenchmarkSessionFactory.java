@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks, against a
+ * private in-memory H2 database, and populates it.
+ */
+public final class BenchmarkSessionFactory {
+
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * @param settings Additional settings, overriding the defaults
+	 */
+	@SuppressWarnings("deprecation")
+	public static SessionFactory build(Map<String, String> settings) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.setProperty(
+						AvailableSettings.URL,
+						"jdbc:h2:mem:benchmark" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.setProperty( AvailableSettings.USER, "sa" )
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.setProperty( AvailableSettings.SHOW_SQL, "false" )
+				.setProperty( AvailableSettings.GENERATE_STATISTICS, "false" );
+		settings.forEach( configuration::setProperty );
+		return configuration.buildSessionFactory();
+	}
+
+	/**
+	 * Inserts {@code authors} authors with {@code booksPerAuthor} books each.
+	 */
+	public static void populate(SessionFactory sessionFactory, int authors, int booksPerAuthor) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < authors; i++ ) {
+				final Author author = new Author( "Author " + i );
+				session.insert( author );
+				for ( int j = 0; j < booksPerAuthor; j++ ) {
+					session.insert( newBook( author, i * booksPerAuthor + j ) );
+				}
+			}
+			transaction.commit();
+		}
+	}
+
+	static Book newBook(Author author, int number) {
+		return new Book(
+				"Title " + number,
+				"978-" + number,
+				BigDecimal.valueOf( 1000 + number % 5000, 2 ),
+				LocalDate.of( 2000, 1, 1 ).plusDays( number % 8000 ),
+				author
+		);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Loading entities by id, through {@link Session#find}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityLoadBenchmark {
+
+	private static final int AUTHORS = 100;
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	private SessionFactory sessionFactory;
+	private List<Long> ids;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( Collections.emptyMap() );
+		BenchmarkSessionFactory.populate( sessionFactory, AUTHORS, BOOKS_PER_AUTHOR );
+		try ( Session session = sessionFactory.openSession() ) {
+			ids = session.createSelectionQuery( "select id from Book order by id", Long.class ).getResultList();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	private Long nextId() {
+		final Long id = ids.get( next );
+		next = ( next + 1 ) % ids.size();
+		return id;
+	}
+
+	/**
+	 * One entity per session, as a typical request would.
+	 */
+	@Benchmark
+	public Book findById() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Book.class, nextId() );
+		}
+	}
+
+	/**
+	 * Every entity in one session, growing the persistence context.
+	 */
+	@Benchmark
+	public void findAllByIdInOneSession(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( Long id : ids ) {
+				blackhole.consume( session.find( Book.class, id ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Flushing a session holding {@code entities} entities, of which
+ * {@code dirty} were modified. The transaction is rolled back after
+ * each invocation, so every invocation flushes the same changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlushBenchmark {
+
+	private static final int ENTITIES = 2000;
+
+	@Param({ "0", "100", "2000" })
+	public int dirty;
+
+	/**
+	 * @see AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	@Param({ "0" })
+	public int parallelDirtyCheckingThreshold;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( Map.of(
+				AvailableSettings.STATEMENT_BATCH_SIZE, "50",
+				AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, Integer.toString( parallelDirtyCheckingThreshold )
+		) );
+		BenchmarkSessionFactory.populate( sessionFactory, ENTITIES / 10, 10 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void loadAndModify() {
+		session = sessionFactory.openSession();
+		session.beginTransaction();
+		final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+				.getResultList();
+		for ( int i = 0; i < dirty; i++ ) {
+			final Book book = books.get( i );
+			book.setTitle( book.getTitle() + "*" );
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
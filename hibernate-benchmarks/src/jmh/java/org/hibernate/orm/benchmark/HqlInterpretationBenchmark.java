@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Parsing an HQL query, and translating it to SQL, with the
+ * {@link QueryInterpretationCache} either cleared before each
+ * invocation ({@code cold}), or already holding the query ({@code warm}).
+ * <p>
+ * The translation is only triggered by the execution of the query, so
+ * the query is executed, against a table holding a single row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HqlInterpretationBenchmark {
+
+	private static final String HQL = "select b from Book b join fetch b.author a"
+			+ " where b.title like :title and b.price between :min and :max and a.name is not null"
+			+ " order by b.published desc, b.id";
+
+	@Param({ "cold", "warm" })
+	public String cache;
+
+	private SessionFactory sessionFactory;
+	private QueryInterpretationCache interpretationCache;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( Collections.emptyMap() );
+		BenchmarkSessionFactory.populate( sessionFactory, 1, 1 );
+		interpretationCache = sessionFactory.unwrap( SessionFactoryImplementor.class )
+				.getQueryEngine()
+				.getInterpretationCache();
+	}
+
+	@Setup(Level.Invocation)
+	public void clearCache() {
+		if ( "cold".equals( cache ) ) {
+			interpretationCache.close();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> interpretAndExecute() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( HQL, Book.class )
+					.setParameter( "title", "Title%" )
+					.setParameter( "min", BigDecimal.ZERO )
+					.setParameter( "max", BigDecimal.valueOf( 1000 ) )
+					.getResultList();
+		}
+	}
+}
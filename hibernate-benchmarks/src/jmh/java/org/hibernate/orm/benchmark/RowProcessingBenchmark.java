@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.orm.benchmark.model.BookSummary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Processing the rows of a JDBC result set into entities, DTOs, and scalars.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowProcessingBenchmark {
+
+	@Param({ "100", "1000" })
+	public int rows;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( Collections.emptyMap() );
+		BenchmarkSessionFactory.populate( sessionFactory, 100, 10 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book order by id", Book.class )
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> readOnlyEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book order by id", Book.class )
+					.setReadOnly( true )
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<BookSummary> dtos() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery(
+							"select new org.hibernate.orm.benchmark.model.BookSummary(b.id, b.title, b.price)"
+									+ " from Book b order by b.id",
+							BookSummary.class
+					)
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery(
+							"select b.id, b.title, b.isbn, b.price, b.published from Book b order by b.id",
+							Object[].class
+					)
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaJoin;
+import org.hibernate.query.criteria.JpaRoot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Translating SQL ASTs to SQL for queries whose translation cannot be
+ * cached: criteria queries, which are interpreted each time they are
+ * executed, and an HQL query with an {@code in} list whose size changes
+ * with every invocation.
+ * <p>
+ * The queries are executed, against a table holding a single row, since
+ * the translation is only triggered by the execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SqlTranslationBenchmark {
+
+	private static final int MAX_IN_LIST_SIZE = 64;
+
+	private SessionFactory sessionFactory;
+	private final List<List<Long>> inLists = new ArrayList<>();
+	private int invocation;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( Collections.emptyMap() );
+		BenchmarkSessionFactory.populate( sessionFactory, 1, 1 );
+		for ( int size = 1; size <= MAX_IN_LIST_SIZE; size++ ) {
+			final List<Long> ids = new ArrayList<>( size );
+			for ( long id = 0; id < size; id++ ) {
+				ids.add( id );
+			}
+			inLists.add( ids );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> criteria() {
+		try ( Session session = sessionFactory.openSession() ) {
+			final HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Book> query = builder.createQuery( Book.class );
+			final JpaRoot<Book> book = query.from( Book.class );
+			final JpaJoin<Book, Author> author = book.join( "author" );
+			query.where(
+					builder.like( book.<String>get( "title" ), "Title%" ),
+					builder.between( book.<BigDecimal>get( "price" ), BigDecimal.ZERO, BigDecimal.valueOf( 1000 ) ),
+					builder.greaterThan( book.<LocalDate>get( "published" ), LocalDate.of( 1990, 1, 1 ) ),
+					builder.isNotNull( author.get( "name" ) )
+			);
+			query.orderBy( builder.desc( book.get( "published" ) ), builder.asc( book.get( "id" ) ) );
+			return session.createQuery( query ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> varyingInList() {
+		final List<Long> ids = inLists.get( invocation++ % MAX_IN_LIST_SIZE );
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book b where b.id in :ids or b.isbn = :isbn", Book.class )
+					.setParameterList( "ids", ids )
+					.setParameter( "isbn", "978-0" )
+					.getResultList();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class Book {
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	private String title;
+
+	private String isbn;
+
+	private BigDecimal price;
+
+	private LocalDate published;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Author author;
+
+	public Book() {
+	}
+
+	public Book(String title, String isbn, BigDecimal price, LocalDate published, Author author) {
+		this.title = title;
+		this.isbn = isbn;
+		this.price = price;
+		this.published = published;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public void setPrice(BigDecimal price) {
+		this.price = price;
+	}
+
+	public LocalDate getPublished() {
+		return published;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+
+public class BookSummary {
+	private final Long id;
+	private final String title;
+	private final BigDecimal price;
+
+	public BookSummary(Long id, String title, BigDecimal price) {
+		this.id = id;
+		this.title = title;
+		this.price = price;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+}
@@ -1255,6 +1255,12 @@ public class OracleLegacyDialect extends Dialect {
 		return getVersion().isSameOrAfter( 12, 1 );
 	}
 
+	@Override
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		// values lists in inserts are emulated with a union of selects
+		return null;
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return getVersion().isSameOrAfter( 9 );
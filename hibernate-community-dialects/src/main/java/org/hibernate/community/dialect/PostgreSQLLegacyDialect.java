@@ -29,6 +29,8 @@ import org.hibernate.community.dialect.sequence.PostgreSQLLegacySequenceSupport;
 import org.hibernate.dialect.*;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -1098,6 +1100,11 @@ public class PostgreSQLLegacyDialect extends Dialect {
 		return PostgreSQLAggregateSupport.valueOf( this );
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return PostgreSQLCopyBulkInsertSupport.INSTANCE;
+	}
+
 	@Override
 	public void appendBinaryLiteral(SqlAppender appender, byte[] bytes) {
 		appender.appendSql( "bytea '\\x" );
@@ -224,6 +224,12 @@ public class SybaseASELegacyDialect extends SybaseLegacyDialect {
 		return getVersion().isSameOrAfter( 16, 3 );
 	}
 
+	@Override
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		// values lists in inserts are emulated with a union of selects
+		return null;
+	}
+
 	@Override
 	public void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
 		super.contributeTypes( typeContributions, serviceRegistry );
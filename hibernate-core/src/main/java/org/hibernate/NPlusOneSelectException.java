@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import java.util.Locale;
+
+/**
+ * Indicates that the number of lazy initializations of a given association,
+ * following a given query in a session, exceeded the
+ * {@linkplain org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+ * threshold}, and that {@linkplain org.hibernate.cfg.AvailableSettings#FAIL_ON_N_PLUS_ONE_SELECT
+ * such "N+1 selects" are treated as errors}.
+ *
+ * @since 6.4
+ */
+@Incubating
+public class NPlusOneSelectException extends HibernateException {
+	private final String role;
+	private final String query;
+	private final int initializations;
+
+	public NPlusOneSelectException(String role, String query, int initializations) {
+		super(
+				String.format(
+						Locale.ROOT,
+						"Lazy initialization of '%s' happened %s times after query [%s]",
+						role,
+						initializations,
+						query
+				)
+		);
+		this.role = role;
+		this.query = query;
+		this.initializations = initializations;
+	}
+
+	/**
+	 * The entity name of the proxies, the role of the collections, or the
+	 * entity name and name of the lazy attribute, which were initialized.
+	 */
+	public String getRole() {
+		return role;
+	}
+
+	/**
+	 * The last query executed by the session before the lazy initializations,
+	 * or {@code null} if there was none.
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	/**
+	 * The number of lazy initializations.
+	 */
+	public int getInitializations() {
+		return initializations;
+	}
+}
@@ -44,6 +44,49 @@ public interface SessionEventListener extends Serializable {
 	default void jdbcExecuteBatchStart() {}
 	default void jdbcExecuteBatchEnd() {}
 
+	/**
+	 * Called after a JDBC batch was executed, with the number of
+	 * parameter sets, that is, of rows, in the batch.
+	 *
+	 * @since 6.4
+	 */
+	default void jdbcBatchExecuted(int batchSize) {}
+
+	/**
+	 * Called before the results of a query are read from the JDBC
+	 * {@code ResultSet}.
+	 * Note that the statement itself might only be executed after
+	 * this call.
+	 *
+	 * @since 6.4
+	 */
+	default void resultsProcessingStart() {}
+
+	/**
+	 * Called after the results of a query were read from the JDBC
+	 * {@code ResultSet}.
+	 *
+	 * @since 6.4
+	 */
+	default void resultsProcessingEnd() {}
+
+	/**
+	 * Called before an entity is loaded by id, that is, before the
+	 * {@link org.hibernate.event.spi.LoadEvent} is fired. Loads may
+	 * be nested.
+	 *
+	 * @since 6.4
+	 */
+	default void entityLoadStart() {}
+
+	/**
+	 * Called after an entity was loaded by id, even if the load failed,
+	 * with the name of the entity.
+	 *
+	 * @since 6.4
+	 */
+	default void entityLoadEnd(String entityName) {}
+
 	default void cachePutStart() {}
 	default void cachePutEnd() {}
 
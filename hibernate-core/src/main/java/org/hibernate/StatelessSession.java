@@ -71,6 +71,25 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, assigning identifiers to the given new transient
+	 * instances, as {@link #insert(Object)} would.
+	 * <p>
+	 * The instances are streamed to the database in chunks of consecutive
+	 * instances of the same entity, through the
+	 * {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport() bulk
+	 * load channel} of the database, if any, for example, {@code COPY} on
+	 * PostgreSQL, or otherwise as JDBC batches of inserts. Instances whose
+	 * identifier is generated by the database on insert, for example, by an
+	 * identity column, are inserted one by one.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void insertMultiple(Iterable<?> entities);
+
 	/**
 	 * Update a row.
 	 *
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.Incubating;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+
+/**
+ * Specifies that a collection records the elements added to it and removed
+ * from it as they happen, instead of keeping a copy of its state as loaded
+ * from the database.
+ * <p>
+ * The copy is normally compared to the state of the collection when the
+ * session is flushed, so that the cost of loading and flushing a large
+ * collection is proportional to its size, even when a single element
+ * changed. A delta-tracked collection takes no copy when it is loaded, and
+ * only the rows of the elements added or removed are written when it is
+ * flushed.
+ * <p>
+ * This annotation only has an effect on a {@link java.util.Set}, which is
+ * not sorted, and whose elements are immutable, for example, entities or
+ * strings, since a change made to a mutable element, for example, to an
+ * embeddable object, would not be recorded. Other collections are copied
+ * as usual.
+ *
+ * @since 6.4
+ */
+@Incubating
+@Target({METHOD, FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DeltaTracked {
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies the JDBC batch size for the inserts, updates, and deletes of the
+ * annotated entity, overriding the
+ * {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE global
+ * batch size}. This is not to be confused with {@link BatchSize}, which
+ * controls batch <em>fetching</em>.
+ * <p>
+ * For example, an entity with large LOB columns might use small batches:
+ * <pre>
+ *    &#64;Entity
+ *    &#64;JdbcBatchSize(size = 5)
+ *    class Document {
+ *        ...
+ *    }
+ * </pre>
+ * <p>
+ * A batch size explicitly set for the session, using
+ * {@link org.hibernate.Session#setJdbcBatchSize(Integer)}, takes precedence
+ * over this annotation. The mutations of the collections of the entity are
+ * not affected.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_ADAPTIVE
+ *
+ * @since 6.4
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Inherited
+public @interface JdbcBatchSize {
+	/**
+	 * The batch size, a strictly positive integer. A size of 1 disables
+	 * batching for the entity.
+	 */
+	int size();
+}
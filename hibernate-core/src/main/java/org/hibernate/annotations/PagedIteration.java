@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.Incubating;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies that iterating the annotated collection, when it is not
+ * initialized, loads its elements a page at a time, as the iterator
+ * advances, instead of initializing the whole collection.
+ * <p>
+ * For example:
+ * <pre>
+ *    &#64;OneToMany(mappedBy = "owner")
+ *    &#64;PagedIteration(pageSize = 1000)
+ *    Set&lt;Event&gt; events;
+ * </pre>
+ * <p>
+ * Once the iterator moves on to the next page, the entities of the
+ * previous page which were not modified are evicted from the session,
+ * and so iterating a very large association runs in bounded memory.
+ * The collection itself remains uninitialized.
+ * <p>
+ * The annotated collection is also
+ * {@linkplain LazyCollectionOption#EXTRA extra-lazy}, that is, its size
+ * and the presence of an element are determined by a query, without
+ * initializing it. A collection with paged iteration may not be fetched
+ * eagerly.
+ * <p>
+ * This annotation only has an effect on a set, bag, or list. The pages
+ * are ordered by the {@linkplain OrderBy order} of the collection, if
+ * any, and then by its index, or by the identifiers of its elements. The
+ * iterator does not support {@link java.util.Iterator#remove()}, and a
+ * collection with pending changes is initialized as usual when it is
+ * iterated.
+ *
+ * @since 6.4
+ */
+@Incubating
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface PagedIteration {
+	/**
+	 * The maximum number of elements loaded per page.
+	 */
+	int pageSize();
+}
@@ -13,6 +13,9 @@ import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_WARM_UP;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+
 /**
  * Responsible for triggering {@linkplain QueryEngine#validateNamedQueries()
  * named query validation} when the {@link SessionFactory} is created.
@@ -36,7 +39,11 @@ class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObs
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
 		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
+			// also populates the interpretation cache
 			queryEngine.validateNamedQueries();
 		}
+		else if ( getBoolean( QUERY_PLAN_CACHE_WARM_UP, sessionFactory.getProperties() ) ) {
+			queryEngine.warmUpInterpretationCache();
+		}
 	}
 }
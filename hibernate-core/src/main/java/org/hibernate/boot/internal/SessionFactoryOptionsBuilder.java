@@ -15,6 +15,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -43,6 +45,7 @@ import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentImpl;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.id.uuid.LocalObjectUuidHelper;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.internal.CoreMessageLogger;
@@ -71,6 +74,8 @@ import org.hibernate.type.format.jackson.JacksonIntegration;
 import org.hibernate.type.format.jakartajson.JakartaJsonIntegration;
 import org.hibernate.type.format.jaxb.JaxbXmlFormatMapper;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
@@ -91,6 +96,7 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_SCHEMA;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
+import static org.hibernate.cfg.AvailableSettings.FAIL_ON_N_PLUS_ONE_SELECT;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
@@ -103,8 +109,12 @@ import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECKING_EXECUTOR;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_STORAGE;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -188,6 +198,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final List<EntityNameResolver> entityNameResolvers = new ArrayList<>();
 	private EntityNotFoundDelegate entityNotFoundDelegate;
 	private boolean identifierRollbackEnabled;
+	private PersistenceContextStorage persistenceContextStorage;
+	private int parallelDirtyCheckingThreshold;
+	private Executor parallelDirtyCheckingExecutor;
 	private boolean checkNullability;
 	private boolean initializeLazyStateOutsideTransactions;
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
@@ -196,6 +209,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private int adaptiveBatchFetchMaxSize;
+	private int nPlusOneSelectThreshold;
+	private boolean failOnNPlusOneSelectEnabled;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
@@ -365,6 +381,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
+		this.adaptiveBatchFetchMaxSize = getBoolean( ADAPTIVE_BATCH_FETCH, configurationSettings )
+				? Math.max( 2, getInt( ADAPTIVE_BATCH_FETCH_MAX_SIZE, configurationSettings, 256 ) )
+				: 0;
+		this.nPlusOneSelectThreshold = Math.max( 0, getInt( N_PLUS_ONE_SELECT_THRESHOLD, configurationSettings, 0 ) );
+		this.failOnNPlusOneSelectEnabled = getBoolean( FAIL_ON_N_PLUS_ONE_SELECT, configurationSettings );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
@@ -526,6 +547,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings
 		);
 
+		this.persistenceContextStorage = PersistenceContextStorage.interpret(
+				configurationSettings.get( PERSISTENCE_CONTEXT_STORAGE )
+		);
+
+		this.parallelDirtyCheckingThreshold = Math.max(
+				0,
+				getInt( PARALLEL_DIRTY_CHECKING_THRESHOLD, configurationSettings, 0 )
+		);
+
+		final Object parallelDirtyCheckingExecutorValue = configurationSettings.get( PARALLEL_DIRTY_CHECKING_EXECUTOR );
+		if ( parallelDirtyCheckingExecutorValue == null ) {
+			this.parallelDirtyCheckingExecutor = ForkJoinPool.commonPool();
+		}
+		else if ( parallelDirtyCheckingExecutorValue instanceof Executor ) {
+			this.parallelDirtyCheckingExecutor = (Executor) parallelDirtyCheckingExecutorValue;
+		}
+		else {
+			throw new IllegalArgumentException( "Configuration property " + PARALLEL_DIRTY_CHECKING_EXECUTOR + " value [" + parallelDirtyCheckingExecutorValue + "] is not supported" );
+		}
+
 		Object jdbcTimeZoneValue = configurationSettings.get(
 				JDBC_TIME_ZONE
 		);
@@ -947,6 +988,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return identifierRollbackEnabled;
 	}
 
+	@Override
+	public PersistenceContextStorage getPersistenceContextStorage() {
+		return persistenceContextStorage;
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return parallelDirtyCheckingThreshold;
+	}
+
+	@Override
+	public Executor getParallelDirtyCheckingExecutor() {
+		return parallelDirtyCheckingExecutor;
+	}
+
 	@Override
 	public boolean isCheckNullability() {
 		return checkNullability;
@@ -987,6 +1043,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return adaptiveBatchFetchMaxSize;
+	}
+
+	@Override
+	public int getNPlusOneSelectThreshold() {
+		return nPlusOneSelectThreshold;
+	}
+
+	@Override
+	public boolean isFailOnNPlusOneSelectEnabled() {
+		return failOnNPlusOneSelectEnabled;
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
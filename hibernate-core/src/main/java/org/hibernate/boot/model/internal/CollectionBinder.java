@@ -32,6 +32,7 @@ import org.hibernate.annotations.CollectionIdJdbcTypeCode;
 import org.hibernate.annotations.CollectionType;
 import org.hibernate.annotations.Columns;
 import org.hibernate.annotations.CompositeType;
+import org.hibernate.annotations.DeltaTracked;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchProfileOverride;
 import org.hibernate.annotations.FetchProfileOverrides;
@@ -61,6 +62,7 @@ import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.PagedIteration;
 import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.Persister;
 import org.hibernate.annotations.SQLDelete;
@@ -1179,6 +1181,7 @@ public abstract class CollectionBinder {
 		defineFetchingStrategy();
 		collection.setBatchSize( batchSize );
 		collection.setMutable( isMutable() );
+		collection.setDeltaTracked( property.isAnnotationPresent( DeltaTracked.class ) );
 		//work on association
 		boolean isUnowned = isUnownedCollection();
 		bindOptimisticLock( isUnowned );
@@ -1540,6 +1543,19 @@ public abstract class CollectionBinder {
 			collection.setLazy( jpaFetchType == LAZY );
 			collection.setExtraLazy( false );
 		}
+		if ( property.isAnnotationPresent( PagedIteration.class ) ) {
+			final PagedIteration pagedIteration = property.getAnnotation( PagedIteration.class );
+			if ( jpaFetchType == EAGER || !collection.isLazy() ) {
+				throw new AnnotationException("Collection '" + safeCollectionRole()
+						+ "' is annotated '@PagedIteration' but is not lazy");
+			}
+			if ( pagedIteration.pageSize() < 1 ) {
+				throw new AnnotationException("Collection '" + safeCollectionRole()
+						+ "' is annotated '@PagedIteration' with a 'pageSize' less than 1");
+			}
+			collection.setExtraLazy( true );
+			collection.setIterationPageSize( pagedIteration.pageSize() );
+		}
 	}
 
 	private FetchType getJpaFetchType() {
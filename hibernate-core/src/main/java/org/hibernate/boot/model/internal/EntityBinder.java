@@ -34,6 +34,7 @@ import org.hibernate.annotations.Filters;
 import org.hibernate.annotations.ForeignKey;
 import org.hibernate.annotations.HQLSelect;
 import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcBatchSize;
 import org.hibernate.annotations.Loader;
 import org.hibernate.annotations.Mutability;
 import org.hibernate.annotations.NaturalIdCache;
@@ -1528,6 +1529,14 @@ public class EntityBinder {
 	public void bindBatchSize() {
 		final BatchSize batchSize = annotatedClass.getAnnotation( BatchSize.class );
 		persistentClass.setBatchSize(batchSize != null ? batchSize.size() : -1 );
+		final JdbcBatchSize jdbcBatchSize = annotatedClass.getAnnotation( JdbcBatchSize.class );
+		if ( jdbcBatchSize != null ) {
+			if ( jdbcBatchSize.size() < 1 ) {
+				throw new AnnotationException( "Entity '" + persistentClass.getEntityName()
+						+ "' has a '@JdbcBatchSize' annotation with a size less than 1" );
+			}
+			persistentClass.setJdbcBatchSize( jdbcBatchSize.size() );
+		}
 	}
 
 	public void bindProxy() {
@@ -8,6 +8,7 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -20,6 +21,7 @@ import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
@@ -153,6 +155,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isIdentifierRollbackEnabled();
 	}
 
+	@Override
+	public PersistenceContextStorage getPersistenceContextStorage() {
+		return delegate.getPersistenceContextStorage();
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public Executor getParallelDirtyCheckingExecutor() {
+		return delegate.getParallelDirtyCheckingExecutor();
+	}
+
 	@Override
 	public boolean isCheckNullability() {
 		return delegate.isCheckNullability();
@@ -193,6 +210,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return delegate.getAdaptiveBatchFetchMaxSize();
+	}
+
+	@Override
+	public int getNPlusOneSelectThreshold() {
+		return delegate.getNPlusOneSelectThreshold();
+	}
+
+	@Override
+	public boolean isFailOnNPlusOneSelectEnabled() {
+		return delegate.isFailOnNPlusOneSelectEnabled();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
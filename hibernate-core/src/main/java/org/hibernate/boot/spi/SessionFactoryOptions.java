@@ -7,6 +7,8 @@
 package org.hibernate.boot.spi;
 
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -20,6 +22,7 @@ import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -128,6 +131,40 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isIdentifierRollbackEnabled();
 
+	/**
+	 * The storage used by the persistence context of sessions opened from this factory.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_STORAGE
+	 *
+	 * @since 6.4
+	 */
+	default PersistenceContextStorage getPersistenceContextStorage() {
+		return PersistenceContextStorage.STANDARD;
+	}
+
+	/**
+	 * The minimum number of managed entities for flush to dirty check entities
+	 * in parallel, or {@code 0} if parallel dirty checking is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 *
+	 * @since 6.4
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The executor on which flush dirty checks entities in parallel.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_EXECUTOR
+	 *
+	 * @since 6.4
+	 */
+	default Executor getParallelDirtyCheckingExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
 	boolean isCheckNullability();
 
 	boolean isInitializeLazyStateOutsideTransactionsEnabled();
@@ -148,6 +185,43 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * The largest batch size chosen by adaptive batch fetching, or {@code 0}
+	 * if adaptive batch fetching is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 6.4
+	 */
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The number of lazy initializations of an association, following a query,
+	 * beyond which a session reports an "N+1 selects" problem, or {@code 0}
+	 * if the detection is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 *
+	 * @since 6.4
+	 */
+	default int getNPlusOneSelectThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Whether an "N+1 selects" problem is treated as an error.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FAIL_ON_N_PLUS_ONE_SELECT
+	 *
+	 * @since 6.4
+	 */
+	default boolean isFailOnNPlusOneSelectEnabled() {
+		return false;
+	}
+
 	NullPrecedence getDefaultNullPrecedence();
 
 	boolean isOrderUpdatesEnabled();
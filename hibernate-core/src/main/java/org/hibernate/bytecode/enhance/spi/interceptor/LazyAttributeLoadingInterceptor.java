@@ -108,6 +108,7 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 						);
 					}
 
+					session.beforeLazyInitialization( getEntityName() + '.' + attributeName );
 					final LazyPropertyInitializer initializer = (LazyPropertyInitializer) persister;
 					final Object loadedValue = initializer.initializeLazyProperty(
 							attributeName,
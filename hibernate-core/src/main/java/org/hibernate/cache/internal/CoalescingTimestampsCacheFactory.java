@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * Builds a {@link CoalescingTimestampsCacheImpl}. Selected by naming this class
+ * using {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_FACTORY}.
+ *
+ * @see CacheSettings#TIMESTAMPS_CACHE_WINDOW
+ */
+public class CoalescingTimestampsCacheFactory implements TimestampsCacheFactory {
+	public static final long DEFAULT_WINDOW = 100;
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		final long window = ConfigurationHelper.getLong(
+				CacheSettings.TIMESTAMPS_CACHE_WINDOW,
+				cacheManager.getSessionFactory().getProperties(),
+				(int) DEFAULT_WINDOW
+		);
+		return new CoalescingTimestampsCacheImpl( timestampsRegion, window );
+	}
+}
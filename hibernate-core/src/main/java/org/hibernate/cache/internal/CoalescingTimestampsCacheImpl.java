@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.jfr.internal.JfrEventManager;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.cache.spi.TimestampsCache} which reduces the traffic to
+ * the timestamps region, for tables written by many concurrent transactions:
+ * <ul>
+ * <li>a pre-invalidation of a space is written once, and reused by the
+ *     transactions of this {@code SessionFactory} which start writing the
+ *     space within the window, and
+ * <li>timestamps read from the region are kept locally for the window, measured
+ *     with {@link System#nanoTime()}, and timestamps written by this
+ *     {@code SessionFactory} are kept locally as they are written.
+ * </ul>
+ * <p>
+ * The invalidation of a space at the commit of a transaction is always written,
+ * even while other transactions of this {@code SessionFactory} are still writing
+ * the space. When the region is shared with other nodes, another node might have
+ * replaced the pre-invalidation with an earlier timestamp in the meantime, and
+ * so only the timestamp of the commit ensures that query results cached before
+ * the commit are no longer considered up to date. An invalidation written by
+ * another node is seen here after at most the window.
+ *
+ * @see CoalescingTimestampsCacheFactory
+ * @see org.hibernate.cfg.AvailableSettings#TIMESTAMPS_CACHE_WINDOW
+ */
+public class CoalescingTimestampsCacheImpl extends TimestampsCacheEnabledImpl {
+	private static final Logger log = Logger.getLogger( CoalescingTimestampsCacheImpl.class );
+
+	private final long windowNanos;
+	private final Map<String, SpaceState> spaceStates = new ConcurrentHashMap<>();
+
+	public CoalescingTimestampsCacheImpl(TimestampsRegion timestampsRegion, long windowMillis) {
+		super( timestampsRegion );
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos( windowMillis );
+	}
+
+	@Override
+	public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		final RegionFactory regionFactory = session.getFactory().getCache().getRegionFactory();
+		for ( String space : spaces ) {
+			final SpaceState state = spaceState( space );
+			state.lock.lock();
+			try {
+				final long now = regionFactory.nextTimestamp();
+				if ( state.preInvalidatedUntil > now && System.nanoTime() - state.preInvalidatedAt < windowNanos ) {
+					if ( DEBUG_ENABLED ) {
+						log.debugf( "Reusing pre-invalidation of space [%s], timestamp: %s", space, state.preInvalidatedUntil );
+					}
+				}
+				else {
+					final long ts = now + regionFactory.getTimeout();
+					if ( DEBUG_ENABLED ) {
+						log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
+					}
+					putTimestamp( space, ts, session, JfrEventManager.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE );
+					state.preInvalidatedUntil = ts;
+					state.preInvalidatedAt = System.nanoTime();
+					state.remember( ts );
+				}
+			}
+			finally {
+				state.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+		final RegionFactory regionFactory = session.getFactory().getCache().getRegionFactory();
+		for ( String space : spaces ) {
+			final SpaceState state = spaceState( space );
+			state.lock.lock();
+			try {
+				final long now = regionFactory.nextTimestamp();
+				if ( DEBUG_ENABLED ) {
+					log.debugf( "Invalidating space [%s], timestamp: %s", space, now );
+				}
+				putTimestamp( space, now, session, JfrEventManager.CacheActionDescription.TIMESTAMP_INVALIDATE );
+				// the pre-invalidation was overwritten, so the next writer
+				// must write its own
+				state.preInvalidatedUntil = Long.MIN_VALUE;
+				state.remember( now );
+			}
+			finally {
+				state.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	protected Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+		final SpaceState state = spaceState( space );
+		final NearCacheEntry entry = state.nearCacheEntry.get();
+		if ( entry != null && System.nanoTime() - entry.readAt < windowNanos ) {
+			return entry.timestamp;
+		}
+		final Long timestamp = super.getLastUpdateTimestampForSpace( space, session );
+		// a timestamp written by this SessionFactory while the region was read
+		// is at least as recent as the timestamp read, and must not be replaced
+		state.nearCacheEntry.compareAndSet( entry, new NearCacheEntry( timestamp, System.nanoTime() ) );
+		return timestamp;
+	}
+
+	private SpaceState spaceState(String space) {
+		return spaceStates.computeIfAbsent( space, s -> new SpaceState() );
+	}
+
+	private static class SpaceState {
+		// guards the writes to the region
+		private final ReentrantLock lock = new ReentrantLock();
+		// guarded by the lock
+		private long preInvalidatedUntil = Long.MIN_VALUE;
+		private long preInvalidatedAt;
+		private final AtomicReference<NearCacheEntry> nearCacheEntry = new AtomicReference<>();
+
+		private void remember(Long timestamp) {
+			nearCacheEntry.set( new NearCacheEntry( timestamp, System.nanoTime() ) );
+		}
+	}
+
+	private static class NearCacheEntry {
+		private final Long timestamp;
+		private final long readAt;
+
+		private NearCacheEntry(Long timestamp, long readAt) {
+			this.timestamp = timestamp;
+			this.readAt = readAt;
+		}
+	}
+}
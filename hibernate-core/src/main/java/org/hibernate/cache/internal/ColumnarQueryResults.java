@@ -0,0 +1,313 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * Cached query results stored column by column, rather than as an array per row.
+ * Columns of {@link Long}, {@link Integer}, {@link Double} and {@link Boolean}
+ * values are stored in primitive arrays, and columns of {@link String} values
+ * with many repeated values are dictionary encoded.
+ * <p>
+ * The results are immutable. Viewed as a {@link List}, they have the same
+ * elements as the results they were encoded from, a {@link JdbcValuesMetadata}
+ * optionally followed by a row array per row, each row array being created on
+ * access. {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit}
+ * reads the values through {@link #getValue} instead, without creating the
+ * row arrays.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COLUMNAR_QUERY_CACHE_ENTRIES
+ */
+public final class ColumnarQueryResults extends AbstractList<Object> implements Serializable {
+	private final JdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final Column[] columns;
+
+	private ColumnarQueryResults(JdbcValuesMetadata metadata, int rowCount, Column[] columns) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.columns = columns;
+	}
+
+	/**
+	 * Encode the given query results, a {@link JdbcValuesMetadata} optionally
+	 * followed by row arrays of the same length.
+	 *
+	 * @return the encoded results, or {@code null} if the results do not have
+	 * the expected form, or have no rows
+	 */
+	public static ColumnarQueryResults encode(List<?> results) {
+		final JdbcValuesMetadata metadata;
+		final int offset;
+		if ( !results.isEmpty() && results.get( 0 ) instanceof JdbcValuesMetadata ) {
+			metadata = (JdbcValuesMetadata) results.get( 0 );
+			offset = 1;
+		}
+		else {
+			metadata = null;
+			offset = 0;
+		}
+		final int rowCount = results.size() - offset;
+		if ( rowCount == 0 || !( results.get( offset ) instanceof Object[] ) ) {
+			return null;
+		}
+
+		final Object[][] rows = new Object[rowCount][];
+		final int columnCount = ( (Object[]) results.get( offset ) ).length;
+		for ( int i = 0; i < rowCount; i++ ) {
+			final Object row = results.get( i + offset );
+			if ( !( row instanceof Object[] ) || ( (Object[]) row ).length != columnCount ) {
+				return null;
+			}
+			rows[i] = (Object[]) row;
+		}
+
+		final Column[] columns = new Column[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			columns[i] = encodeColumn( rows, i );
+		}
+		return new ColumnarQueryResults( metadata, rowCount, columns );
+	}
+
+	private static Column encodeColumn(Object[][] rows, int columnIndex) {
+		final Class<?> valueClass = determineValueClass( rows, columnIndex );
+		if ( valueClass == Long.class ) {
+			return new LongColumn( rows, columnIndex );
+		}
+		else if ( valueClass == Integer.class ) {
+			return new IntegerColumn( rows, columnIndex );
+		}
+		else if ( valueClass == Double.class ) {
+			return new DoubleColumn( rows, columnIndex );
+		}
+		else if ( valueClass == Boolean.class ) {
+			return new BooleanColumn( rows, columnIndex );
+		}
+		else if ( valueClass == String.class ) {
+			final Map<String, Integer> codes = new HashMap<>();
+			for ( Object[] row : rows ) {
+				final String value = (String) row[columnIndex];
+				if ( value != null ) {
+					codes.putIfAbsent( value, codes.size() );
+				}
+			}
+			// a dictionary only pays off when values repeat
+			if ( codes.size() * 2 <= rows.length ) {
+				return new DictionaryColumn( rows, columnIndex, codes );
+			}
+		}
+		return new ObjectColumn( rows, columnIndex );
+	}
+
+	/**
+	 * @return the class of the non-null values of the column, or {@code null}
+	 * if they are not all of the same class
+	 */
+	private static Class<?> determineValueClass(Object[][] rows, int columnIndex) {
+		Class<?> valueClass = null;
+		for ( Object[] row : rows ) {
+			final Object value = row[columnIndex];
+			if ( value != null ) {
+				if ( valueClass == null ) {
+					valueClass = value.getClass();
+				}
+				else if ( valueClass != value.getClass() ) {
+					return null;
+				}
+			}
+		}
+		return valueClass;
+	}
+
+	/**
+	 * The metadata the results were cached with, if any.
+	 */
+	public JdbcValuesMetadata getMetadata() {
+		return metadata;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	public Object getValue(int rowIndex, int columnIndex) {
+		return columns[columnIndex].get( rowIndex );
+	}
+
+	/**
+	 * Create the array of the values of the given row.
+	 */
+	public Object[] getRow(int rowIndex) {
+		final Object[] row = new Object[columns.length];
+		for ( int i = 0; i < columns.length; i++ ) {
+			row[i] = columns[i].get( rowIndex );
+		}
+		return row;
+	}
+
+	@Override
+	public Object get(int index) {
+		if ( metadata == null ) {
+			return getRow( index );
+		}
+		else {
+			return index == 0 ? metadata : getRow( index - 1 );
+		}
+	}
+
+	@Override
+	public int size() {
+		return metadata == null ? rowCount : rowCount + 1;
+	}
+
+	private interface Column extends Serializable {
+		Object get(int rowIndex);
+	}
+
+	private static BitSet nulls(Object[][] rows, int columnIndex) {
+		final BitSet nulls = new BitSet( rows.length );
+		for ( int i = 0; i < rows.length; i++ ) {
+			if ( rows[i][columnIndex] == null ) {
+				nulls.set( i );
+			}
+		}
+		return nulls.isEmpty() ? null : nulls;
+	}
+
+	private static class LongColumn implements Column {
+		private final long[] values;
+		private final BitSet nulls;
+
+		private LongColumn(Object[][] rows, int columnIndex) {
+			values = new long[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final Object value = rows[i][columnIndex];
+				if ( value != null ) {
+					values[i] = (Long) value;
+				}
+			}
+			nulls = nulls( rows, columnIndex );
+		}
+
+		@Override
+		public Object get(int rowIndex) {
+			return nulls != null && nulls.get( rowIndex ) ? null : values[rowIndex];
+		}
+	}
+
+	private static class IntegerColumn implements Column {
+		private final int[] values;
+		private final BitSet nulls;
+
+		private IntegerColumn(Object[][] rows, int columnIndex) {
+			values = new int[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final Object value = rows[i][columnIndex];
+				if ( value != null ) {
+					values[i] = (Integer) value;
+				}
+			}
+			nulls = nulls( rows, columnIndex );
+		}
+
+		@Override
+		public Object get(int rowIndex) {
+			return nulls != null && nulls.get( rowIndex ) ? null : values[rowIndex];
+		}
+	}
+
+	private static class DoubleColumn implements Column {
+		private final double[] values;
+		private final BitSet nulls;
+
+		private DoubleColumn(Object[][] rows, int columnIndex) {
+			values = new double[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final Object value = rows[i][columnIndex];
+				if ( value != null ) {
+					values[i] = (Double) value;
+				}
+			}
+			nulls = nulls( rows, columnIndex );
+		}
+
+		@Override
+		public Object get(int rowIndex) {
+			return nulls != null && nulls.get( rowIndex ) ? null : values[rowIndex];
+		}
+	}
+
+	private static class BooleanColumn implements Column {
+		private final BitSet values;
+		private final BitSet nulls;
+
+		private BooleanColumn(Object[][] rows, int columnIndex) {
+			values = new BitSet( rows.length );
+			for ( int i = 0; i < rows.length; i++ ) {
+				if ( Boolean.TRUE.equals( rows[i][columnIndex] ) ) {
+					values.set( i );
+				}
+			}
+			nulls = nulls( rows, columnIndex );
+		}
+
+		@Override
+		public Object get(int rowIndex) {
+			return nulls != null && nulls.get( rowIndex ) ? null : values.get( rowIndex );
+		}
+	}
+
+	private static class DictionaryColumn implements Column {
+		private final String[] dictionary;
+		// the index of the value in the dictionary, or -1 for null
+		private final int[] codes;
+
+		private DictionaryColumn(Object[][] rows, int columnIndex, Map<String, Integer> codesByValue) {
+			dictionary = new String[codesByValue.size()];
+			codesByValue.forEach( (value, code) -> dictionary[code] = value );
+			codes = new int[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				final String value = (String) rows[i][columnIndex];
+				codes[i] = value == null ? -1 : codesByValue.get( value );
+			}
+		}
+
+		@Override
+		public Object get(int rowIndex) {
+			final int code = codes[rowIndex];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+
+	private static class ObjectColumn implements Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[][] rows, int columnIndex) {
+			values = new Object[rows.length];
+			for ( int i = 0; i < rows.length; i++ ) {
+				values[i] = rows[i][columnIndex];
+			}
+		}
+
+		@Override
+		public Object get(int rowIndex) {
+			return values[rowIndex];
+		}
+	}
+}
@@ -34,10 +34,12 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.CacheSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -99,7 +101,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					isColumnarQueryCacheEntriesEnabled()
 			);
 		}
 		else {
@@ -548,13 +551,22 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				isColumnarQueryCacheEntriesEnabled()
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
 		return regionAccess;
 	}
 
+	private boolean isColumnarQueryCacheEntriesEnabled() {
+		return ConfigurationHelper.getBoolean(
+				CacheSettings.USE_COLUMNAR_QUERY_CACHE_ENTRIES,
+				sessionFactory.getProperties(),
+				false
+		);
+	}
+
 	protected QueryResultsRegion makeQueryResultsRegion(String regionName) {
 		return regionFactory.buildQueryResultsRegion( regionName, getSessionFactory() );
 	}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cache.spi.support.InvalidationBus;
+
+/**
+ * An {@link InvalidationBus} which delivers invalidations synchronously, to the
+ * listeners registered in the same JVM. Meant for tests: the local cache tiers
+ * of other JVMs sharing the remote cache tier are never invalidated.
+ */
+public class LoopbackInvalidationBus implements InvalidationBus {
+	/**
+	 * The bus shared by all the {@code SessionFactory} instances of the JVM.
+	 */
+	public static final LoopbackInvalidationBus INSTANCE = new LoopbackInvalidationBus();
+
+	private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+
+	@Override
+	public void subscribe(String regionName, Listener listener) {
+		listeners.computeIfAbsent( regionName, name -> new CopyOnWriteArrayList<>() ).add( listener );
+	}
+
+	@Override
+	public void unsubscribe(String regionName, Listener listener) {
+		final List<Listener> regionListeners = listeners.get( regionName );
+		if ( regionListeners != null ) {
+			regionListeners.remove( listener );
+		}
+	}
+
+	@Override
+	public void publish(String regionName, Object key, Listener publisher) {
+		final List<Listener> regionListeners = listeners.get( regionName );
+		if ( regionListeners != null ) {
+			for ( Listener listener : regionListeners ) {
+				if ( listener != publisher ) {
+					listener.invalidate( key );
+				}
+			}
+		}
+	}
+}
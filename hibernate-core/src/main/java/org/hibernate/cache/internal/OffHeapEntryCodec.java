@@ -0,0 +1,318 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * A compact binary encoding of the values stored by the {@link OffHeapRegionFactory}.
+ * <p>
+ * Entity cache entries, their disassembled state, and the most common basic types
+ * are written field by field, with a one-byte tag identifying the type of each value.
+ * Any other value, for example, a collection cache entry, or a query result, falls
+ * back to Java serialization.
+ */
+final class OffHeapEntryCodec {
+	private static final byte NULL = 0;
+	private static final byte ENTITY_ENTRY = 1;
+	private static final byte SERIALIZABLE_ARRAY = 2;
+	private static final byte OBJECT_ARRAY = 3;
+	private static final byte STRING = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte SHORT = 7;
+	private static final byte BYTE = 8;
+	private static final byte TRUE = 9;
+	private static final byte FALSE = 10;
+	private static final byte DOUBLE = 11;
+	private static final byte FLOAT = 12;
+	private static final byte CHARACTER = 13;
+	private static final byte BIG_DECIMAL = 14;
+	private static final byte BIG_INTEGER = 15;
+	private static final byte BYTES = 16;
+	private static final byte UUID_VALUE = 17;
+	private static final byte LOCAL_DATE = 18;
+	private static final byte LOCAL_TIME = 19;
+	private static final byte LOCAL_DATE_TIME = 20;
+	private static final byte INSTANT = 21;
+	private static final byte DATE = 22;
+	private static final byte SQL_DATE = 23;
+	private static final byte SQL_TIME = 24;
+	private static final byte SQL_TIMESTAMP = 25;
+	private static final byte SERIALIZED = 26;
+
+	private final ClassLoader classLoader;
+
+	OffHeapEntryCodec(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	byte[] encode(Object value) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 128 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			write( value, output );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to encode cache entry", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	Object decode(byte[] bytes) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			return read( input );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to decode cache entry", e );
+		}
+	}
+
+	private static void write(Object value, DataOutputStream output) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+			return;
+		}
+		// only exact classes, so that the decoded value has the same type
+		final Class<?> type = value.getClass();
+		if ( type == StandardCacheEntryImpl.class ) {
+			final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) value;
+			output.writeByte( ENTITY_ENTRY );
+			writeString( entry.getSubclass(), output );
+			write( entry.getVersion(), output );
+			writeElements( entry.getDisassembledState(), output );
+		}
+		else if ( type == Serializable[].class ) {
+			output.writeByte( SERIALIZABLE_ARRAY );
+			writeElements( (Object[]) value, output );
+		}
+		else if ( type == Object[].class ) {
+			output.writeByte( OBJECT_ARRAY );
+			writeElements( (Object[]) value, output );
+		}
+		else if ( type == String.class ) {
+			output.writeByte( STRING );
+			writeString( (String) value, output );
+		}
+		else if ( type == Integer.class ) {
+			output.writeByte( INTEGER );
+			output.writeInt( (Integer) value );
+		}
+		else if ( type == Long.class ) {
+			output.writeByte( LONG );
+			output.writeLong( (Long) value );
+		}
+		else if ( type == Short.class ) {
+			output.writeByte( SHORT );
+			output.writeShort( (Short) value );
+		}
+		else if ( type == Byte.class ) {
+			output.writeByte( BYTE );
+			output.writeByte( (Byte) value );
+		}
+		else if ( type == Boolean.class ) {
+			output.writeByte( (Boolean) value ? TRUE : FALSE );
+		}
+		else if ( type == Double.class ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( (Double) value );
+		}
+		else if ( type == Float.class ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( (Float) value );
+		}
+		else if ( type == Character.class ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( (Character) value );
+		}
+		else if ( type == BigDecimal.class ) {
+			final BigDecimal decimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			output.writeInt( decimal.scale() );
+			writeBytes( decimal.unscaledValue().toByteArray(), output );
+		}
+		else if ( type == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			writeBytes( ( (BigInteger) value ).toByteArray(), output );
+		}
+		else if ( type == byte[].class ) {
+			output.writeByte( BYTES );
+			writeBytes( (byte[]) value, output );
+		}
+		else if ( type == UUID.class ) {
+			final UUID uuid = (UUID) value;
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( type == LocalDate.class ) {
+			output.writeByte( LOCAL_DATE );
+			output.writeLong( ( (LocalDate) value ).toEpochDay() );
+		}
+		else if ( type == LocalTime.class ) {
+			output.writeByte( LOCAL_TIME );
+			output.writeLong( ( (LocalTime) value ).toNanoOfDay() );
+		}
+		else if ( type == LocalDateTime.class ) {
+			final LocalDateTime dateTime = (LocalDateTime) value;
+			output.writeByte( LOCAL_DATE_TIME );
+			output.writeLong( dateTime.toLocalDate().toEpochDay() );
+			output.writeLong( dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( type == Instant.class ) {
+			final Instant instant = (Instant) value;
+			output.writeByte( INSTANT );
+			output.writeLong( instant.getEpochSecond() );
+			output.writeInt( instant.getNano() );
+		}
+		else if ( type == Date.class ) {
+			output.writeByte( DATE );
+			output.writeLong( ( (Date) value ).getTime() );
+		}
+		else if ( type == java.sql.Date.class ) {
+			output.writeByte( SQL_DATE );
+			output.writeLong( ( (java.sql.Date) value ).getTime() );
+		}
+		else if ( type == java.sql.Time.class ) {
+			output.writeByte( SQL_TIME );
+			output.writeLong( ( (java.sql.Time) value ).getTime() );
+		}
+		else if ( type == java.sql.Timestamp.class ) {
+			final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+			output.writeByte( SQL_TIMESTAMP );
+			output.writeLong( timestamp.getTime() );
+			output.writeInt( timestamp.getNanos() );
+		}
+		else if ( value instanceof Serializable ) {
+			output.writeByte( SERIALIZED );
+			writeBytes( SerializationHelper.serialize( (Serializable) value ), output );
+		}
+		else {
+			throw new CacheException( "Unable to encode cache entry of type: " + type.getName() );
+		}
+	}
+
+	private static void writeElements(Object[] elements, DataOutputStream output) throws IOException {
+		output.writeInt( elements.length );
+		for ( Object element : elements ) {
+			write( element, output );
+		}
+	}
+
+	private static void writeString(String value, DataOutputStream output) throws IOException {
+		writeBytes( value.getBytes( StandardCharsets.UTF_8 ), output );
+	}
+
+	private static void writeBytes(byte[] value, DataOutputStream output) throws IOException {
+		output.writeInt( value.length );
+		output.write( value );
+	}
+
+	private Object read(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case ENTITY_ENTRY:
+				final String subclass = readString( input );
+				final Object version = read( input );
+				return new StandardCacheEntryImpl( readElements( new Serializable[input.readInt()], input ), subclass, version );
+			case SERIALIZABLE_ARRAY:
+				return readElements( new Serializable[input.readInt()], input );
+			case OBJECT_ARRAY:
+				return readElements( new Object[input.readInt()], input );
+			case STRING:
+				return readString( input );
+			case INTEGER:
+				return input.readInt();
+			case LONG:
+				return input.readLong();
+			case SHORT:
+				return input.readShort();
+			case BYTE:
+				return input.readByte();
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case DOUBLE:
+				return input.readDouble();
+			case FLOAT:
+				return input.readFloat();
+			case CHARACTER:
+				return input.readChar();
+			case BIG_DECIMAL:
+				final int scale = input.readInt();
+				return new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			case BIG_INTEGER:
+				return new BigInteger( readBytes( input ) );
+			case BYTES:
+				return readBytes( input );
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( input.readLong() );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( input.readLong() );
+			case LOCAL_DATE_TIME:
+				final LocalDate date = LocalDate.ofEpochDay( input.readLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( input.readLong() ) );
+			case INSTANT:
+				final long seconds = input.readLong();
+				return Instant.ofEpochSecond( seconds, input.readInt() );
+			case DATE:
+				return new Date( input.readLong() );
+			case SQL_DATE:
+				return new java.sql.Date( input.readLong() );
+			case SQL_TIME:
+				return new java.sql.Time( input.readLong() );
+			case SQL_TIMESTAMP:
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( input.readLong() );
+				timestamp.setNanos( input.readInt() );
+				return timestamp;
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( input ), classLoader );
+			default:
+				throw new CacheException( "Unknown tag in encoded cache entry: " + tag );
+		}
+	}
+
+	private <T> T[] readElements(T[] elements, DataInputStream input) throws IOException {
+		for ( int i = 0; i < elements.length; i++ ) {
+			//noinspection unchecked
+			elements[i] = (T) read( input );
+		}
+		return elements;
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
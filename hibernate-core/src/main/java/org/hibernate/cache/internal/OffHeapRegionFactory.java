@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.CacheSettings.CACHE_OFF_HEAP_MAX_SIZE;
+import static org.hibernate.cfg.CacheSettings.CACHE_OFF_HEAP_PAGE_SIZE;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which keeps the second-level
+ * cache in direct memory, outside the Java heap, so that a large cache does not
+ * add to the work of the garbage collector.
+ * <p>
+ * Entity cache entries are stored in a compact binary encoding of their
+ * disassembled state, and other values are stored serialized. Only the keys
+ * are kept on the heap. Each region uses at most
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE} bytes,
+ * and when a region is full, its oldest entries are evicted. The timestamps
+ * region, which must never lose an entry, is kept on the heap.
+ * <p>
+ * This region factory is not registered under a short name. To use it, set
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY} to the
+ * name of this class.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_OFF_HEAP_PAGE_SIZE
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	private static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+	private static final int DEFAULT_PAGE_SIZE = 1024 * 1024;
+
+	private long maxSize;
+	private int pageSize;
+	private OffHeapEntryCodec codec;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		maxSize = ConfigurationHelper.getLong( CACHE_OFF_HEAP_MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+		pageSize = ConfigurationHelper.getInt( CACHE_OFF_HEAP_PAGE_SIZE, configValues, DEFAULT_PAGE_SIZE );
+		if ( pageSize <= 0 || maxSize <= 0 ) {
+			throw new IllegalArgumentException( "The off-heap cache sizes must be positive" );
+		}
+		final ClassLoader classLoader = settings.getServiceRegistry()
+				.getService( ClassLoaderService.class )
+				.workWithClassLoader( loader -> loader );
+		codec = new OffHeapEntryCodec( classLoader );
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccess( regionConfig.getRegionName(), codec, maxSize, pageSize );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( regionName, codec, maxSize, pageSize );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		// an evicted timestamp would make stale query results look up-to-date
+		return new TimestampsStorageAccess();
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		codec = null;
+	}
+
+	/**
+	 * Keeps the few timestamps, one per table, on the heap, and never evicts them.
+	 */
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final ConcurrentHashMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the encoded values of a cache region in direct (off-heap) memory,
+ * keeping only the keys, and the addresses of the values, on the heap.
+ * <p>
+ * The memory is allocated in fixed-size pages, which are used as a ring:
+ * values are appended to the current page, and once the configured maximum
+ * number of pages is reached, the oldest page is reused, evicting all the
+ * entries it holds. The space of a replaced or removed value is reclaimed
+ * only when its page is reused.
+ * <p>
+ * Values are written under an exclusive lock, and read optimistically,
+ * without any locking unless a write happened concurrently.
+ */
+final class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final Logger LOG = Logger.getLogger( OffHeapStorageAccess.class );
+
+	private static final int HEADER_SIZE = Integer.BYTES;
+
+	private final String regionName;
+	private final OffHeapEntryCodec codec;
+	private final int pageSize;
+
+	private final ConcurrentHashMap<Object, Long> addresses = new ConcurrentHashMap<>();
+	private final StampedLock lock = new StampedLock();
+
+	// guarded by the write lock
+	private final ByteBuffer[] pages;
+	private final List<Object>[] pageKeys;
+	private int currentPage = -1;
+	private int position;
+
+	@SuppressWarnings("unchecked")
+	OffHeapStorageAccess(String regionName, OffHeapEntryCodec codec, long maxSize, int pageSize) {
+		this.regionName = regionName;
+		this.codec = codec;
+		this.pageSize = pageSize;
+		final int numberOfPages = (int) Math.max( 1, Math.min( Integer.MAX_VALUE, maxSize / pageSize ) );
+		this.pages = new ByteBuffer[numberOfPages];
+		this.pageKeys = new List[numberOfPages];
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = read( key );
+		return bytes == null ? null : codec.decode( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] bytes = codec.encode( value );
+		if ( bytes.length + HEADER_SIZE > pageSize ) {
+			LOG.debugf(
+					"Entry of %s bytes is larger than the page size of region '%s', not caching it",
+					bytes.length,
+					regionName
+			);
+			addresses.remove( key );
+			return;
+		}
+
+		final long stamp = lock.writeLock();
+		try {
+			if ( currentPage < 0 || position + HEADER_SIZE + bytes.length > pageSize ) {
+				nextPage();
+			}
+			final ByteBuffer page = pages[currentPage].duplicate();
+			page.position( position );
+			page.putInt( bytes.length );
+			page.put( bytes );
+			addresses.put( key, address( currentPage, position ) );
+			pageKeys[currentPage].add( key );
+			position += HEADER_SIZE + bytes.length;
+		}
+		finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	/**
+	 * Move on to the next page of the ring, evicting its entries if it was
+	 * already in use, or allocating it if not.
+	 */
+	private void nextPage() {
+		final int next = ( currentPage + 1 ) % pages.length;
+		if ( pages[next] == null ) {
+			pages[next] = ByteBuffer.allocateDirect( pageSize );
+			pageKeys[next] = new ArrayList<>();
+		}
+		else {
+			final List<Object> keys = pageKeys[next];
+			for ( Object key : keys ) {
+				final Long address = addresses.get( key );
+				if ( address != null && page( address ) == next ) {
+					addresses.remove( key );
+				}
+			}
+			keys.clear();
+		}
+		currentPage = next;
+		position = 0;
+	}
+
+	private byte[] read(Object key) {
+		long stamp = lock.tryOptimisticRead();
+		if ( stamp != 0L ) {
+			final Long address = addresses.get( key );
+			if ( address == null ) {
+				return null;
+			}
+			final byte[] bytes = readAt( address );
+			if ( lock.validate( stamp ) ) {
+				return bytes;
+			}
+		}
+
+		// a write happened concurrently
+		stamp = lock.readLock();
+		try {
+			final Long address = addresses.get( key );
+			return address == null ? null : readAt( address );
+		}
+		finally {
+			lock.unlockRead( stamp );
+		}
+	}
+
+	/**
+	 * Read the value at the given address. During an optimistic read, the page
+	 * might be concurrently overwritten, so never trust the length read.
+	 */
+	private byte[] readAt(long address) {
+		final ByteBuffer page = pages[page( address )];
+		if ( page == null ) {
+			return null;
+		}
+		final int offset = offset( address );
+		final int length = page.getInt( offset );
+		if ( length < 0 || length > pageSize - offset - HEADER_SIZE ) {
+			return null;
+		}
+		final byte[] bytes = new byte[length];
+		final ByteBuffer view = page.duplicate();
+		view.position( offset + HEADER_SIZE );
+		view.get( bytes );
+		return bytes;
+	}
+
+	private static long address(int page, int offset) {
+		return ( (long) page << 32 ) | offset;
+	}
+
+	private static int page(long address) {
+		return (int) ( address >>> 32 );
+	}
+
+	private static int offset(long address) {
+		return (int) address;
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		evictData( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		evictData();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return addresses.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		final long stamp = lock.writeLock();
+		try {
+			addresses.clear();
+			for ( List<Object> keys : pageKeys ) {
+				if ( keys != null ) {
+					keys.clear();
+				}
+			}
+			currentPage = -1;
+			position = 0;
+		}
+		finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		addresses.remove( key );
+	}
+
+	@Override
+	public void release() {
+		final long stamp = lock.writeLock();
+		try {
+			addresses.clear();
+			// the direct memory is freed once the buffers are garbage collected
+			for ( int i = 0; i < pages.length; i++ ) {
+				pages[i] = null;
+				pageKeys[i] = null;
+			}
+			currentPage = -1;
+			position = 0;
+		}
+		finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+}
@@ -35,12 +35,15 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final boolean columnar;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			boolean columnar) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.columnar = columnar;
 	}
 
 	@Override
@@ -61,7 +64,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				encode( results )
 		);
 
 		final CachePutEvent cachePutEvent = JfrEventManager.beginCachePutEvent();
@@ -83,8 +86,19 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return true;
 	}
 
+	private List<?> encode(List<?> results) {
+		if ( columnar ) {
+			final ColumnarQueryResults columnarResults = ColumnarQueryResults.encode( results );
+			if ( columnarResults != null ) {
+				return columnarResults;
+			}
+		}
+		return deepCopy( results );
+	}
+
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// columnar results are immutable, and are read without copying them
+		return results instanceof ColumnarQueryResults ? results : new ArrayList<>( results );
 	}
 
 	@Override
@@ -12,7 +12,6 @@ import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SessionEventListenerManager;
-import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.jfr.CacheGetEvent;
 import org.hibernate.event.jfr.CachePutEvent;
@@ -46,43 +45,17 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
-		final SessionFactoryImplementor factory = session.getFactory();
-		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
-
-		final StatisticsImplementor statistics = factory.getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
+		final RegionFactory regionFactory = session.getFactory().getCache().getRegionFactory();
 		final Long ts = regionFactory.nextTimestamp() + regionFactory.getTimeout();
-
-		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
 		for ( String space : spaces ) {
 			if ( debugEnabled ) {
 				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
 			}
-			final CachePutEvent cachePutEvent = JfrEventManager.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				JfrEventManager.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						timestampsRegion,
-						true,
-						JfrEventManager.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE
-				);
-				eventListenerManager.cachePutEnd();
-			}
-
-			if ( stats ) {
-				statistics.updateTimestampsCachePut();
-			}
+			//put() has nowait semantics, is this really appropriate?
+			//note that it needs to be async replication, never local or sync
+			putTimestamp( space, ts, session, JfrEventManager.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE );
 		}
 	}
 
@@ -90,9 +63,6 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
@@ -100,26 +70,37 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			if ( debugEnabled ) {
 				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
 			}
+			putTimestamp( space, ts, session, JfrEventManager.CacheActionDescription.TIMESTAMP_INVALIDATE );
+		}
+	}
 
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			final CachePutEvent cachePutEvent = JfrEventManager.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				JfrEventManager.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						timestampsRegion,
-						true,
-						JfrEventManager.CacheActionDescription.TIMESTAMP_INVALIDATE
-				);
-				eventListenerManager.cachePutEnd();
+	/**
+	 * Write the timestamp of the given space to the region.
+	 */
+	protected void putTimestamp(
+			String space,
+			Long ts,
+			SharedSessionContractImplementor session,
+			JfrEventManager.CacheActionDescription description) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final CachePutEvent cachePutEvent = JfrEventManager.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putIntoCache( space, ts, session );
+		}
+		finally {
+			JfrEventManager.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					timestampsRegion,
+					true,
+					description
+			);
+			eventListenerManager.cachePutEnd();
 
-				if ( stats ) {
-					statistics.updateTimestampsCachePut();
-				}
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.updateTimestampsCachePut();
 			}
 		}
 	}
@@ -191,7 +172,10 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+	/**
+	 * Read the timestamp of the given space from the region.
+	 */
+	protected Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		final CacheGetEvent cacheGetEvent = JfrEventManager.beginCacheGetEvent();
 		try {
@@ -58,7 +58,16 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	/**
+	 * Constructs a StandardCacheEntryImpl from already disassembled state,
+	 * for example, when reading it back from a cache which stores entries
+	 * in some encoded form.
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param subclass The entity name
+	 * @param version The version (if versioned)
+	 */
+	public StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
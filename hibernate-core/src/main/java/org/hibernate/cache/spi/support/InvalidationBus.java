@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+/**
+ * Propagates the invalidations of the entries of the local cache tier of a
+ * {@link MultiLevelRegionFactory} to the local tiers of the other nodes which
+ * share the same remote tier.
+ * <p>
+ * Regions are identified by their qualified name. An implementation should
+ * deliver an invalidation before {@link #publish} returns, since a node may
+ * otherwise read a stale entry from its local tier in the meantime.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_MULTI_LEVEL_INVALIDATION_BUS
+ * @see org.hibernate.cache.internal.LoopbackInvalidationBus
+ *
+ * @since 6.4
+ */
+public interface InvalidationBus {
+	/**
+	 * Register the given listener for the invalidations of the given region.
+	 */
+	void subscribe(String regionName, Listener listener);
+
+	/**
+	 * Unregister the given listener.
+	 */
+	void unsubscribe(String regionName, Listener listener);
+
+	/**
+	 * Notify the listeners of the given region, except the given publisher,
+	 * of the invalidation of the given key.
+	 *
+	 * @param key the invalidated key, or {@code null} if the whole region was
+	 * invalidated
+	 */
+	void publish(String regionName, Object key, Listener publisher);
+
+	/**
+	 * Receives the invalidations of a region.
+	 */
+	interface Listener {
+		/**
+		 * The entry of the given key was invalidated, or the whole region if
+		 * the key is {@code null}.
+		 */
+		void invalidate(Object key);
+	}
+}
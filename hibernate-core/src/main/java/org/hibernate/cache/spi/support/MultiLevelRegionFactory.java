@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.LoopbackInvalidationBus;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.cfg.CacheSettings.CACHE_MULTI_LEVEL_INVALIDATION_BUS;
+import static org.hibernate.cfg.CacheSettings.CACHE_MULTI_LEVEL_LOCAL_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY;
+
+/**
+ * A {@link RegionFactory} which fronts the regions of another
+ * {@link RegionFactoryTemplate}, typically a remote or clustered cache, with a
+ * bounded local tier in each JVM, so that reads of entries which rarely change
+ * do not reach the network.
+ * <p>
+ * Every write to a region is published on an {@link InvalidationBus}, and
+ * removes the entry from the local tier of the other nodes. The timestamps
+ * region is never cached locally, and so cached query results are validated
+ * against the remote tier.
+ * <p>
+ * {@link AccessType#TRANSACTIONAL} access is not supported.
+ * <p>
+ * This region factory is not registered under a short name. To use it, set
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY} to the
+ * name of this class, and specify the remote region factory using
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY},
+ * and the invalidation bus using
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_MULTI_LEVEL_INVALIDATION_BUS}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_MULTI_LEVEL_LOCAL_MAX_ENTRIES
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_MULTI_LEVEL_INVALIDATION_BUS
+ *
+ * @since 6.4
+ */
+public class MultiLevelRegionFactory extends RegionFactoryTemplate implements ServiceRegistryAwareService {
+	public static final int DEFAULT_LOCAL_MAX_ENTRIES = 10_000;
+
+	private RegionFactoryTemplate remoteRegionFactory;
+	private InvalidationBus invalidationBus;
+	private int localMaxEntries;
+
+	public MultiLevelRegionFactory() {
+	}
+
+	public MultiLevelRegionFactory(RegionFactoryTemplate remoteRegionFactory, InvalidationBus invalidationBus) {
+		this.remoteRegionFactory = remoteRegionFactory;
+		this.invalidationBus = invalidationBus;
+	}
+
+	public RegionFactoryTemplate getRemoteRegionFactory() {
+		return remoteRegionFactory;
+	}
+
+	public InvalidationBus getInvalidationBus() {
+		return invalidationBus;
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		// the remote region factory is needed before this one is started,
+		// since it determines the default access type
+		final StrategySelector strategySelector = serviceRegistry.getService( StrategySelector.class );
+		final Map<String, Object> settings = serviceRegistry.getService( ConfigurationService.class ).getSettings();
+		if ( remoteRegionFactory == null ) {
+			remoteRegionFactory = resolveRemoteRegionFactory( strategySelector, settings );
+		}
+		if ( invalidationBus == null ) {
+			invalidationBus = resolveInvalidationBus( strategySelector, settings );
+		}
+		if ( invalidationBus instanceof LoopbackInvalidationBus ) {
+			L2CACHE_LOGGER.warnf(
+					"The invalidation bus of the multi-level cache only reaches this JVM, so the local"
+							+ " cache tiers of other nodes sharing the remote tier are never invalidated"
+			);
+		}
+	}
+
+	private static InvalidationBus resolveInvalidationBus(
+			StrategySelector strategySelector,
+			Map<String, Object> settings) {
+		// there is no safe default: a bus which only reaches this JVM
+		// would leave stale entries in the local tier of the other nodes
+		final Object setting = settings.get( CACHE_MULTI_LEVEL_INVALIDATION_BUS );
+		if ( setting == null ) {
+			throw new CacheException( "No invalidation bus was specified using '"
+					+ CACHE_MULTI_LEVEL_INVALIDATION_BUS + "'" );
+		}
+		return strategySelector.resolveStrategy( InvalidationBus.class, setting );
+	}
+
+	private static RegionFactoryTemplate resolveRemoteRegionFactory(
+			StrategySelector strategySelector,
+			Map<String, Object> settings) {
+		final Object setting = settings.get( CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY );
+		if ( setting == null ) {
+			throw new CacheException( "No remote region factory was specified using '"
+					+ CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY + "'" );
+		}
+		final RegionFactory regionFactory = strategySelector.resolveStrategy( RegionFactory.class, setting );
+		if ( !( regionFactory instanceof RegionFactoryTemplate ) ) {
+			throw new CacheException( "The remote region factory [" + regionFactory
+					+ "] does not extend " + RegionFactoryTemplate.class.getName() );
+		}
+		return (RegionFactoryTemplate) regionFactory;
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		localMaxEntries = ConfigurationHelper.getInt(
+				CACHE_MULTI_LEVEL_LOCAL_MAX_ENTRIES,
+				configValues,
+				DEFAULT_LOCAL_MAX_ENTRIES
+		);
+		if ( localMaxEntries <= 0 ) {
+			throw new IllegalArgumentException( "The maximum number of local cache entries must be positive" );
+		}
+		remoteRegionFactory.start( settings, configValues );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		remoteRegionFactory.stop();
+	}
+
+	@Override
+	protected CacheKeysFactory getImplicitCacheKeysFactory() {
+		return remoteRegionFactory.getImplicitCacheKeysFactory();
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new MultiLevelStorageAccess(
+				qualify( regionConfig.getRegionName() ),
+				remoteRegionFactory.createDomainDataStorageAccess( regionConfig, buildingContext ),
+				invalidationBus,
+				localMaxEntries
+		);
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		// the results are validated against the timestamps region anyway
+		return new MultiLevelStorageAccess(
+				qualify( regionName ),
+				remoteRegionFactory.createQueryResultsRegionStorageAccess( regionName, sessionFactory ),
+				invalidationBus,
+				localMaxEntries
+		);
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		// a timestamp kept locally could make stale query results look up-to-date
+		return remoteRegionFactory.createTimestampsRegionStorageAccess( regionName, sessionFactory );
+	}
+
+	@Override
+	public boolean isMinimalPutsEnabledByDefault() {
+		return remoteRegionFactory.isMinimalPutsEnabledByDefault();
+	}
+
+	@Override
+	public AccessType getDefaultAccessType() {
+		return remoteRegionFactory.getDefaultAccessType();
+	}
+
+	@Override
+	public CacheTransactionSynchronization createTransactionContext(SharedSessionContractImplementor session) {
+		return remoteRegionFactory.createTransactionContext( session );
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return remoteRegionFactory.nextTimestamp();
+	}
+
+	@Override
+	public long getTimeout() {
+		return remoteRegionFactory.getTimeout();
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * A {@link DomainDataStorageAccess} which fronts the {@link StorageAccess} of a
+ * remote cache tier with a bounded, in-process, tier.
+ * <p>
+ * Reads are served by the local tier when possible, and otherwise by the remote
+ * tier, the value read then being kept locally. Writes go to both tiers, and are
+ * published on the {@link InvalidationBus}, so that the other nodes remove the
+ * entry from their local tier.
+ * <p>
+ * A value read from the remote tier is kept locally only if no invalidation
+ * happened while it was read, since it might otherwise be older than the value
+ * which was invalidated.
+ *
+ * @see MultiLevelRegionFactory
+ *
+ * @since 6.4
+ */
+public class MultiLevelStorageAccess implements DomainDataStorageAccess, InvalidationBus.Listener {
+	private final String regionName;
+	private final StorageAccess remoteStorageAccess;
+	private final InvalidationBus invalidationBus;
+	private final Map<Object, Object> localEntries;
+
+	// populating the local tier excludes invalidating it
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	// written under the write lock
+	private volatile long invalidationCount;
+
+	public MultiLevelStorageAccess(
+			String regionName,
+			StorageAccess remoteStorageAccess,
+			InvalidationBus invalidationBus,
+			int localMaxEntries) {
+		this.regionName = regionName;
+		this.remoteStorageAccess = remoteStorageAccess;
+		this.invalidationBus = invalidationBus;
+		this.localEntries = new BoundedConcurrentHashMap<>(
+				localMaxEntries,
+				16,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+		invalidationBus.subscribe( regionName, this );
+	}
+
+	public StorageAccess getRemoteStorageAccess() {
+		return remoteStorageAccess;
+	}
+
+	/**
+	 * Does the local tier contain this key?
+	 */
+	public boolean containsLocally(Object key) {
+		return localEntries.containsKey( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object localValue = localEntries.get( key );
+		if ( localValue != null ) {
+			return localValue;
+		}
+		final long count = invalidationCount;
+		final Object value = remoteStorageAccess.getFromCache( key, session );
+		if ( value != null ) {
+			populate( key, value, count );
+		}
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		remoteStorageAccess.putIntoCache( key, value, session );
+		replaceLocally( key, value );
+		invalidationBus.publish( regionName, key, this );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( remoteStorageAccess instanceof DomainDataStorageAccess ) {
+			( (DomainDataStorageAccess) remoteStorageAccess ).putFromLoad( key, value, session );
+		}
+		else {
+			remoteStorageAccess.putIntoCache( key, value, session );
+		}
+		// a value loaded from the database is not newer than the value the
+		// other nodes hold, if any, so there is nothing to publish
+		replaceLocally( key, value );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		remoteStorageAccess.removeFromCache( key, session );
+		invalidate( key );
+		invalidationBus.publish( regionName, key, this );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		remoteStorageAccess.clearCache( session );
+		invalidate( null );
+		invalidationBus.publish( regionName, null, this );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return localEntries.containsKey( key ) || remoteStorageAccess.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		remoteStorageAccess.evictData();
+		invalidate( null );
+		invalidationBus.publish( regionName, null, this );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		remoteStorageAccess.evictData( key );
+		invalidate( key );
+		invalidationBus.publish( regionName, key, this );
+	}
+
+	@Override
+	public void release() {
+		invalidationBus.unsubscribe( regionName, this );
+		localEntries.clear();
+		remoteStorageAccess.release();
+	}
+
+	@Override
+	public void invalidate(Object key) {
+		lock.writeLock().lock();
+		try {
+			invalidationCount++;
+			if ( key == null ) {
+				localEntries.clear();
+			}
+			else {
+				localEntries.remove( key );
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void replaceLocally(Object key, Object value) {
+		lock.writeLock().lock();
+		try {
+			invalidationCount++;
+			localEntries.put( key, value );
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void populate(Object key, Object value, long count) {
+		lock.readLock().lock();
+		try {
+			if ( invalidationCount == count ) {
+				localEntries.putIfAbsent( key, value );
+			}
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+}
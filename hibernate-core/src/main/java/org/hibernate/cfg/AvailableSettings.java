@@ -177,6 +177,64 @@ public interface AvailableSettings
 	 */
 	String DISCARD_PC_ON_CLOSE = "hibernate.discard_pc_on_close";
 
+	/**
+	 * Specifies how the persistence context stores managed entity instances,
+	 * database snapshots, and collection wrappers.
+	 * <p>
+	 * Accepts any of the values of {@link org.hibernate.engine.spi.PersistenceContextStorage},
+	 * case-insensitively. The value {@code partitioned} reduces allocation and heap usage
+	 * for sessions which manage a very large number of entities.
+	 *
+	 * @settingDefault {@code standard}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getPersistenceContextStorage
+	 *
+	 * @since 6.4
+	 */
+	String PERSISTENCE_CONTEXT_STORAGE = "hibernate.persistence_context.storage";
+
+	/**
+	 * Specifies the minimum number of entities held by the persistence context
+	 * for the dirty checking of entities during flush to be spread across the
+	 * threads of the {@linkplain #PARALLEL_DIRTY_CHECKING_EXECUTOR configured
+	 * executor}.
+	 * <p>
+	 * Only the comparison of the current state of an entity with its loaded state
+	 * is performed concurrently, and only for entities which are not bytecode
+	 * enhanced and which do not have a modified association. Everything else,
+	 * including interceptor callbacks and the scheduling of updates, still happens
+	 * on the thread calling flush, in the usual order.
+	 * <p>
+	 * A value of {@code 0} or less disables parallel dirty checking.
+	 *
+	 * @settingDefault {@code 0} (disabled)
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getParallelDirtyCheckingThreshold
+	 *
+	 * @since 6.4
+	 */
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} used for
+	 * {@linkplain #PARALLEL_DIRTY_CHECKING_THRESHOLD parallel dirty checking}.
+	 * <p>
+	 * The values of custom types are compared and copied on the threads of this
+	 * executor, for example, by {@link org.hibernate.usertype.UserType#equals}
+	 * and {@link org.hibernate.usertype.UserType#deepCopy}, so its threads must
+	 * be allowed to run application code. Its lifecycle is managed by the
+	 * application.
+	 * <p>
+	 * Accepts an instance of {@code Executor}.
+	 *
+	 * @settingDefault {@link java.util.concurrent.ForkJoinPool#commonPool()}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getParallelDirtyCheckingExecutor
+	 *
+	 * @since 6.4
+	 */
+	String PARALLEL_DIRTY_CHECKING_EXECUTOR = "hibernate.flush.parallel_dirty_checking_executor";
+
 	/**
 	 * When enabled, specifies that the generated identifier of an entity is unset
 	 * when the entity is {@linkplain org.hibernate.Session#remove(Object) deleted}.
@@ -65,6 +65,107 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that a full JDBC batch should be executed on a
+	 * background thread, while the flushing thread goes on binding the next
+	 * batch of the same statements to a second set of
+	 * {@linkplain java.sql.PreparedStatement prepared statements}. At most one
+	 * batch per session is executing in the background at any time, and it is
+	 * always complete before the next batch is executed, or before any other
+	 * batch, and so the order of the statements is preserved.
+	 * <p>
+	 * Errors occurring while a batch is executed in the background, including
+	 * {@linkplain org.hibernate.StaleStateException unexpected row counts}, are
+	 * reported by the flushing thread, when the next batch is executed, at the
+	 * latest by the end of the flush.
+	 * <p>
+	 * Apart from binding the next batch, the session does not use the connection
+	 * while a batch is executing in the background: it waits for the batch to
+	 * complete before preparing any other statement, and before executing any
+	 * {@link org.hibernate.jdbc.Work}.
+	 * <p>
+	 * This setting only has an effect with the standard {@link #BUILDER} and
+	 * a nonzero {@link #STATEMENT_BATCH_SIZE}. It should only be enabled with
+	 * JDBC drivers supporting the concurrent use of distinct statements of the
+	 * same connection, for example, the PostgreSQL or H2 drivers.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} which executes the
+	 * JDBC batches when {@linkplain #BATCH_PIPELINING pipelining} is enabled,
+	 * for example, an executor creating a virtual thread per task. Its lifecycle
+	 * is managed by the application. When it rejects a batch, the batch is
+	 * executed by the flushing thread.
+	 * <p>
+	 * Accepts an instance of {@code Executor}.
+	 *
+	 * @settingDefault A pool of at most one daemon thread per processor, which
+	 * rejects a batch when all its threads are busy
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_PIPELINING_EXECUTOR = "hibernate.jdbc.batch_pipelining_executor";
+
+	/**
+	 * When enabled, the size of the JDBC batches of each kind of statement, for
+	 * example, the inserts of a given entity, is adjusted after every execution
+	 * of a batch, so that executing a batch takes about
+	 * {@linkplain #BATCH_ADAPTIVE_TARGET_LATENCY the target time}. The size never
+	 * exceeds the {@linkplain #STATEMENT_BATCH_SIZE configured batch size}, which
+	 * should therefore be large when this setting is enabled.
+	 * <p>
+	 * The sizes in use are reported by
+	 * {@link org.hibernate.stat.Statistics#getJdbcBatchSize(String)}.
+	 * <p>
+	 * This setting only has an effect with the standard {@link #BUILDER}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_ADAPTIVE = "hibernate.jdbc.batch_adaptive";
+
+	/**
+	 * The number of milliseconds the execution of a JDBC batch should take,
+	 * when {@linkplain #BATCH_ADAPTIVE adaptive batching} is enabled.
+	 *
+	 * @settingDefault 50
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_ADAPTIVE_TARGET_LATENCY = "hibernate.jdbc.batch_adaptive_target_latency";
+
+	/**
+	 * When enabled, the rows of a JDBC batch of inserts into a table are
+	 * inserted by a few multi-row {@code insert} statements, of the form
+	 * {@code insert into ... values (...), (...), ...}, instead of by
+	 * {@link java.sql.PreparedStatement#executeBatch()}, which many JDBC
+	 * drivers execute with a round trip per row.
+	 * <p>
+	 * The number of rows per statement is a power of two, so that there are
+	 * few distinct statements, and is limited by the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() limit}
+	 * the database places on the number of parameters of a statement. The
+	 * SQL of the statements is determined by
+	 * {@link org.hibernate.dialect.Dialect#getMultiRowInsertString(String, int)},
+	 * and the rows are inserted by a JDBC batch as usual when the dialect does
+	 * not support multi-row inserts.
+	 * <p>
+	 * This setting only has an effect with the standard {@link #BUILDER} and
+	 * a nonzero {@link #STATEMENT_BATCH_SIZE}. Inserts are then not
+	 * {@linkplain #BATCH_PIPELINING pipelined}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -92,6 +92,28 @@ public interface CacheSettings {
 	 */
 	String CACHE_REGION_FACTORY = "hibernate.cache.region.factory_class";
 
+	/**
+	 * When the {@link org.hibernate.cache.internal.OffHeapRegionFactory} is used,
+	 * the maximum number of bytes of off-heap memory used to store the entries of
+	 * each cache region. When a region is full, its oldest entries are evicted.
+	 *
+	 * @settingDefault 64 MB
+	 *
+	 * @since 6.4
+	 */
+	String CACHE_OFF_HEAP_MAX_SIZE = "hibernate.cache.off_heap.max_size";
+
+	/**
+	 * When the {@link org.hibernate.cache.internal.OffHeapRegionFactory} is used,
+	 * the number of bytes of off-heap memory allocated at once, which is also the
+	 * maximum size of a single encoded entry, and the unit of eviction.
+	 *
+	 * @settingDefault 1 MB
+	 *
+	 * @since 6.4
+	 */
+	String CACHE_OFF_HEAP_PAGE_SIZE = "hibernate.cache.off_heap.page_size";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.TimestampsCacheFactory} to use.
 	 *
@@ -99,6 +121,63 @@ public interface CacheSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * When the {@link org.hibernate.cache.internal.CoalescingTimestampsCacheFactory}
+	 * is used, the number of milliseconds for which timestamps read from the region
+	 * are kept in a local near-cache, and for which a pre-invalidation written to
+	 * the region is reused by other transactions.
+	 * <p>
+	 * When the timestamps region is shared with other nodes, cached query results
+	 * may be considered up-to-date for up to this long after another node has
+	 * invalidated them.
+	 *
+	 * @settingDefault 100
+	 *
+	 * @since 6.4
+	 */
+	String TIMESTAMPS_CACHE_WINDOW = "hibernate.cache.timestamps_window";
+
+	/**
+	 * When the {@link org.hibernate.cache.spi.support.MultiLevelRegionFactory} is
+	 * used, the {@link org.hibernate.cache.spi.support.RegionFactoryTemplate} of the
+	 * shared, remote, cache tier. Accepts
+	 * <ul>
+	 *     <li>an instance of {@code RegionFactoryTemplate},
+	 *     <li>a {@link Class} implementing it, or
+	 *     <li>the name or short name of such a class, for example, {@code jcache}.
+	 * </ul>
+	 *
+	 * @since 6.4
+	 */
+	String CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY = "hibernate.cache.multi_level.remote_region_factory";
+
+	/**
+	 * When the {@link org.hibernate.cache.spi.support.MultiLevelRegionFactory} is
+	 * used, the maximum number of entries of each region kept in the local,
+	 * in-process, cache tier.
+	 *
+	 * @settingDefault 10000
+	 *
+	 * @since 6.4
+	 */
+	String CACHE_MULTI_LEVEL_LOCAL_MAX_ENTRIES = "hibernate.cache.multi_level.local_max_entries";
+
+	/**
+	 * When the {@link org.hibernate.cache.spi.support.MultiLevelRegionFactory} is
+	 * used, the {@link org.hibernate.cache.spi.support.InvalidationBus} through
+	 * which entries of the local cache tier are invalidated on the other nodes.
+	 * Accepts an instance of {@code InvalidationBus}, a {@link Class} implementing
+	 * it, or the name of such a class. There is no default, and the
+	 * {@code SessionFactory} fails to start when no bus is specified.
+	 * <p>
+	 * The {@link org.hibernate.cache.internal.LoopbackInvalidationBus} only reaches
+	 * the {@code SessionFactory} instances of the same JVM, and is meant for tests.
+	 * A warning is logged when it is used.
+	 *
+	 * @since 6.4
+	 */
+	String CACHE_MULTI_LEVEL_INVALIDATION_BUS = "hibernate.cache.multi_level.invalidation_bus";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -149,6 +228,19 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of columnar query cache entries, which store cached query
+	 * results column by column, using primitive arrays for numeric and boolean
+	 * columns, and dictionaries for string columns with repeated values. This
+	 * makes large cached result lists much smaller, and avoids copying them when
+	 * they are read from the cache.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String USE_COLUMNAR_QUERY_CACHE_ENTRIES = "hibernate.cache.use_columnar_query_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
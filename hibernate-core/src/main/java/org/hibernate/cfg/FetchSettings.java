@@ -49,6 +49,70 @@ public interface FetchSettings {
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
 
+	/**
+	 * When enabled, a session observes which kinds of lazy associations are
+	 * initialized one by one, and upgrades the fetching of the association:
+	 * <ul>
+	 * <li>from the second proxy of a given entity initialized in the session,
+	 *     the proxies of that entity are {@linkplain BatchSize batch fetched},
+	 *     with a batch size doubled by every further initialization, and
+	 * <li>from the second instance of a given collection role initialized in
+	 *     the session, the collection is fetched by subselect, when possible,
+	 *     or otherwise batch fetched in the same way.
+	 * </ul>
+	 * <p>
+	 * The decisions are never undone for the rest of the session, and are
+	 * reported by {@link org.hibernate.stat.Statistics#getAdaptiveBatchFetchSize(String)}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 6.4
+	 */
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
+	/**
+	 * The largest batch size chosen by {@linkplain #ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}.
+	 *
+	 * @settingDefault 256
+	 *
+	 * @since 6.4
+	 */
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.adaptive_batch_fetch_max_size";
+
+	/**
+	 * The number of lazy initializations of a given association, following the
+	 * execution of a query in a session, beyond which the session reports an
+	 * "N+1 selects" problem, or {@code 0} to disable the detection.
+	 * <p>
+	 * Lazy initializations of collections, of proxies, and of lazy attributes
+	 * of bytecode enhanced entities are counted, grouped by collection role,
+	 * entity name, or entity attribute, from the last query executed by the
+	 * session. The problem is logged as a warning, once for each association
+	 * and query execution, and counted by {@link org.hibernate.stat.Statistics#getNPlusOneSelectCount()},
+	 * or else is treated as an error when {@value #FAIL_ON_N_PLUS_ONE_SELECT}
+	 * is enabled.
+	 *
+	 * @settingDefault 0
+	 *
+	 * @since 6.4
+	 */
+	String N_PLUS_ONE_SELECT_THRESHOLD = "hibernate.n_plus_one_select_threshold";
+
+	/**
+	 * When enabled, an "N+1 selects" problem detected by a session, as specified
+	 * by {@value #N_PLUS_ONE_SELECT_THRESHOLD}, results in a
+	 * {@link org.hibernate.NPlusOneSelectException}, for example, to make a
+	 * performance test fail.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String FAIL_ON_N_PLUS_ONE_SELECT = "hibernate.fail_on_n_plus_one_select";
+
 	/**
 	 * Specifies the {@link org.hibernate.loader.BatchFetchStyle} to use,
 	 * either the name of a {code BatchFetchStyle} instance, or an instance
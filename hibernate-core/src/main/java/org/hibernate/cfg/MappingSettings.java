@@ -78,6 +78,21 @@ public interface MappingSettings {
 	 */
 	String STATIC_METAMODEL_POPULATION = "hibernate.jpa.static_metamodel.population";
 
+	/**
+	 * The number of threads used to generate the static SQL and the loaders of the
+	 * entity and collection persisters while the {@code SessionFactory} is built.
+	 * A value greater than {@code 1} enables parallel generation, which may reduce
+	 * the time needed to build a {@code SessionFactory} with many entities.
+	 * <p>
+	 * The persisters and the mapping model are always created by a single thread.
+	 * The time spent in each phase is logged at debug level.
+	 *
+	 * @settingDefault {@code 1}, that is, everything is done by the bootstrap thread
+	 *
+	 * @since 6.4
+	 */
+	String BOOTSTRAP_PARALLELISM = "hibernate.mapping.bootstrap_parallelism";
+
 	/**
 	 * When enabled, all database identifiers are quoted.
 	 * <p>
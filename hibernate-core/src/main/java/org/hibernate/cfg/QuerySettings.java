@@ -53,6 +53,24 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * Specifies a local file in which Hibernate records the named HQL queries which
+	 * passed the {@linkplain #QUERY_STARTUP_CHECKING startup check}, along with a
+	 * fingerprint of the mapping model, the {@link org.hibernate.dialect.Dialect},
+	 * and the SQL functions they were checked against.
+	 * <p>
+	 * When a {@link org.hibernate.SessionFactory} with the very same fingerprint is
+	 * created later, for example when the JVM is restarted, named queries recorded
+	 * in the file are not interpreted again during startup, and are instead only
+	 * interpreted when they are first used. Any change to the mapping model, or to
+	 * the text of a query, automatically invalidates the recorded check.
+	 * <p>
+	 * The file is created if it does not exist, and is ignored if it cannot be read.
+	 *
+	 * @since 6.4
+	 */
+	String QUERY_STARTUP_CHECK_CACHE_FILE = "hibernate.query.startup_check_cache_file";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -224,6 +242,51 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} to use when the query plan cache is enabled,
+	 * either:
+	 * <ul>
+	 *     <li>{@code standard}, a cache of at most {@linkplain #QUERY_PLAN_CACHE_MAX_SIZE the maximum number of}
+	 *         entries, evicted using the LIRS policy,
+	 *     <li>{@code frequency}, a cache which weighs each entry by the length of its
+	 *         query, and only admits a new entry in place of existing entries when it
+	 *         was used more frequently than them, or
+	 *     <li>an instance of {@code QueryInterpretationCache}.
+	 * </ul>
+	 * <p>
+	 * The {@code frequency} cache is meant for applications executing a large number
+	 * of distinct queries, of which some are used much more often than others. It
+	 * also tracks the number of {@linkplain org.hibernate.stat.QueryStatistics#getPlanCacheEvictionCount
+	 * evictions} of each query.
+	 *
+	 * @settingDefault {@code standard}
+	 *
+	 * @since 6.4
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
+	/**
+	 * When enabled, specifies that every named HQL query should be interpreted, and
+	 * added to the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}, when the {@link org.hibernate.SessionFactory} is
+	 * created, even if {@linkplain #QUERY_STARTUP_CHECKING named queries are not
+	 * checked during startup}.
+	 * <p>
+	 * A query is interpreted with the result type of the query it was
+	 * {@linkplain org.hibernate.SessionFactory#addNamedQuery registered from}, if
+	 * any. A query declared using {@link jakarta.persistence.NamedQuery} has no
+	 * result type, and its interpretation is only reused when it is executed
+	 * without one.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.query.spi.QueryEngine#warmUpInterpretationCache()
+	 *
+	 * @since 6.4
+	 */
+	String QUERY_PLAN_CACHE_WARM_UP = "hibernate.query.plan_cache_warm_up";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
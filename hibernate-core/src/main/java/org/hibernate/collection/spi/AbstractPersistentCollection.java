@@ -15,6 +15,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.AssertionFailure;
@@ -24,10 +26,13 @@ import org.hibernate.LazyInitializationException;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.event.internal.EvictVisitor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.SessionFactoryRegistry;
@@ -903,6 +908,144 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		return session;
 	}
 
+	/**
+	 * An iterator which loads the elements of this collection a page at a
+	 * time, without initializing it, if the collection is mapped for
+	 * {@linkplain org.hibernate.annotations.PagedIteration paged iteration}.
+	 *
+	 * @return the iterator, or {@code null} if the collection must be
+	 *         initialized in order to be iterated
+	 */
+	protected Iterator<E> pagedIterator() {
+		if ( !initialized && isConnectedToSession() && !hasQueuedOperations() ) {
+			final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry( this );
+			if ( entry != null ) {
+				final CollectionPersister persister = entry.getLoadedPersister();
+				if ( persister != null && persister.getIterationPageSize() > 0 ) {
+					return new PagedIterator( persister, entry.getLoadedKey() );
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Loads a page of elements whenever the previous page is exhausted, and
+	 * evicts the unmodified entities of the previous page from the session.
+	 */
+	private final class PagedIterator implements Iterator<E> {
+		private final CollectionPersister persister;
+		private final Object key;
+		private final int pageSize;
+
+		private List<?> page;
+		// the entities in the persistence context before the page was loaded
+		private Set<EntityKey> managedBeforePage;
+		private int position;
+		private int firstRow;
+		private boolean lastPage;
+
+		private PagedIterator(CollectionPersister persister, Object key) {
+			this.persister = persister;
+			this.key = key;
+			this.pageSize = persister.getIterationPageSize();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if ( page == null || position == page.size() && !lastPage ) {
+				evictPage();
+				managedBeforePage = managedEntityKeys();
+				page = persister.getElementPage( key, firstRow, pageSize, session );
+				firstRow += page.size();
+				position = 0;
+				lastPage = page.size() < pageSize;
+			}
+			if ( position < page.size() ) {
+				return true;
+			}
+			else {
+				evictPage();
+				return false;
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			return (E) page.get( position++ );
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException( "Paged iteration of collection '" + role + "' is read-only" );
+		}
+
+		private Set<EntityKey> managedEntityKeys() {
+			if ( persister.getElementType().isEntityType() ) {
+				final Map<EntityKey, EntityHolder> holders =
+						session.getPersistenceContextInternal().getEntityHoldersByKey();
+				return holders == null ? Collections.emptySet() : new HashSet<>( holders.keySet() );
+			}
+			else {
+				return null;
+			}
+		}
+
+		/**
+		 * Detach the unmodified entities of the page which were not in the
+		 * persistence context before the page was loaded, without cascading.
+		 */
+		private void evictPage() {
+			if ( page != null && managedBeforePage != null ) {
+				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+				for ( Object element : page ) {
+					if ( element != null && element != owner ) {
+						final EntityEntry entry = persistenceContext.getEntry( element );
+						if ( entry != null
+								&& entry.getStatus() == Status.MANAGED
+								&& !managedBeforePage.contains( entry.getEntityKey() )
+								&& !isModified( entry, element ) ) {
+							detach( element, entry, persistenceContext );
+						}
+					}
+				}
+				page = List.of();
+				managedBeforePage = null;
+				position = 0;
+			}
+		}
+
+		private void detach(Object element, EntityEntry entry, PersistenceContext persistenceContext) {
+			final EntityPersister entityPersister = entry.getPersister();
+			final EntityKey entityKey = entry.getEntityKey();
+			if ( entityPersister.hasNaturalIdentifier() ) {
+				persistenceContext.getNaturalIdResolutions()
+						.handleEviction( entityKey.getIdentifier(), element, entityPersister );
+			}
+			if ( entityPersister.hasCollections() ) {
+				new EvictVisitor( session.asEventSource(), element ).process( element, entityPersister );
+			}
+			persistenceContext.removeEntity( entityKey );
+			persistenceContext.removeEntry( element );
+		}
+
+		private boolean isModified(EntityEntry entry, Object element) {
+			final Object[] loadedState = entry.getLoadedState();
+			if ( loadedState == null ) {
+				// read-only
+				return false;
+			}
+			else {
+				final EntityPersister entityPersister = entry.getPersister();
+				return entityPersister.findDirty( entityPersister.getValues( element ), loadedState, element, session ) != null;
+			}
+		}
+	}
+
 	protected final class IteratorProxy<E> implements Iterator<E> {
 		private final Iterator<E> itr;
 
@@ -368,6 +368,10 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Iterator<E> iterator() {
+		final Iterator<E> pagedIterator = pagedIterator();
+		if ( pagedIterator != null ) {
+			return pagedIterator;
+		}
 		read();
 		return new IteratorProxy<>( bag.iterator() );
 	}
@@ -270,6 +270,28 @@ public interface PersistentCollection<E> extends LazyInitializable {
 		return needsInserting( entry, entryPosition, attributeDescriptor.getCollectionDescriptor().getElementType() );
 	}
 
+	/**
+	 * Iterate the entries which might need to be inserted when the rows of the
+	 * collection are {@linkplain CollectionPersister#insertRows updated}, that
+	 * is, every entry, or, if the collection records its changes, only the
+	 * entries added since the snapshot was taken.
+	 * <p>
+	 * May only return a subset of the entries if the position of an entry is
+	 * not significant.
+	 *
+	 * @param persister The collection persister
+	 *
+	 * @return The iterator
+	 *
+	 * @see org.hibernate.annotations.DeltaTracked
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default Iterator<?> entriesToInsert(CollectionPersister persister) {
+		return entries( persister );
+	}
+
 	/**
 	 * Do we need to update this element?
 	 *
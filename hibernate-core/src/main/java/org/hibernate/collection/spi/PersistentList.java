@@ -169,6 +169,10 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 	@Override
 	public Iterator<E> iterator() {
+		final Iterator<E> pagedIterator = pagedIterator();
+		if ( pagedIterator != null ) {
+			return pagedIterator;
+		}
 		read();
 		return new IteratorProxy<>( list.iterator() );
 	}
@@ -40,6 +40,9 @@ import org.hibernate.type.Type;
 public class PersistentSet<E> extends AbstractPersistentCollection<E> implements Set<E> {
 	protected Set<E> set;
 
+	// the changes since the snapshot was taken, if the set is delta-tracked
+	private SetDelta<E> delta;
+
 	/**
 	 * Empty constructor.
 	 * <p>
@@ -80,6 +83,16 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( persister.isDeltaTracked()
+				&& !isDirectlyAccessible()
+				&& !persister.getElementType().isMutable() ) {
+			// the wrapped set is never modified behind our back,
+			// and its elements never change, so we just need to
+			// record the elements added and removed from now on
+			delta = new SetDelta<>();
+			return delta;
+		}
+		delta = null;
 		final HashMap<E,E> clonedSet = CollectionHelper.mapOfSize( set.size() );
 		for ( E aSet : set ) {
 			final E copied = (E) persister.getElementType().deepCopy( aSet, persister.getFactory() );
@@ -90,6 +103,9 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Collection<E> getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof SetDelta ) {
+			return getOrphans( ( (SetDelta<E>) snapshot ).removed.keySet(), set, entityName, getSession() );
+		}
 		final java.util.Map<E,E> sn = (java.util.Map<E,E>) snapshot;
 		return getOrphans( sn.keySet(), set, entityName, getSession() );
 	}
@@ -104,8 +120,12 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof SetDelta ) {
+			return ( (SetDelta<?>) snapshot ).isEmpty();
+		}
 		final Type elementType = persister.getElementType();
-		final java.util.Map<?,?> sn = (java.util.Map<?,?>) getSnapshot();
+		final java.util.Map<?,?> sn = (java.util.Map<?,?>) snapshot;
 		if ( sn.size()!=set.size() ) {
 			return false;
 		}
@@ -122,6 +142,10 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
+		if ( snapshot instanceof SetDelta ) {
+			final SetDelta<?> delta = (SetDelta<?>) snapshot;
+			return set.size() - delta.added.size() + delta.removed.size() == 0;
+		}
 		return ( (java.util.Map<?,?>) snapshot ).isEmpty();
 	}
 
@@ -166,8 +190,12 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Iterator<E> iterator() {
+		final Iterator<E> pagedIterator = pagedIterator();
+		if ( pagedIterator != null ) {
+			return pagedIterator;
+		}
 		read();
-		return new IteratorProxy<>( set.iterator() );
+		return delta == null ? new IteratorProxy<>( set.iterator() ) : new DeltaTrackingIterator( set.iterator() );
 	}
 
 	@Override
@@ -188,6 +216,9 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 		if ( exists == null ) {
 			initialize( true );
 			if ( set.add( value ) ) {
+				if ( delta != null ) {
+					delta.add( value );
+				}
 				dirty();
 				return true;
 			}
@@ -210,6 +241,9 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 		if ( exists == null ) {
 			initialize( true );
 			if ( set.remove( value ) ) {
+				if ( delta != null ) {
+					delta.remove( (E) value );
+				}
 				elementRemoved = true;
 				dirty();
 				return true;
@@ -238,6 +272,19 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 	public boolean addAll(Collection<? extends E> coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			if ( delta != null ) {
+				boolean changed = false;
+				for ( E value : coll ) {
+					if ( set.add( value ) ) {
+						delta.add( value );
+						changed = true;
+					}
+				}
+				if ( changed ) {
+					dirty();
+				}
+				return changed;
+			}
 			if ( set.addAll( coll ) ) {
 				dirty();
 				return true;
@@ -254,6 +301,22 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 	@Override
 	public boolean retainAll(Collection<?> coll) {
 		initialize( true );
+		if ( delta != null ) {
+			boolean changed = false;
+			for ( Iterator<E> itr = set.iterator(); itr.hasNext(); ) {
+				final E value = itr.next();
+				if ( !coll.contains( value ) ) {
+					itr.remove();
+					delta.remove( value );
+					changed = true;
+				}
+			}
+			if ( changed ) {
+				elementRemoved = true;
+				dirty();
+			}
+			return changed;
+		}
 		if ( set.retainAll( coll ) ) {
 			dirty();
 			return true;
@@ -267,6 +330,20 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 	public boolean removeAll(Collection<?> coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			if ( delta != null ) {
+				boolean changed = false;
+				for ( Object value : coll ) {
+					if ( set.remove( value ) ) {
+						delta.remove( (E) value );
+						changed = true;
+					}
+				}
+				if ( changed ) {
+					elementRemoved = true;
+					dirty();
+				}
+				return changed;
+			}
 			if ( set.removeAll( coll ) ) {
 				elementRemoved = true;
 				dirty();
@@ -289,6 +366,11 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 		else {
 			initialize( true );
 			if ( !set.isEmpty() ) {
+				if ( delta != null ) {
+					for ( E value : set ) {
+						delta.remove( value );
+					}
+				}
 				set.clear();
 				dirty();
 			}
@@ -339,8 +421,12 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof SetDelta ) {
+			return new ArrayList<>( ( (SetDelta<?>) snapshot ).removed.keySet() ).iterator();
+		}
 		final Type elementType = persister.getElementType();
-		final java.util.Map<?,?> sn = (java.util.Map<?,?>) getSnapshot();
+		final java.util.Map<?,?> sn = (java.util.Map<?,?>) snapshot;
 		final ArrayList<Object> deletes = new ArrayList<>( sn.size() );
 
 		Iterator<?> itr = sn.keySet().iterator();
@@ -367,7 +453,11 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
-		final Object oldValue = ( (java.util.Map<?,?>) getSnapshot() ).get( entry );
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof SetDelta ) {
+			return entry != null && ( (SetDelta<?>) snapshot ).added.containsKey( entry );
+		}
+		final Object oldValue = ( (java.util.Map<?,?>) snapshot ).get( entry );
 		// note that it might be better to iterate the snapshot but this is safe,
 		// assuming the user implements equals() properly, as required by the Set
 		// contract!
@@ -375,6 +465,14 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 			|| elemType.isDirty( oldValue, entry, getSession() );
 	}
 
+	@Override
+	public Iterator<?> entriesToInsert(CollectionPersister persister) {
+		final Serializable snapshot = getSnapshot();
+		return snapshot instanceof SetDelta
+				? new ArrayList<>( ( (SetDelta<?>) snapshot ).added.keySet() ).iterator()
+				: entries( persister );
+	}
+
 	@Override
 	public boolean needsUpdating(Object entry, int i, Type elemType) {
 		return false;
@@ -423,6 +521,63 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 		return set==collection;
 	}
 
+	/**
+	 * The elements added to and removed from a delta-tracked set since its
+	 * snapshot was taken, which stands for the snapshot.
+	 *
+	 * @see org.hibernate.annotations.DeltaTracked
+	 */
+	private static final class SetDelta<E> implements Serializable {
+		private final HashMap<E,E> added = new HashMap<>();
+		private final HashMap<E,E> removed = new HashMap<>();
+
+		private void add(E element) {
+			if ( removed.remove( element ) == null ) {
+				added.put( element, element );
+			}
+		}
+
+		private void remove(E element) {
+			if ( added.remove( element ) == null ) {
+				removed.put( element, element );
+			}
+		}
+
+		private boolean isEmpty() {
+			return added.isEmpty() && removed.isEmpty();
+		}
+	}
+
+	private final class DeltaTrackingIterator implements Iterator<E> {
+		private final Iterator<E> itr;
+		private E current;
+
+		private DeltaTrackingIterator(Iterator<E> itr) {
+			this.itr = itr;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return itr.hasNext();
+		}
+
+		@Override
+		public E next() {
+			current = itr.next();
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			write();
+			itr.remove();
+			if ( delta != null ) {
+				delta.remove( current );
+			}
+			elementRemoved = true;
+		}
+	}
+
 	final class Clear implements DelayedOperation<E> {
 		@Override
 		public void operate() {
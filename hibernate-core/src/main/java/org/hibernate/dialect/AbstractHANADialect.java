@@ -1108,6 +1108,12 @@ public abstract class AbstractHANADialect extends Dialect {
 		return getVersion().isSameOrAfter( 2, 0, 40 );
 	}
 
+	@Override
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		// values lists in inserts are emulated with a union of selects
+		return null;
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return true;
@@ -55,6 +55,7 @@ import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -4221,6 +4222,17 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return AggregateSupportImpl.INSTANCE;
 	}
 
+	/**
+	 * The bulk loading channel of the database, used to insert the entities
+	 * passed to {@link org.hibernate.StatelessSession#insertMultiple(Iterable)},
+	 * or {@code null} if the entities are inserted by JDBC batches of inserts.
+	 *
+	 * @since 6.4
+	 */
+	public BulkInsertSupport getBulkInsertSupport() {
+		return null;
+	}
+
 	/**
 	 * Does this database have native support for ANSI SQL standard arrays which
 	 * are expressed in terms of the element type name: {@code integer array}.
@@ -4380,6 +4392,64 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Obtain the SQL of a single statement inserting the given number of rows,
+	 * from the SQL of the insert of a single row. Used to execute batched inserts
+	 * when {@value org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS} is
+	 * enabled. The parameters of each row must follow the parameters of the
+	 * previous row, in the order of the parameters of the single row insert.
+	 * <p>
+	 * By default, the single row insert is rewritten to the form
+	 * {@code insert into ... values (...), (...), ...} if the dialect
+	 * {@linkplain #supportsValuesListForInsert() supports values lists}.
+	 *
+	 * @param singleRowInsertString The SQL of the insert of a single row
+	 * @param rowCount The number of rows, at least 2
+	 *
+	 * @return The SQL, or {@code null} if this number of rows may not be
+	 *         inserted by a single statement
+	 *
+	 * @since 6.4
+	 */
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		if ( !supportsValuesListForInsert() ) {
+			return null;
+		}
+		final int valuesIndex = singleRowInsertString.toLowerCase( Locale.ROOT ).lastIndexOf( " values (" );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		final int rowStart = valuesIndex + " values ".length();
+		// the row must be the last thing in the statement
+		int depth = 0;
+		boolean quoted = false;
+		for ( int i = rowStart; i < singleRowInsertString.length(); i++ ) {
+			final char c = singleRowInsertString.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' && --depth == 0 && i != singleRowInsertString.length() - 1 ) {
+					return null;
+				}
+			}
+		}
+		if ( depth != 0 || quoted ) {
+			return null;
+		}
+
+		final String row = singleRowInsertString.substring( rowStart );
+		final StringBuilder sql = new StringBuilder( rowStart + rowCount * ( row.length() + 1 ) );
+		sql.append( singleRowInsertString, 0, rowStart ).append( row );
+		for ( int i = 1; i < rowCount; i++ ) {
+			sql.append( ',' ).append( row );
+		}
+		return sql.toString();
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
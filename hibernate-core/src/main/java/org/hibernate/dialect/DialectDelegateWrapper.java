@@ -32,6 +32,7 @@ import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.aggregate.AggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.pagination.LimitHandler;
@@ -1288,6 +1289,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.getAggregateSupport();
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return wrapped.getBulkInsertSupport();
+	}
+
 	@Override
 	public boolean supportsStandardArrays() {
 		return wrapped.supportsStandardArrays();
@@ -1342,6 +1348,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		return wrapped.getMultiRowInsertString( singleRowInsertString, rowCount );
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
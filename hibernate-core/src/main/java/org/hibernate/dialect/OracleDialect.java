@@ -1273,6 +1273,12 @@ public class OracleDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		// values lists in inserts are emulated with a union of selects
+		return null;
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return true;
@@ -27,6 +27,8 @@ import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -1157,6 +1159,11 @@ public class PostgreSQLDialect extends Dialect {
 		return PostgreSQLAggregateSupport.valueOf( this );
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return PostgreSQLCopyBulkInsertSupport.INSTANCE;
+	}
+
 	@Override
 	public void appendBinaryLiteral(SqlAppender appender, byte[] bytes) {
 		appender.appendSql( "bytea '\\x" );
@@ -493,6 +493,12 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return true;
 	}
 
+	@Override
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		// a values list in an insert has at most 1000 rows
+		return rowCount > 1000 ? null : super.getMultiRowInsertString( singleRowInsertString, rowCount );
+	}
+
 	@Override
 	public boolean supportsDistinctFromPredicate() {
 		return getVersion().isSameOrAfter( 16 );
@@ -227,6 +227,12 @@ public class SybaseASEDialect extends SybaseDialect {
 		return getVersion().isSameOrAfter( 16, 3 );
 	}
 
+	@Override
+	public String getMultiRowInsertString(String singleRowInsertString, int rowCount) {
+		// values lists in inserts are emulated with a union of selects
+		return null;
+	}
+
 	@Override
 	public void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
 		super.contributeTypes( typeContributions, serviceRegistry );
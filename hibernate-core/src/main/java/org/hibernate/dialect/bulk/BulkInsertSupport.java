@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+
+/**
+ * Loads many rows into a table through a bulk loading channel of the
+ * database, for example, {@code COPY} on PostgreSQL, bypassing the
+ * execution of an {@code insert} statement per row.
+ * <p>
+ * Used by {@link org.hibernate.StatelessSession#insertMultiple(Iterable)}.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkInsertSupport()
+ *
+ * @since 6.4
+ */
+@Incubating
+public interface BulkInsertSupport {
+
+	/**
+	 * Whether columns of the given type may be loaded.
+	 */
+	boolean supportsType(JdbcMapping jdbcMapping);
+
+	/**
+	 * Whether rows with columns of the given types may be loaded through
+	 * the connection of the given session. Checked before any row of the
+	 * tables of an entity is loaded.
+	 */
+	boolean isAvailable(JdbcMapping[] jdbcMappings, SharedSessionContractImplementor session);
+
+	/**
+	 * Load the given rows into the given table.
+	 *
+	 * @param tableName The name of the table
+	 * @param columnNames The names of the columns, in the order of the values of a row
+	 * @param jdbcMappings The types of the columns
+	 * @param rows The values of the rows, as passed to the
+	 * {@linkplain JdbcMapping#getJdbcValueBinder() value binder} of the column
+	 * @param session The session, whose connection is used
+	 *
+	 * @return The number of loaded rows
+	 */
+	long insertRows(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session) throws SQLException;
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Loads rows with the PostgreSQL {@code COPY ... FROM STDIN} command, through
+ * the {@code CopyManager} of the PostgreSQL JDBC driver, in the CSV format.
+ * <p>
+ * The driver classes are accessed reflectively, since they are not necessarily
+ * visible to Hibernate.
+ *
+ * @since 6.4
+ */
+public class PostgreSQLCopyBulkInsertSupport implements BulkInsertSupport {
+
+	public static final PostgreSQLCopyBulkInsertSupport INSTANCE = new PostgreSQLCopyBulkInsertSupport();
+
+	private static final String PG_CONNECTION = "org.postgresql.PGConnection";
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	@Override
+	public boolean supportsType(JdbcMapping jdbcMapping) {
+		return valueClass( jdbcMapping ) != null;
+	}
+
+	@Override
+	public boolean isAvailable(JdbcMapping[] jdbcMappings, SharedSessionContractImplementor session) {
+		if ( session.getJdbcTimeZone() != null ) {
+			// the values of temporal columns would have to be shifted
+			for ( JdbcMapping jdbcMapping : jdbcMappings ) {
+				if ( jdbcMapping.getJdbcType().isTemporal() ) {
+					return false;
+				}
+			}
+		}
+		final Class<?> pgConnectionClass = pgConnectionClass( session );
+		if ( pgConnectionClass == null ) {
+			return false;
+		}
+		try {
+			return connection( session ).isWrapperFor( pgConnectionClass );
+		}
+		catch (SQLException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public long insertRows(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session) throws SQLException {
+		final StringBuilder sql = new StringBuilder( "copy " ).append( tableName ).append( " (" );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( columnNames[i] );
+		}
+		sql.append( ") from stdin with (format csv)" );
+
+		final StringBuilder csv = new StringBuilder();
+		for ( Object[] row : rows ) {
+			appendRow( csv, row, jdbcMappings, session );
+		}
+
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql.toString() );
+		final Class<?> pgConnectionClass = pgConnectionClass( session );
+		final Object pgConnection = connection( session ).unwrap( pgConnectionClass );
+		try {
+			final Object copyManager = pgConnectionClass.getMethod( "getCopyAPI" ).invoke( pgConnection );
+			return (Long) copyManager.getClass()
+					.getMethod( "copyIn", String.class, Reader.class )
+					.invoke( copyManager, sql.toString(), new StringReader( csv.toString() ) );
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			throw new HibernateException( "Could not copy rows into table " + tableName, e.getCause() );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new HibernateException( "Could not access the CopyManager of the PostgreSQL JDBC driver", e );
+		}
+	}
+
+	/**
+	 * Append a row in the CSV format of {@code COPY}, where a {@code null}
+	 * value is an empty unquoted string.
+	 */
+	public void appendRow(StringBuilder csv, Object[] row, JdbcMapping[] jdbcMappings, WrapperOptions options) {
+		for ( int i = 0; i < row.length; i++ ) {
+			if ( i > 0 ) {
+				csv.append( ',' );
+			}
+			if ( row[i] != null ) {
+				appendValue( csv, row[i], jdbcMappings[i], options );
+			}
+		}
+		csv.append( '\n' );
+	}
+
+	private static void appendValue(StringBuilder csv, Object value, JdbcMapping jdbcMapping, WrapperOptions options) {
+		//noinspection unchecked
+		final Object jdbcValue = ( (JavaType<Object>) jdbcMapping.getJdbcJavaType() )
+				.unwrap( value, valueClass( jdbcMapping ), options );
+		if ( jdbcValue instanceof Boolean ) {
+			csv.append( (Boolean) jdbcValue ? 't' : 'f' );
+		}
+		else if ( jdbcValue instanceof BigDecimal ) {
+			csv.append( ( (BigDecimal) jdbcValue ).toPlainString() );
+		}
+		else if ( jdbcValue instanceof byte[] ) {
+			csv.append( "\\x" );
+			for ( byte b : (byte[]) jdbcValue ) {
+				csv.append( HEX_DIGITS[( b >> 4 ) & 0xF] ).append( HEX_DIGITS[b & 0xF] );
+			}
+		}
+		else if ( jdbcValue instanceof Number ) {
+			csv.append( jdbcValue );
+		}
+		else {
+			final String string = jdbcValue.toString();
+			csv.append( '"' );
+			for ( int i = 0; i < string.length(); i++ ) {
+				final char c = string.charAt( i );
+				if ( c == '"' ) {
+					csv.append( '"' );
+				}
+				csv.append( c );
+			}
+			csv.append( '"' );
+		}
+	}
+
+	/**
+	 * The class of the values bound for the given type, or {@code null}
+	 * if the type is not supported.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static Class valueClass(JdbcMapping jdbcMapping) {
+		switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.BIT:
+				return Boolean.class;
+			case SqlTypes.TINYINT:
+			case SqlTypes.SMALLINT:
+			case SqlTypes.INTEGER:
+			case SqlTypes.BIGINT:
+				return Long.class;
+			case SqlTypes.REAL:
+			case SqlTypes.FLOAT:
+			case SqlTypes.DOUBLE:
+				return Double.class;
+			case SqlTypes.NUMERIC:
+			case SqlTypes.DECIMAL:
+				return BigDecimal.class;
+			case SqlTypes.CHAR:
+			case SqlTypes.VARCHAR:
+			case SqlTypes.LONGVARCHAR:
+			case SqlTypes.LONG32VARCHAR:
+			case SqlTypes.NCHAR:
+			case SqlTypes.NVARCHAR:
+			case SqlTypes.LONGNVARCHAR:
+			case SqlTypes.LONG32NVARCHAR:
+			case SqlTypes.ENUM:
+			case SqlTypes.NAMED_ENUM:
+				return String.class;
+			case SqlTypes.DATE:
+				return java.sql.Date.class;
+			case SqlTypes.TIME:
+				return Time.class;
+			case SqlTypes.TIMESTAMP:
+				return Timestamp.class;
+			case SqlTypes.TIMESTAMP_WITH_TIMEZONE:
+			case SqlTypes.TIMESTAMP_UTC:
+				return OffsetDateTime.class;
+			case SqlTypes.UUID:
+				return UUID.class;
+			case SqlTypes.BINARY:
+			case SqlTypes.VARBINARY:
+			case SqlTypes.LONGVARBINARY:
+			case SqlTypes.LONG32VARBINARY:
+				return byte[].class;
+			default:
+				return null;
+		}
+	}
+
+	private static Connection connection(SharedSessionContractImplementor session) {
+		return session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+	}
+
+	private static Class<?> pgConnectionClass(SharedSessionContractImplementor session) {
+		try {
+			return session.getFactory().getServiceRegistry().getService( ClassLoaderService.class )
+					.classForName( PG_CONNECTION );
+		}
+		catch (ClassLoadingException e) {
+			return null;
+		}
+	}
+}
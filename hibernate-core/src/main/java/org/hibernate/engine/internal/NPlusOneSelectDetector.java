@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.NPlusOneSelectException;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Counts the lazy initializations of each association which follow the last
+ * query executed by a session, and reports an "N+1 selects" problem when
+ * the count exceeds the threshold.
+ *
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_SELECT_THRESHOLD
+ */
+public class NPlusOneSelectDetector {
+	private static final Logger LOG = CoreLogging.logger( NPlusOneSelectDetector.class );
+
+	private final int threshold;
+	private final boolean fail;
+
+	private String query;
+	// the lazy initializations since the query, by role
+	//Lazily initialized!
+	private Map<String, Integer> initializations;
+
+	public NPlusOneSelectDetector(int threshold, boolean fail) {
+		this.threshold = threshold;
+		this.fail = fail;
+	}
+
+	/**
+	 * Record the execution of a query, to which the lazy initializations
+	 * which follow are attributed.
+	 */
+	public void queryExecuted(String query) {
+		this.query = query;
+		if ( initializations != null ) {
+			initializations.clear();
+		}
+	}
+
+	/**
+	 * Record a lazy initialization.
+	 *
+	 * @param role The entity name of a proxy, the role of a collection, or
+	 * the qualified name of a lazy attribute
+	 *
+	 * @throws NPlusOneSelectException if this lazy initialization exceeds the
+	 * threshold, and problems are treated as errors
+	 */
+	public void lazyInitialization(String role, StatisticsImplementor statistics) {
+		if ( initializations == null ) {
+			initializations = new HashMap<>();
+		}
+		final int count = initializations.merge( role, 1, Integer::sum );
+		if ( count == threshold + 1 ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.nPlusOneSelect( role, query );
+			}
+			if ( fail ) {
+				throw new NPlusOneSelectException( role, query, count );
+			}
+			else {
+				LOG.warnf(
+						"N+1 selects: lazy initialization of '%s' happened more than %s times after query [%s]",
+						role,
+						threshold,
+						query
+				);
+			}
+		}
+	}
+}
@@ -163,6 +163,61 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void jdbcBatchExecuted(int batchSize) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.jdbcBatchExecuted( batchSize );
+		}
+	}
+
+	@Override
+	public void resultsProcessingStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.resultsProcessingStart();
+		}
+	}
+
+	@Override
+	public void resultsProcessingEnd() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.resultsProcessingEnd();
+		}
+	}
+
+	@Override
+	public void entityLoadStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.entityLoadStart();
+		}
+	}
+
+	@Override
+	public void entityLoadEnd(String entityName) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.entityLoadEnd( entityName );
+		}
+	}
+
 	@Override
 	public void cachePutStart() {
 		if ( listeners == null ) {
@@ -46,6 +46,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.NaturalIdResolutions;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -58,6 +59,7 @@ import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.PartitionedMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -101,6 +103,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		the following fields are used in all circumstances, and are not worth (or not suited) to being converted into lazy
 	 */
 	private final SharedSessionContractImplementor session;
+	private final boolean partitionedStorage;
 	private EntityEntryContext entityEntryContext;
 
 	/*
@@ -112,7 +115,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -120,7 +123,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -129,7 +132,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection<?>, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private Map<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -163,6 +166,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// Receives the keys of entities and proxies added to entitiesByKey, if any
+	private Consumer<EntityKey> entityKeyRecorder;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -170,16 +176,45 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
+		this.partitionedStorage = session.getFactory().getSessionFactoryOptions()
+				.getPersistenceContextStorage() == PersistenceContextStorage.PARTITIONED;
 		this.entityEntryContext = new EntityEntryContext( this );
 	}
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	/**
+	 * Create a map keyed by {@link EntityKey}, according to the configured
+	 * {@link PersistenceContextStorage}. Partitions are per entity hierarchy,
+	 * since keys of entities in the same hierarchy may be equal.
+	 *
+	 * @param size the expected number of entries of the whole map, which are
+	 * spread across the partitions, and so do not size each partition
+	 */
+	private <V> Map<EntityKey, V> entityKeyMapOfSize(int size) {
+		return partitionedStorage
+				? new PartitionedMap<>( EntityKey.class, key -> key.getPersister().getRootEntityName(), INIT_COLL_SIZE )
+				: CollectionHelper.mapOfSize( size );
+	}
+
+	/**
+	 * Create a map keyed by {@link CollectionKey}, according to the configured
+	 * {@link PersistenceContextStorage}, partitioned by collection role.
+	 *
+	 * @param size the expected number of entries of the whole map, which are
+	 * spread across the partitions, and so do not size each partition
+	 */
+	private <V> Map<CollectionKey, V> collectionKeyMapOfSize(int size) {
+		return partitionedStorage
+				? new PartitionedMap<>( CollectionKey.class, CollectionKey::getRole, INIT_COLL_SIZE )
+				: CollectionHelper.mapOfSize( size );
+	}
+
 	@Override
 	public boolean isStateless() {
 		return false;
@@ -313,7 +348,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -405,6 +440,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			}
 			holder = oldHolder;
 		}
+		else {
+			recordEntityKey( key );
+		}
 		assert holder.entityInitializer == null || holder.entityInitializer == initializer;
 		holder.entityInitializer = initializer;
 		holder.processingState = processingState;
@@ -488,6 +526,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			oldHolder.entity = entity;
 			holder = oldHolder;
 		}
+		else {
+			recordEntityKey( key );
+		}
 		holder.state = EntityHolderState.INITIALIZED;
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
@@ -762,7 +803,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 					key,
 					EntityHolderImpl.forProxy( key, persister, proxy )
 			);
-			if ( holder != null && holder.proxy == null ) {
+			if ( holder == null ) {
+				recordEntityKey( key );
+			}
+			else if ( holder.proxy == null ) {
 				holder.proxy = proxy;
 			}
 			proxy.getHibernateLazyInitializer().setSession( session );
@@ -916,6 +960,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			oldHolder.entity = entity;
 			holder = oldHolder;
 		}
+		else {
+			recordEntityKey( key );
+		}
 		holder.state = EntityHolderState.ENHANCED_PROXY;
 	}
 
@@ -1211,6 +1258,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( holder != null ) {
 			holder.proxy = proxy;
 		}
+		else {
+			recordEntityKey( key );
+		}
 	}
 
 	@Override
@@ -1256,6 +1306,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return (Map) entitiesByKey;
 	}
 
+	@Override
+	public Consumer<EntityKey> setEntityKeyRecorder(Consumer<EntityKey> recorder) {
+		final Consumer<EntityKey> previous = entityKeyRecorder;
+		entityKeyRecorder = recorder;
+		return previous;
+	}
+
+	private void recordEntityKey(EntityKey key) {
+		if ( entityKeyRecorder != null ) {
+			entityKeyRecorder.accept( key );
+		}
+	}
+
 	@Override
 	public Iterator<Object> managedEntitiesIterator() {
 		if ( entitiesByKey == null ) {
@@ -1887,7 +1950,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -1927,7 +1990,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = rtn.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1938,7 +2001,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.collectionsByKey = rtn.collectionKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put(
 						CollectionKey.deserialize( ois, session ),
@@ -2113,7 +2176,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = collectionKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return collectionsByKey.put( collectionKey, persistentCollection );
 	}
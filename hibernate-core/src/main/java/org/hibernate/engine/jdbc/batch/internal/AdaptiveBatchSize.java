@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+
+/**
+ * The adaptive size of the JDBC batches with a given
+ * {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey key}, shared by
+ * all the sessions.
+ * <p>
+ * The execution time per row, and the size of the bound values per row, are
+ * averaged over the recent executions of the batches. After each execution,
+ * the size moves toward the size whose execution would take the target time,
+ * but never by more than a factor of two, so that a single slow execution does
+ * not collapse the batch size.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_ADAPTIVE
+ */
+class AdaptiveBatchSize {
+	// the weight of the latest execution in the averages
+	private static final double SMOOTHING = 0.25;
+	// the estimated size of a value of a type not otherwise handled
+	private static final int DEFAULT_VALUE_SIZE = 8;
+
+	private final long targetLatencyNanos;
+
+	private final Lock lock = new ReentrantLock();
+	// guarded by the lock
+	private double nanosPerRow;
+	private double bytesPerRow;
+	// zero until the first execution
+	private volatile int batchSize;
+
+	AdaptiveBatchSize(long targetLatencyNanos) {
+		this.targetLatencyNanos = targetLatencyNanos;
+	}
+
+	/**
+	 * The size of the next batch, at most the given configured size.
+	 */
+	int getBatchSize(int maxBatchSize) {
+		final int size = batchSize;
+		return size == 0 ? maxBatchSize : Math.min( size, maxBatchSize );
+	}
+
+	/**
+	 * The average size of the bound values of a row, in bytes.
+	 */
+	double getBytesPerRow() {
+		lock.lock();
+		try {
+			return bytesPerRow;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Record the execution of a batch, and adjust the batch size.
+	 *
+	 * @return the new batch size
+	 */
+	int recordExecution(int rows, long nanos, long bytes, int maxBatchSize) {
+		lock.lock();
+		try {
+			final double rowNanos = (double) nanos / rows;
+			final double rowBytes = (double) bytes / rows;
+			final int current = getBatchSize( maxBatchSize );
+			if ( batchSize == 0 ) {
+				nanosPerRow = rowNanos;
+				bytesPerRow = rowBytes;
+			}
+			else {
+				nanosPerRow += SMOOTHING * ( rowNanos - nanosPerRow );
+				bytesPerRow += SMOOTHING * ( rowBytes - bytesPerRow );
+			}
+
+			final long idealSize = nanosPerRow > 0
+					? (long) ( targetLatencyNanos / nanosPerRow )
+					: maxBatchSize;
+			final long nextSize = idealSize > current
+					? Math.min( idealSize, current * 2L )
+					: Math.max( idealSize, current / 2 );
+			final int size = (int) Math.max( 1, Math.min( nextSize, maxBatchSize ) );
+			batchSize = size;
+			return size;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Estimate the size, in bytes, of the values bound for a row.
+	 */
+	static long estimateSize(BindingGroup bindingGroup) {
+		if ( bindingGroup == null ) {
+			return 0;
+		}
+		long size = 0;
+		for ( Binding binding : bindingGroup.getBindings() ) {
+			size += estimateSize( binding.getValue() );
+		}
+		return size;
+	}
+
+	private static long estimateSize(Object value) {
+		if ( value instanceof byte[] ) {
+			return ( (byte[]) value ).length;
+		}
+		else if ( value instanceof CharSequence ) {
+			return (long) ( (CharSequence) value ).length() * Character.BYTES;
+		}
+		else if ( value instanceof char[] ) {
+			return (long) ( (char[]) value ).length * Character.BYTES;
+		}
+		try {
+			if ( value instanceof Blob ) {
+				return ( (Blob) value ).length();
+			}
+			else if ( value instanceof Clob ) {
+				return ( (Clob) value ).length() * Character.BYTES;
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			// the length of a LOB stream may be unknown
+		}
+		return DEFAULT_VALUE_SIZE;
+	}
+}
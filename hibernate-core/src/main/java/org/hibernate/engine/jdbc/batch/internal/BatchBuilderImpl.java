@@ -7,6 +7,17 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -17,6 +28,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -28,8 +40,18 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final boolean pipelined;
+	private final boolean adaptive;
+	private final long targetLatencyNanos;
+	private final boolean multiRowInserts;
+
+	// only used when pipelining
+	private final Executor providedPipelineExecutor;
+	private final Lock pipelineExecutorLock = new ReentrantLock();
+	private volatile ExecutorService pipelineExecutor;
+	private final Map<BatchKey, AdaptiveBatchSize> adaptiveBatchSizes = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,14 +60,105 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether full batches are executed in the background
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined) {
+		this( globalBatchSize, pipelined, false, 0 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether full batches are executed in the background
+	 * @param adaptive Whether the size of the batches is adapted to the
+	 * latency of their execution, per {@link BatchKey}
+	 * @param targetLatencyMillis The latency of the execution of a batch
+	 * aimed for, when adaptive
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_ADAPTIVE
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_ADAPTIVE_TARGET_LATENCY
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined, boolean adaptive, long targetLatencyMillis) {
+		this( globalBatchSize, pipelined, adaptive, targetLatencyMillis, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether full batches are executed in the background
+	 * @param adaptive Whether the size of the batches is adapted to the
+	 * latency of their execution, per {@link BatchKey}
+	 * @param targetLatencyMillis The latency of the execution of a batch
+	 * aimed for, when adaptive
+	 * @param multiRowInserts Whether batched inserts are executed by
+	 * multi-row insert statements, when supported by the dialect
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+	 */
+	public BatchBuilderImpl(
+			int globalBatchSize,
+			boolean pipelined,
+			boolean adaptive,
+			long targetLatencyMillis,
+			boolean multiRowInserts) {
+		this( globalBatchSize, pipelined, null, adaptive, targetLatencyMillis, multiRowInserts );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether full batches are executed in the background
+	 * @param pipelineExecutor The executor of full batches when pipelining,
+	 * or {@code null} for a pool of daemon threads owned by this builder
+	 * @param adaptive Whether the size of the batches is adapted to the
+	 * latency of their execution, per {@link BatchKey}
+	 * @param targetLatencyMillis The latency of the execution of a batch
+	 * aimed for, when adaptive
+	 * @param multiRowInserts Whether batched inserts are executed by
+	 * multi-row insert statements, when supported by the dialect
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING_EXECUTOR
+	 */
+	public BatchBuilderImpl(
+			int globalBatchSize,
+			boolean pipelined,
+			Executor pipelineExecutor,
+			boolean adaptive,
+			long targetLatencyMillis,
+			boolean multiRowInserts) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s%s%s%s)",
+					globalBatchSize,
+					pipelined ? ", pipelined" : "",
+					adaptive ? ", adaptive" : "",
+					multiRowInserts ? ", multi-row inserts" : ""
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipelined = pipelined;
+		this.providedPipelineExecutor = pipelineExecutor;
+		this.adaptive = adaptive;
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +176,81 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return new BatchImpl(
+				key,
+				statementGroupSupplier.get(),
+				pipelined ? statementGroupSupplier : null,
+				batchSize,
+				jdbcCoordinator,
+				pipelined ? getPipelineExecutor() : null,
+				adaptive ? adaptiveBatchSizes.computeIfAbsent( key, k -> new AdaptiveBatchSize( targetLatencyNanos ) ) : null,
+				multiRowInserts ? new MultiRowInserts( jdbcCoordinator ) : null
+		);
+	}
+
+	private Executor getPipelineExecutor() {
+		if ( providedPipelineExecutor != null ) {
+			return providedPipelineExecutor;
+		}
+		ExecutorService executor = pipelineExecutor;
+		if ( executor == null ) {
+			pipelineExecutorLock.lock();
+			try {
+				executor = pipelineExecutor;
+				if ( executor == null ) {
+					executor = createPipelineExecutor();
+					pipelineExecutor = executor;
+				}
+			}
+			finally {
+				pipelineExecutorLock.unlock();
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * A pool of at most one thread per processor, which rejects a batch when
+	 * all its threads are busy, so that it is executed by the flushing thread.
+	 */
+	private static ExecutorService createPipelineExecutor() {
+		final int threads = Runtime.getRuntime().availableProcessors();
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				threads,
+				threads,
+				60,
+				TimeUnit.SECONDS,
+				new SynchronousQueue<>(),
+				new PipelineThreadFactory()
+		);
+		executor.allowCoreThreadTimeOut( true );
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		pipelineExecutorLock.lock();
+		try {
+			if ( pipelineExecutor != null ) {
+				pipelineExecutor.shutdown();
+				pipelineExecutor = null;
+			}
+		}
+		finally {
+			pipelineExecutorLock.unlock();
+		}
+	}
+
+	private static class PipelineThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Pipeline Thread " + count.incrementAndGet() );
+			return thread;
+		}
 	}
 
 
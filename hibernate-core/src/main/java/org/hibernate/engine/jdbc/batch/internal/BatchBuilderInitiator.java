@@ -7,6 +7,7 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -44,7 +45,12 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_PIPELINING, configurationValues ),
+					pipelineExecutor( configurationValues ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_ADAPTIVE, configurationValues ),
+					ConfigurationHelper.getLong( BatchSettings.BATCH_ADAPTIVE_TARGET_LATENCY, configurationValues, 50 ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_MULTI_ROW_INSERTS, configurationValues )
 			);
 		}
 
@@ -63,4 +69,15 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 			throw new ServiceException( "Could not build explicit BatchBuilder [" + builderClassName + "]", e );
 		}
 	}
+
+	private static Executor pipelineExecutor(Map<String, Object> configurationValues) {
+		final Object executor = configurationValues.get( BatchSettings.BATCH_PIPELINING_EXECUTOR );
+		if ( executor == null || executor instanceof Executor ) {
+			return (Executor) executor;
+		}
+		throw new ServiceException(
+				"Configuration property " + BatchSettings.BATCH_PIPELINING_EXECUTOR
+						+ " value [" + executor + "] is not an Executor"
+		);
+	}
 }
@@ -8,7 +8,13 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -25,6 +31,7 @@ import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.event.jfr.JdbcBatchExecutionEvent;
 import org.hibernate.event.jfr.internal.JfrEventManager;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -38,8 +45,9 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
-	private final PreparedStatementGroup statementGroup;
+	private final int maxBatchSize;
+	private int batchSizeToUse;
+	private PreparedStatementGroup statementGroup;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -50,11 +58,61 @@ public class BatchImpl implements Batch {
 	private int batchPosition;
 	private boolean batchExecuted;
 
+	// only used for adaptive batching
+	private final AdaptiveBatchSize adaptiveBatchSize;
+	private long batchBytes;
+
+	// only used for multi-row inserts
+	private final MultiRowInserts multiRowInserts;
+
+	// only used when pipelining
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final Executor pipelineExecutor;
+	private PreparedStatementGroup pipelinedStatementGroup;
+	private PipelinedExecution pipelinedExecution;
+
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, null, batchSizeToUse, jdbcCoordinator, null, null, null );
+	}
+
+	/**
+	 * Creates a batch which executes each full batch in the background,
+	 * using the given executor, while the next batch is bound to a second
+	 * group of statements obtained from the given supplier.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	public BatchImpl(
+			BatchKey key,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor pipelineExecutor) {
+		this( key, statementGroupSupplier.get(), statementGroupSupplier, batchSizeToUse, jdbcCoordinator, pipelineExecutor, null, null );
+	}
+
+	/**
+	 * @param statementGroupSupplier Supplies the second group of statements when
+	 * pipelining, or {@code null}
+	 * @param pipelineExecutor The executor of full batches when pipelining,
+	 * or {@code null}
+	 * @param adaptiveBatchSize The adaptive size of the batches with the given
+	 * key, never exceeding the given size, or {@code null}
+	 * @param multiRowInserts The rows inserted by multi-row inserts, or {@code null}
+	 */
+	BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor pipelineExecutor,
+			AdaptiveBatchSize adaptiveBatchSize,
+			MultiRowInserts multiRowInserts) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -65,17 +123,24 @@ public class BatchImpl implements Batch {
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.pipelineExecutor = pipelineExecutor;
 
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
-		this.batchSizeToUse = batchSizeToUse;
+		this.maxBatchSize = batchSizeToUse;
+		this.adaptiveBatchSize = adaptiveBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.batchSizeToUse = adaptiveBatchSize == null
+				? batchSizeToUse
+				: adaptiveBatchSize.getBatchSize( batchSizeToUse );
 
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Created Batch (%s) - `%s`",
-					batchSizeToUse,
+					this.batchSizeToUse,
 					key.toLoggableString()
 			);
 		}
@@ -120,6 +185,14 @@ public class BatchImpl implements Batch {
 					return;
 				}
 
+				if ( adaptiveBatchSize != null ) {
+					batchBytes += AdaptiveBatchSize.estimateSize( jdbcValueBindings.getBindingGroup( tableName ) );
+				}
+				if ( multiRowInserts != null && multiRowInserts.addRow( statementDetails, jdbcValueBindings ) ) {
+					jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+					return;
+				}
+
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
@@ -147,15 +220,33 @@ public class BatchImpl implements Batch {
 		}
 
 		batchPosition++;
-		if ( batchPosition == batchSizeToUse ) {
+		if ( batchPosition >= batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			if ( pipelineExecutor != null && ( multiRowInserts == null || !multiRowInserts.hasRows() ) ) {
+				performPipelinedExecution();
+			}
+			else {
+				performExecution();
+			}
 			batchPosition = 0;
 			batchExecuted = true;
 		}
 	}
 
 	protected void releaseStatements() {
+		awaitPipelinedExecutionQuietly();
+		if ( multiRowInserts != null ) {
+			multiRowInserts.clear();
+		}
+		if ( pipelinedStatementGroup != null ) {
+			releaseStatements( pipelinedStatementGroup );
+			pipelinedStatementGroup = null;
+		}
+		releaseStatements( statementGroup );
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private void releaseStatements(PreparedStatementGroup statementGroup) {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -169,7 +260,6 @@ public class BatchImpl implements Batch {
 		} );
 
 		statementGroup.release();
-		jdbcCoordinator.afterStatementExecution();
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -227,6 +317,7 @@ public class BatchImpl implements Batch {
 		}
 
 		try {
+			awaitPipelinedExecution();
 			if ( batchPosition == 0 ) {
 				if( !batchExecuted) {
 					if ( BATCH_LOGGER.isDebugEnabled() ) {
@@ -258,16 +349,20 @@ public class BatchImpl implements Batch {
 
 		//noinspection deprecation
 		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final long start = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
 				final PreparedStatement statement = statementDetails.getStatement();
 
-				if ( statement == null ) {
-					return;
-				}
-
 				try {
+					if ( multiRowInserts != null && multiRowInserts.execute( statementDetails, observer ) ) {
+						return;
+					}
+					if ( statement == null ) {
+						return;
+					}
+
 					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
 						final int[] rowCounts;
 						final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = JfrEventManager.beginJdbcBatchExecutionEvent();
@@ -279,6 +374,7 @@ public class BatchImpl implements Batch {
 							JfrEventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
 							observer.jdbcExecuteBatchEnd();
 						}
+						observer.jdbcBatchExecuted( batchPosition );
 						checkRowCounts( rowCounts, statementDetails );
 					}
 					else {
@@ -296,13 +392,56 @@ public class BatchImpl implements Batch {
 					throw re;
 				}
 			} );
+			if ( adaptiveBatchSize != null ) {
+				adaptBatchSize( batchPosition, System.nanoTime() - start, batchBytes );
+			}
 		}
 		finally {
 			batchPosition = 0;
+			batchBytes = 0;
+		}
+	}
+
+	/**
+	 * Adjust the size of the next batches after the execution of a batch,
+	 * when adaptive batching is enabled.
+	 */
+	private void adaptBatchSize(int rows, long nanos, long bytes) {
+		if ( rows == 0 ) {
+			return;
+		}
+		final int newBatchSize = adaptiveBatchSize.recordExecution( rows, nanos, bytes, maxBatchSize );
+		if ( newBatchSize != batchSizeToUse ) {
+			if ( BATCH_LOGGER.isDebugEnabled() ) {
+				BATCH_LOGGER.debugf(
+						"Adjusted JDBC batch size from %s to %s (%s rows of about %s bytes in %s ms) - `%s`",
+						batchSizeToUse,
+						newBatchSize,
+						rows,
+						bytes / rows,
+						nanos / 1_000_000.0,
+						getKey().toLoggableString()
+				);
+			}
+			batchSizeToUse = newBatchSize;
+			reportBatchSize();
+		}
+	}
+
+	private void reportBatchSize() {
+		final StatisticsImplementor statistics =
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics();
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchSizeChosen( key.toLoggableString(), batchSizeToUse );
 		}
 	}
 
 	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+		checkRowCounts( rowCounts, statementDetails, batchPosition );
+	}
+
+	private static void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, int batchPosition)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
 			if ( numberOfRowCounts != batchPosition ) {
@@ -319,6 +458,198 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Pipelining
+
+	/**
+	 * Wait for the previous batch to complete, start executing the current
+	 * batch in the background, and switch to the statements of the previous
+	 * batch for binding the next batch.
+	 */
+	private void performPipelinedExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch in the background (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		awaitPipelinedExecution();
+
+		// the statements of the previous batch are done executing
+		final PreparedStatementGroup nextStatementGroup;
+		if ( pipelinedStatementGroup != null ) {
+			nextStatementGroup = pipelinedStatementGroup;
+		}
+		else {
+			// prepare the statements now, since the connection is not used
+			// for anything but binding while the batch is executing
+			nextStatementGroup = statementGroupSupplier.get();
+			nextStatementGroup.forEachStatement( (tableName, statementDetails) -> statementDetails.resolveStatement() );
+		}
+
+		//noinspection deprecation
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final PipelinedExecution execution = new PipelinedExecution( statementGroup, batchPosition, batchBytes, observer );
+		batchBytes = 0;
+		pipelinedExecution = execution;
+		try {
+			pipelineExecutor.execute( execution );
+		}
+		catch (RejectedExecutionException e) {
+			execution.run();
+		}
+
+		pipelinedStatementGroup = statementGroup;
+		statementGroup = nextStatementGroup;
+	}
+
+	/**
+	 * Wait for the batch executing in the background, if any, and report any
+	 * error which occurred. Called by the {@link JdbcCoordinator} before it
+	 * uses the connection for anything else.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	public void awaitPipelinedExecution() {
+		final PipelinedExecution execution = pipelinedExecution;
+		if ( execution != null ) {
+			pipelinedExecution = null;
+			execution.await();
+			execution.complete();
+		}
+	}
+
+	private void awaitPipelinedExecutionQuietly() {
+		final PipelinedExecution execution = pipelinedExecution;
+		if ( execution != null ) {
+			pipelinedExecution = null;
+			// the statements may only be released once they're done executing
+			execution.await();
+		}
+	}
+
+	/**
+	 * The execution of the statements of a full batch in the background.
+	 * Only the JDBC calls happen in the background: the observers are notified,
+	 * and the row counts are checked, by the thread which owns the session.
+	 */
+	private class PipelinedExecution implements Runnable {
+		private final PreparedStatementGroup statementGroup;
+		private final int batchPosition;
+		private final long batchBytes;
+		private final JdbcObserver observer;
+		private final JdbcBatchExecutionEvent jdbcBatchExecutionEvent;
+		private final CountDownLatch done = new CountDownLatch( 1 );
+		private final Map<PreparedStatementDetails, int[]> rowCounts = new LinkedHashMap<>();
+
+		private PreparedStatementDetails failedStatement;
+		private Exception failure;
+		private long executionNanos;
+
+		private PipelinedExecution(
+				PreparedStatementGroup statementGroup,
+				int batchPosition,
+				long batchBytes,
+				JdbcObserver observer) {
+			this.statementGroup = statementGroup;
+			this.batchPosition = batchPosition;
+			this.batchBytes = batchBytes;
+			this.observer = observer;
+			this.jdbcBatchExecutionEvent = JfrEventManager.beginJdbcBatchExecutionEvent();
+			observer.jdbcExecuteBatchStart();
+		}
+
+		@Override
+		public void run() {
+			final long start = System.nanoTime();
+			try {
+				statementGroup.forEachStatement( (tableName, statementDetails) -> {
+					final PreparedStatement statement = statementDetails.getStatement();
+					if ( statement == null || failure != null ) {
+						return;
+					}
+					try {
+						rowCounts.put( statementDetails, statement.executeBatch() );
+					}
+					catch (SQLException | RuntimeException e) {
+						failedStatement = statementDetails;
+						failure = e;
+					}
+				} );
+			}
+			finally {
+				executionNanos = System.nanoTime() - start;
+				done.countDown();
+			}
+		}
+
+		private void await() {
+			boolean interrupted = false;
+			try {
+				while ( true ) {
+					try {
+						done.await();
+						return;
+					}
+					catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+			finally {
+				if ( interrupted ) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void complete() {
+			String sql = null;
+			try {
+				final PreparedStatementDetails executed = failedStatement != null || rowCounts.isEmpty()
+						? failedStatement
+						: rowCounts.keySet().iterator().next();
+				JfrEventManager.completeJdbcBatchExecutionEvent(
+						jdbcBatchExecutionEvent,
+						executed == null ? null : executed.getSqlString()
+				);
+				observer.jdbcExecuteBatchEnd();
+				if ( failure != null ) {
+					sql = failedStatement.getSqlString();
+					if ( failure instanceof SQLException ) {
+						throw (SQLException) failure;
+					}
+					throw (RuntimeException) failure;
+				}
+				observer.jdbcBatchExecuted( batchPosition );
+				for ( Map.Entry<PreparedStatementDetails, int[]> entry : rowCounts.entrySet() ) {
+					final PreparedStatementDetails statementDetails = entry.getKey();
+					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+						sql = statementDetails.getSqlString();
+						checkRowCounts( entry.getValue(), statementDetails, batchPosition );
+					}
+				}
+				if ( adaptiveBatchSize != null ) {
+					adaptBatchSize( batchPosition, executionNanos, batchBytes );
+				}
+			}
+			catch (SQLException e) {
+				abortBatch( e );
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				abortBatch( re );
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		}
+	}
+
 	@Override
 	public void release() {
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
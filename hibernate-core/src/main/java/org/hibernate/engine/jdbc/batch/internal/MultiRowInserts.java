@@ -0,0 +1,253 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementDetailsStandard;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.jfr.JdbcPreparedStatementExecutionEvent;
+import org.hibernate.event.jfr.internal.JfrEventManager;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * The rows added to a {@link BatchImpl batch} which are inserted by multi-row
+ * insert statements, rather than by {@link PreparedStatement#executeBatch()}.
+ * <p>
+ * When a row is added, its {@linkplain Binding bindings} are recorded. When the
+ * batch is executed, the rows are split into groups of a power of two rows, so
+ * that there are few distinct statements per table, and the bindings are bound
+ * to the statement inserting a group, shifted to the parameters of each row.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+ * @see Dialect#getMultiRowInsertString(String, int)
+ */
+class MultiRowInserts {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SharedSessionContractImplementor session;
+	private final Dialect dialect;
+	private final SqlStatementLogger sqlStatementLogger;
+
+	// the values are null for the tables whose rows are not supported
+	private final Map<String, TableInserts> tableInserts = new HashMap<>();
+
+	MultiRowInserts(JdbcCoordinator jdbcCoordinator) {
+		this.jdbcCoordinator = jdbcCoordinator;
+		// the JDBC coordinator of a session is owned by the session
+		this.session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.dialect = jdbcServices.getDialect();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+	}
+
+	/**
+	 * Add a row to be inserted with the given statement, if the statement
+	 * is an insert which may be rewritten to a multi-row insert.
+	 *
+	 * @return {@code false} if the row must be added to the JDBC batch of
+	 * the statement instead
+	 */
+	boolean addRow(PreparedStatementDetails statementDetails, JdbcValueBindings jdbcValueBindings) {
+		final String tableName = statementDetails.getMutatingTableDetails().getTableName();
+		TableInserts inserts = tableInserts.get( tableName );
+		if ( inserts == null ) {
+			if ( tableInserts.containsKey( tableName ) ) {
+				return false;
+			}
+			inserts = createTableInserts( statementDetails );
+			tableInserts.put( tableName, inserts );
+			if ( inserts == null ) {
+				return false;
+			}
+		}
+
+		// the bindings are immutable, and outlive the clearing of their group
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableName );
+		inserts.rows.add( bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS ) );
+		return true;
+	}
+
+	private TableInserts createTableInserts(PreparedStatementDetails statementDetails) {
+		if ( statementDetails instanceof PreparedStatementDetailsStandard ) {
+			final PreparableMutationOperation mutation =
+					( (PreparedStatementDetailsStandard) statementDetails ).getMutation();
+			final Expectation expectation = statementDetails.getExpectation();
+			if ( mutation.getMutationType() == MutationType.INSERT
+					&& !mutation.isCallable()
+					&& ( expectation == Expectations.BASIC || expectation == Expectations.NONE )
+					&& dialect.getMultiRowInsertString( statementDetails.getSqlString(), 2 ) != null ) {
+				final int parameterCount = mutation.getParameterBinders().size();
+				final int parameterCountLimit = dialect.getParameterCountLimit();
+				return new TableInserts(
+						parameterCount,
+						parameterCount > 0 && parameterCountLimit > 0
+								? Math.max( 1, parameterCountLimit / parameterCount )
+								: Integer.MAX_VALUE
+				);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Whether rows were added, and not yet inserted
+	 */
+	boolean hasRows() {
+		for ( TableInserts inserts : tableInserts.values() ) {
+			if ( inserts != null && !inserts.rows.isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Insert the rows added for the table of the given statement.
+	 *
+	 * @return {@code false} if the rows of the table were added to the JDBC
+	 * batch of the statement instead
+	 */
+	boolean execute(PreparedStatementDetails statementDetails, JdbcObserver observer) throws SQLException {
+		final TableInserts inserts = tableInserts.get( statementDetails.getMutatingTableDetails().getTableName() );
+		if ( inserts == null ) {
+			return false;
+		}
+
+		try {
+			final int rowCount = inserts.rows.size();
+			int position = 0;
+			while ( position < rowCount ) {
+				int rows = Integer.highestOneBit( Math.min( rowCount - position, inserts.maxRowsPerStatement ) );
+				String sql = null;
+				while ( rows > 1 && ( sql = inserts.getSql( dialect, statementDetails.getSqlString(), rows ) ) == null ) {
+					rows /= 2;
+				}
+				executeInsert(
+						rows == 1 ? statementDetails.getSqlString() : sql,
+						inserts,
+						position,
+						rows,
+						statementDetails.getExpectation(),
+						observer
+				);
+				position += rows;
+			}
+		}
+		finally {
+			inserts.rows.clear();
+		}
+		return true;
+	}
+
+	private void executeInsert(
+			String sql,
+			TableInserts inserts,
+			int position,
+			int rows,
+			Expectation expectation,
+			JdbcObserver observer) throws SQLException {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef( "Executing multi-row insert (%s rows)", rows );
+		}
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		sqlStatementLogger.logStatement( sql );
+		try {
+			for ( int i = 0; i < rows; i++ ) {
+				final int offset = i * inserts.parameterCount;
+				for ( Binding binding : inserts.rows.get( position + i ) ) {
+					binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition() + offset, session );
+				}
+			}
+
+			final int rowCount;
+			final JdbcPreparedStatementExecutionEvent jdbcPreparedStatementExecutionEvent =
+					JfrEventManager.beginJdbcPreparedStatementExecutionEvent();
+			try {
+				observer.jdbcExecuteStatementStart();
+				rowCount = statement.executeUpdate();
+			}
+			finally {
+				JfrEventManager.completeJdbcPreparedStatementExecutionEvent( jdbcPreparedStatementExecutionEvent, sql );
+				observer.jdbcExecuteStatementEnd();
+			}
+
+			if ( expectation != Expectations.NONE ) {
+				if ( rowCount < rows ) {
+					throw new StaleStateException(
+							"Unexpected row count: " + rowCount + "; expected: " + rows
+									+ "; statement executed: " + sql
+					);
+				}
+				if ( rowCount > rows ) {
+					throw new TooManyRowsAffectedException(
+							"Unexpected row count: " + rowCount + "; expected: " + rows,
+							rows,
+							rowCount
+					);
+				}
+			}
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	/**
+	 * Discard the rows which were not inserted.
+	 */
+	void clear() {
+		for ( TableInserts inserts : tableInserts.values() ) {
+			if ( inserts != null ) {
+				inserts.rows.clear();
+			}
+		}
+	}
+
+	private static class TableInserts {
+		private final int parameterCount;
+		private final int maxRowsPerStatement;
+		private final List<Binding[]> rows = new ArrayList<>();
+		// the SQL by number of rows, null if not supported
+		private final Map<Integer, String> sqlByRowCount = new HashMap<>();
+
+		private TableInserts(int parameterCount, int maxRowsPerStatement) {
+			this.parameterCount = parameterCount;
+			this.maxRowsPerStatement = maxRowsPerStatement;
+		}
+
+		private String getSql(Dialect dialect, String singleRowInsertString, int rows) {
+			return sqlByRowCount.computeIfAbsent(
+					rows,
+					count -> dialect.getMultiRowInsertString( singleRowInsertString, count )
+			);
+		}
+	}
+}
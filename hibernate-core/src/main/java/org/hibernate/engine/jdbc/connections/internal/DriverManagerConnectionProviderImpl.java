@@ -20,7 +20,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -344,6 +346,9 @@ public class DriverManagerConnectionProviderImpl
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// guards the growth of the pool, a lock rather than a monitor, since
+		// connections are opened while it is held
+		private final Lock growthLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
@@ -418,12 +423,16 @@ public class DriverManagerConnectionProviderImpl
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
+					growthLock.lock();
+					try {
 						if ( allConnections.size() < maxSize ) {
 							addConnections( 1 );
 							return poll();
 						}
 					}
+					finally {
+						growthLock.unlock();
+					}
 					throw new HibernateException(
 							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
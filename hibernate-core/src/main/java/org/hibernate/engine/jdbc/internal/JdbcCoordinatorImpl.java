@@ -19,6 +19,7 @@ import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.JdbcBatchLogging;
+import org.hibernate.engine.jdbc.batch.internal.BatchImpl;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -205,6 +206,19 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * Wait for the current batch to finish executing in the background, if it
+	 * is pipelined, since the connection must not be used for anything else
+	 * meanwhile.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	void awaitPipelinedBatch() {
+		if ( currentBatch instanceof BatchImpl ) {
+			( (BatchImpl) currentBatch ).awaitPipelinedExecution();
+		}
+	}
+
 	@Override
 	public void abortBatch() {
 		if ( currentBatch != null ) {
@@ -298,6 +312,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitPipelinedBatch();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -131,6 +131,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 	}
 
 	protected final Connection connection() {
+		jdbcCoordinator.awaitPipelinedBatch();
 		return logicalConnection().getPhysicalConnection();
 	}
 
@@ -50,6 +50,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	protected final Connection connection() {
+		jdbcCoordinator.awaitPipelinedBatch();
 		return logicalConnection().getPhysicalConnection();
 	}
 
@@ -49,14 +49,24 @@ public class StandardMutationExecutorService implements MutationExecutorService
 		final Integer sessionBatchSize = session.getJdbcCoordinator()
 				.getJdbcSessionOwner()
 				.getJdbcBatchSize();
-		final int batchSizeToUse = sessionBatchSize == null
-				? globalBatchSize
-				: sessionBatchSize;
 
 		final int numberOfOperations = operationGroup.getNumberOfOperations();
 		final MutationType mutationType = operationGroup.getMutationType();
 		final EntityMutationOperationGroup entityMutationOperationGroup = operationGroup.asEntityMutationOperationGroup();
 
+		final int batchSizeToUse;
+		if ( sessionBatchSize != null ) {
+			batchSizeToUse = sessionBatchSize;
+		}
+		else if ( entityMutationOperationGroup != null
+				&& entityMutationOperationGroup.getMutationTarget().getJdbcBatchSize() != null ) {
+			// see @JdbcBatchSize
+			batchSizeToUse = entityMutationOperationGroup.getMutationTarget().getJdbcBatchSize();
+		}
+		else {
+			batchSizeToUse = globalBatchSize;
+		}
+
 		if ( mutationType == MutationType.INSERT
 				&& entityMutationOperationGroup != null
 				&& entityMutationOperationGroup.getMutationTarget().getIdentityInsertDelegate() != null ) {
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.spi;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The lazy initializations observed by a session, and the fetching upgrades
+ * they led to, by entity name, for proxies, and by collection role.
+ * <p>
+ * From the second lazy initialization of a given role in the session, every
+ * lazy initialization of that role doubles its batch size, up to the maximum.
+ * A collection role is also upgraded to subselect fetching.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ */
+class AdaptiveBatchFetching implements Serializable {
+	private static final Logger LOG = CoreLogging.logger( AdaptiveBatchFetching.class );
+
+	// the number of lazy initializations of a role from which it is upgraded
+	private static final int THRESHOLD = 2;
+	// the batch size of the first upgrade
+	private static final int INITIAL_BATCH_SIZE = 4;
+
+	private final int maxBatchSize;
+	//Lazily initialized!
+	private Map<String, Role> roles;
+
+	AdaptiveBatchFetching(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	private static class Role implements Serializable {
+		private int initializations;
+		private int batchSize;
+		private boolean subselect;
+	}
+
+	/**
+	 * Record the lazy initialization of a proxy of the entity, or of an
+	 * instance of the collection, with the given name.
+	 */
+	void initialized(String role, boolean collection, StatisticsImplementor statistics) {
+		if ( roles == null ) {
+			roles = new HashMap<>();
+		}
+		final Role observed = roles.computeIfAbsent( role, name -> new Role() );
+		if ( ++observed.initializations >= THRESHOLD && observed.batchSize < maxBatchSize ) {
+			observed.batchSize = Math.min(
+					maxBatchSize,
+					observed.batchSize < INITIAL_BATCH_SIZE ? INITIAL_BATCH_SIZE : observed.batchSize * 2
+			);
+			observed.subselect = collection;
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf(
+						"Lazy initialization #%s of '%s', upgrading to batch size %s%s",
+						observed.initializations,
+						role,
+						observed.batchSize,
+						collection ? " and subselect fetching" : ""
+				);
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.adaptiveBatchFetchUpgrade( role, observed.batchSize, collection );
+			}
+		}
+	}
+
+	/**
+	 * The batch size chosen for the given role, or {@code 0} if the role was
+	 * not upgraded.
+	 */
+	int getBatchSize(String role) {
+		if ( roles == null ) {
+			return 0;
+		}
+		final Role observed = roles.get( role );
+		return observed == null ? 0 : observed.batchSize;
+	}
+
+	/**
+	 * Whether the collection with the given role was upgraded to subselect
+	 * fetching.
+	 */
+	boolean isSubselectFetch(String role) {
+		if ( roles == null ) {
+			return false;
+		}
+		final Role observed = roles.get( role );
+		return observed != null && observed.subselect;
+	}
+}
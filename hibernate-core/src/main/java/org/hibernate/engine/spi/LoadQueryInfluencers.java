@@ -58,6 +58,8 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private int batchSize = -1;
 
+	private final @Nullable AdaptiveBatchFetching adaptiveBatchFetching;
+
 	private final EffectiveEntityGraph effectiveEntityGraph = new EffectiveEntityGraph();
 
 	private Boolean readOnly;
@@ -66,12 +68,17 @@ public class LoadQueryInfluencers implements Serializable {
 		this.sessionFactory = sessionFactory;
 		batchSize = sessionFactory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		subselectFetchEnabled = sessionFactory.getSessionFactoryOptions().isSubselectFetchEnabled();
+		adaptiveBatchFetching = null;
 	}
 
 	public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory, SessionCreationOptions options) {
 		this.sessionFactory = sessionFactory;
 		batchSize = options.getDefaultBatchFetchSize();
 		subselectFetchEnabled = options.isSubselectFetchEnabled();
+		final int adaptiveBatchFetchMaxSize = sessionFactory.getSessionFactoryOptions().getAdaptiveBatchFetchMaxSize();
+		adaptiveBatchFetching = adaptiveBatchFetchMaxSize > 0
+				? new AdaptiveBatchFetching( adaptiveBatchFetchMaxSize )
+				: null;
 	}
 
 	public EffectiveEntityGraph applyEntityGraph(@Nullable RootGraphImplementor<?> rootGraph, @Nullable GraphSemantic graphSemantic) {
@@ -304,22 +311,80 @@ public class LoadQueryInfluencers implements Serializable {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return Math.max(
+				persisterBatchSize >= 0 ? persisterBatchSize : batchSize,
+				getAdaptiveBatchSize( persister )
+		);
 	}
 
 	public boolean effectivelyBatchLoadable(CollectionPersister persister) {
-		return batchSize > 1 || persister.isBatchLoadable();
+		// with adaptive batch fetching, every collection is queued,
+		// in case its role is upgraded to batch fetching later
+		return batchSize > 1 || persister.isBatchLoadable() || adaptiveBatchFetching != null;
 	}
 
 	public int effectiveBatchSize(EntityPersister persister) {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return Math.max(
+				persisterBatchSize >= 0 ? persisterBatchSize : batchSize,
+				getAdaptiveBatchSize( persister )
+		);
 	}
 
 	public boolean effectivelyBatchLoadable(EntityPersister persister) {
-		return batchSize > 1 || persister.isBatchLoadable();
+		return batchSize > 1 || persister.isBatchLoadable() || adaptiveBatchFetching != null;
+	}
+
+	/**
+	 * The batch size chosen by {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} for proxies of the given entity, or {@code 0}.
+	 *
+	 * @since 6.4
+	 */
+	public int getAdaptiveBatchSize(EntityPersister persister) {
+		return adaptiveBatchFetching == null ? 0 : adaptiveBatchFetching.getBatchSize( persister.getEntityName() );
+	}
+
+	/**
+	 * The batch size chosen by {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} for the given collection, or {@code 0}.
+	 *
+	 * @since 6.4
+	 */
+	public int getAdaptiveBatchSize(CollectionPersister persister) {
+		return adaptiveBatchFetching == null ? 0 : adaptiveBatchFetching.getBatchSize( persister.getRole() );
+	}
+
+	/**
+	 * Record the lazy initialization of a proxy of the given entity, for
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}.
+	 *
+	 * @see SharedSessionContractImplementor#beforeLazyInitialization(EntityPersister)
+	 *
+	 * @since 6.4
+	 */
+	public void lazyInitialization(EntityPersister persister) {
+		if ( adaptiveBatchFetching != null ) {
+			adaptiveBatchFetching.initialized( persister.getEntityName(), false, sessionFactory.getStatistics() );
+		}
+	}
+
+	/**
+	 * Record the lazy initialization of an instance of the given collection,
+	 * for {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}.
+	 *
+	 * @see SharedSessionContractImplementor#beforeLazyInitialization(CollectionPersister)
+	 *
+	 * @since 6.4
+	 */
+	public void lazyInitialization(CollectionPersister persister) {
+		if ( adaptiveBatchFetching != null ) {
+			adaptiveBatchFetching.initialized( persister.getRole(), true, sessionFactory.getStatistics() );
+		}
 	}
 
 	public boolean getSubselectFetchEnabled() {
@@ -333,7 +398,8 @@ public class LoadQueryInfluencers implements Serializable {
 	public boolean effectiveSubselectFetchEnabled(CollectionPersister persister) {
 		return subselectFetchEnabled
 			|| persister.isSubselectLoadable()
-			|| isSubselectFetchEnabledInProfile( persister );
+			|| isSubselectFetchEnabledInProfile( persister )
+			|| adaptiveBatchFetching != null && adaptiveBatchFetching.isSubselectFetch( persister.getRole() );
 	}
 
 	private boolean isSubselectFetchEnabledInProfile(CollectionPersister persister) {
@@ -353,7 +419,7 @@ public class LoadQueryInfluencers implements Serializable {
 
 	public boolean hasSubselectLoadableCollections(EntityPersister persister) {
 		return persister.hasSubselectLoadableCollections()
-			|| subselectFetchEnabled && persister.hasCollections()
+			|| ( subselectFetchEnabled || adaptiveBatchFetching != null ) && persister.hasCollections()
 			|| hasSubselectLoadableCollectionsEnabledInProfile( persister );
 	}
 
@@ -532,6 +532,16 @@ public interface PersistenceContext {
 	@Internal
 	Map<EntityKey,EntityHolder> getEntityHoldersByKey();
 
+	/**
+	 * Pass the key of every entity or proxy subsequently added to this
+	 * persistence context to the given recorder, or stop doing so, if the
+	 * given recorder is {@code null}.
+	 *
+	 * @return the previous recorder, if any
+	 */
+	@Internal
+	@Nullable Consumer<EntityKey> setEntityKeyRecorder(@Nullable Consumer<EntityKey> recorder);
+
 	/**
 	 * Provides access to the entity/EntityEntry combos associated with the persistence context in a manner that
 	 * is safe from reentrant access.  Specifically, it is safe from additions/removals while iterating.
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+
+/**
+ * Enumerates the strategies for storing the entity instances, database snapshots,
+ * and collection wrappers held by a {@link PersistenceContext}, keyed by
+ * {@link EntityKey} and {@link CollectionKey}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_STORAGE
+ */
+@Incubating
+public enum PersistenceContextStorage {
+	/**
+	 * Use {@link java.util.HashMap}s, which allocate a node per entry.
+	 * This is the default.
+	 */
+	STANDARD,
+	/**
+	 * Use one {@linkplain org.hibernate.internal.util.collections.OpenAddressingMap
+	 * open-addressing table} per entity hierarchy and per collection role. This
+	 * avoids allocating a node for every entry, and is meant for sessions which
+	 * manage a very large number of entities.
+	 */
+	PARTITIONED;
+
+	/**
+	 * Interpret the configured {@link PersistenceContextStorage} value.
+	 * Valid values are either a {@link PersistenceContextStorage} object or
+	 * its case-insensitive string representation.
+	 *
+	 * @param storage configured {@link PersistenceContextStorage} representation
+	 * @return associated {@link PersistenceContextStorage} object
+	 */
+	public static PersistenceContextStorage interpret(Object storage) {
+		if ( storage == null ) {
+			return STANDARD;
+		}
+		else if ( storage instanceof PersistenceContextStorage ) {
+			return (PersistenceContextStorage) storage;
+		}
+		else if ( storage instanceof String ) {
+			final String name = ( (String) storage ).trim();
+			if ( name.isEmpty() ) {
+				return STANDARD;
+			}
+			for ( PersistenceContextStorage value : values() ) {
+				if ( value.name().equalsIgnoreCase( name ) ) {
+					return value;
+				}
+			}
+		}
+		throw new HibernateException(
+				"Unrecognized persistence_context.storage value : " + storage
+						+ ".  Supported values include 'standard' and 'partitioned'."
+		);
+	}
+}
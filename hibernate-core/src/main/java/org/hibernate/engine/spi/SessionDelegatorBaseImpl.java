@@ -47,6 +47,7 @@ import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.jdbc.Work;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
@@ -165,6 +166,26 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.immediateLoad( entityName, id );
 	}
 
+	@Override
+	public void beforeLazyInitialization(String role) {
+		delegate.beforeLazyInitialization( role );
+	}
+
+	@Override
+	public void beforeLazyInitialization(EntityPersister persister) {
+		delegate.beforeLazyInitialization( persister );
+	}
+
+	@Override
+	public void beforeLazyInitialization(CollectionPersister persister) {
+		delegate.beforeLazyInitialization( persister );
+	}
+
+	@Override
+	public void beforeSelectionQuery(String queryString) {
+		delegate.beforeSelectionQuery( queryString );
+	}
+
 	@Override
 	public SessionFactoryImplementor getFactory() {
 		return delegate.getFactory();
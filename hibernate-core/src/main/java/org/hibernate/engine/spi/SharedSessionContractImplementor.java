@@ -28,6 +28,7 @@ import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.LobCreationContext;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryProducerImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -566,6 +567,59 @@ public interface SharedSessionContractImplementor
 	 */
 	void afterOperation(boolean success);
 
+	/**
+	 * Called before the initialization of a lazy attribute hits the database,
+	 * so that it may be counted, and attributed to the last query executed by
+	 * this session.
+	 *
+	 * @param role The qualified name of the lazy attribute
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 *
+	 * @since 6.4
+	 */
+	default void beforeLazyInitialization(String role) {
+	}
+
+	/**
+	 * Called before the initialization of a proxy of the given entity hits the
+	 * database, so that it may be counted, attributed to the last query executed
+	 * by this session, and taken into account by adaptive batch fetching.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 6.4
+	 */
+	default void beforeLazyInitialization(EntityPersister persister) {
+	}
+
+	/**
+	 * Called before the initialization of an instance of the given collection
+	 * hits the database, so that it may be counted, attributed to the last
+	 * query executed by this session, and taken into account by adaptive batch
+	 * fetching.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 6.4
+	 */
+	default void beforeLazyInitialization(CollectionPersister persister) {
+	}
+
+	/**
+	 * Called before the execution of a selection query.
+	 *
+	 * @param queryString The HQL or SQL query string
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 *
+	 * @since 6.4
+	 */
+	default void beforeSelectionQuery(String queryString) {
+	}
+
 	/**
 	 * Cast this object to {@link SessionImplementor}, if possible.
 	 *
@@ -28,6 +28,7 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.jdbc.Work;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
@@ -419,6 +420,26 @@ public class SharedSessionDelegatorBaseImpl implements SharedSessionContractImpl
 		return delegate.immediateLoad( entityName, id );
 	}
 
+	@Override
+	public void beforeLazyInitialization(String role) {
+		delegate.beforeLazyInitialization( role );
+	}
+
+	@Override
+	public void beforeLazyInitialization(EntityPersister persister) {
+		delegate.beforeLazyInitialization( persister );
+	}
+
+	@Override
+	public void beforeLazyInitialization(CollectionPersister persister) {
+		delegate.beforeLazyInitialization( persister );
+	}
+
+	@Override
+	public void beforeSelectionQuery(String queryString) {
+		delegate.beforeSelectionQuery( queryString );
+	}
+
 	@Override
 	public EntityPersister getEntityPersister(@Nullable String entityName, Object object) throws HibernateException {
 		return delegate.getEntityPersister( entityName, object );
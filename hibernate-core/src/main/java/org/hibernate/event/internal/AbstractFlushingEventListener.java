@@ -212,9 +212,17 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		final int parallelDirtyCheckingThreshold =
+				source.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		final ParallelDirtyChecking.Precomputed[] precomputedDirtyChecks =
+				parallelDirtyCheckingThreshold > 0 && count >= parallelDirtyCheckingThreshold
+						? ParallelDirtyChecking.precompute( entityEntries, source )
+						: null;
+
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
@@ -222,6 +230,12 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( precomputedDirtyChecks != null && precomputedDirtyChecks[i] != null ) {
+					entityEvent.setPrecomputedDirtyCheck(
+							precomputedDirtyChecks[i].values,
+							precomputedDirtyChecks[i].dirtyProperties
+					);
+				}
 
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
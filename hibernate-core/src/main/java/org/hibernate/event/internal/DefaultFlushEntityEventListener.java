@@ -480,6 +480,24 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		logDirtyProperties( event.getEntityEntry(), dirtyProperties );
 	}
 
+	private static int[] findDirty(FlushEntityEvent event, Object[] values, Object[] loadedState) {
+		final EntityPersister persister = event.getEntityEntry().getPersister();
+		final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+		final int[] precomputedDirtyProperties = event.getPrecomputedDirtyProperties();
+		// a precomputed result only applies to the first dirty check,
+		// and not to the one following an interceptor or callback
+		event.setPrecomputedDirtyCheck( null, null );
+		if ( precomputedValues != null
+				&& ParallelDirtyChecking.isUnchanged( precomputedValues, values, persister.getPropertyTypes() ) ) {
+			// the dirty check was already done in parallel,
+			// and the state of the entity did not change since
+			return precomputedDirtyProperties;
+		}
+		else {
+			return persister.findDirty( values, loadedState, event.getEntity(), event.getSession() );
+		}
+	}
+
 	private static int[] performDirtyCheck(FlushEntityEvent event) {
 		final SessionImplementor session = event.getSession();
 		boolean dirtyCheckPossible;
@@ -495,7 +513,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = findDirty( event, values, loadedState );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -64,6 +64,7 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
+				source.beforeLazyInitialization( loadedPersister );
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, source, ce, loadedPersister );
 				if ( LOG.isTraceEnabled() ) {
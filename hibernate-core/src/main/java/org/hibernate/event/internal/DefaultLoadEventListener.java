@@ -541,7 +541,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 				}
 			}
 			else {
-				return load( event, persister, keyToLoad );
+				return loadNotManaged( event, persister, keyToLoad, options );
 			}
 		}
 	}
@@ -556,8 +556,8 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		}
 	}
 
-	private Object load(LoadEvent event, EntityPersister persister, EntityKey keyToLoad) {
-		final Object entity = loadFromCacheOrDatasource( event, persister, keyToLoad );
+	private Object loadNotManaged(LoadEvent event, EntityPersister persister, EntityKey keyToLoad, LoadType options) {
+		final Object entity = loadFromCacheOrDatasource( event, persister, keyToLoad, options );
 		if ( entity != null && persister.hasNaturalIdentifier() ) {
 			event.getSession().getPersistenceContextInternal().getNaturalIdResolutions()
 					.cacheResolutionFromLoad(
@@ -569,7 +569,11 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		return entity;
 	}
 
-	private Object loadFromCacheOrDatasource(LoadEvent event, EntityPersister persister, EntityKey keyToLoad) {
+	private Object loadFromCacheOrDatasource(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad,
+			LoadType options) {
 		final Object entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
 		if ( entity != null ) {
 			if ( LOG.isTraceEnabled() ) {
@@ -587,6 +591,10 @@ public class DefaultLoadEventListener implements LoadEventListener {
 						infoString( persister, event.getEntityId(), event.getSession().getFactory() )
 				);
 			}
+			if ( options == IMMEDIATE_LOAD ) {
+				// a proxy is being initialized, and this is where it hits the database
+				event.getSession().beforeLazyInitialization( persister );
+			}
 			return loadFromDatasource( event, persister );
 		}
 	}
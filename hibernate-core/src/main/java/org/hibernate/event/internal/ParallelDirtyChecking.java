@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Dirty checks the entities of a persistence context concurrently, ahead of
+ * the serial flush of each entity by {@link DefaultFlushEntityEventListener}.
+ * <p>
+ * Only the comparison of the current state of an entity with its loaded state,
+ * by {@link EntityPersister#findDirty}, happens here, and only when it cannot
+ * have side effects on the session: an association or collection which does
+ * not refer to the very same instance it was loaded with might need to be
+ * resolved or initialized to be compared, so the dirty check of an entity with
+ * such a property is left to the flush, as is that of any bytecode enhanced
+ * entity.
+ * <p>
+ * The flush only uses a precomputed result for its first dirty check of an
+ * entity, and only when the state it reads from the entity is still the state
+ * which was compared here: a value of a mutable type is compared with a copy
+ * taken here, and any other value must be the very same instance. User code,
+ * for example a callback of an entity flushed earlier, may change the state of
+ * an entity in the meantime, and the entity is then dirty checked again.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_EXECUTOR
+ */
+final class ParallelDirtyChecking {
+
+	/**
+	 * The outcome of the dirty check of an entity
+	 */
+	static final class Precomputed {
+		// the state which was compared, with a copy of each mutable value
+		final Object[] values;
+		// null if not dirty, as for EntityPersister.findDirty()
+		final int[] dirtyProperties;
+
+		private Precomputed(Object[] values, int[] dirtyProperties) {
+			this.values = values;
+			this.dirtyProperties = dirtyProperties;
+		}
+	}
+
+	private ParallelDirtyChecking() {
+	}
+
+	/**
+	 * @return The outcome of the dirty check of each entry, at the same index,
+	 * or {@code null} for entries which need to be dirty checked during flush
+	 */
+	static Precomputed[] precompute(Map.Entry<Object, EntityEntry>[] entityEntries, SessionImplementor session) {
+		final Precomputed[] results = new Precomputed[entityEntries.length];
+		final Map<EntityPersister, boolean[]> sideEffectFreeProperties = new IdentityHashMap<>();
+		final int[] candidates = new int[entityEntries.length];
+		int count = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Map.Entry<Object, EntityEntry> me = entityEntries[i];
+			if ( isCandidate( me.getKey(), me.getValue() ) ) {
+				sideEffectFreeProperties.computeIfAbsent(
+						me.getValue().getPersister(),
+						ParallelDirtyChecking::sideEffectFreeProperties
+				);
+				candidates[count++] = i;
+			}
+		}
+
+		final Executor executor = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingExecutor();
+		final int chunks = Math.min( count, Runtime.getRuntime().availableProcessors() );
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+		for ( int chunk = 0; chunk < chunks; chunk++ ) {
+			final int from = count * chunk / chunks;
+			final int to = count * ( chunk + 1 ) / chunks;
+			final Runnable task = () -> {
+				for ( int c = from; c < to; c++ ) {
+					final int i = candidates[c];
+					final EntityEntry entry = entityEntries[i].getValue();
+					results[i] = dirtyCheck(
+							entityEntries[i].getKey(),
+							entry,
+							entry.getPersister(),
+							sideEffectFreeProperties.get( entry.getPersister() ),
+							session
+					);
+				}
+			};
+			futures[chunk] = submit( task, executor );
+		}
+		CompletableFuture.allOf( futures ).join();
+		return results;
+	}
+
+	private static CompletableFuture<?> submit(Runnable task, Executor executor) {
+		try {
+			return CompletableFuture.runAsync( task, executor );
+		}
+		catch (RejectedExecutionException e) {
+			task.run();
+			return CompletableFuture.completedFuture( null );
+		}
+	}
+
+	/**
+	 * Whether the given state of an entity is still the state which was dirty
+	 * checked ahead of the flush.
+	 *
+	 * @param compared The {@linkplain Precomputed#values state which was compared}
+	 */
+	static boolean isUnchanged(Object[] compared, Object[] state, Type[] types) {
+		if ( compared.length != state.length ) {
+			return false;
+		}
+		for ( int i = 0; i < state.length; i++ ) {
+			final Object value = state[i];
+			if ( value != compared[i]
+					&& ( !isCopyable( types[i], value ) || !types[i].isEqual( compared[i], value ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isCandidate(Object entity, EntityEntry entry) {
+		return entry.getStatus() == Status.MANAGED
+			&& entry.getLoadedState() != null
+			&& entry.isModifiableEntity()
+			&& !isSelfDirtinessTracker( entity )
+			&& !isPersistentAttributeInterceptable( entity );
+	}
+
+	private static boolean[] sideEffectFreeProperties(EntityPersister persister) {
+		final Type[] types = persister.getPropertyTypes();
+		final boolean[] result = new boolean[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			result[i] = isSideEffectFree( types[i] );
+		}
+		return result;
+	}
+
+	private static boolean isSideEffectFree(Type type) {
+		if ( type.isAssociationType() || type.isAnyType() ) {
+			return false;
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( !isSideEffectFree( subtype ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isCopyable(Type type, Object value) {
+		return type.isMutable()
+			&& value != null
+			&& value != LazyPropertyInitializer.UNFETCHED_PROPERTY;
+	}
+
+	/**
+	 * Dirty check the entity by {@link EntityPersister#findDirty}, unless a
+	 * property cannot be compared without side effects.
+	 */
+	private static Precomputed dirtyCheck(
+			Object entity,
+			EntityEntry entry,
+			EntityPersister persister,
+			boolean[] sideEffectFree,
+			SessionImplementor session) {
+		try {
+			final Object[] currentState = persister.getValues( entity );
+			final Object[] loadedState = entry.getLoadedState();
+			for ( int i = 0; i < currentState.length; i++ ) {
+				if ( !sideEffectFree[i] && currentState[i] != loadedState[i] ) {
+					return null;
+				}
+			}
+			final int[] dirtyProperties = persister.findDirty( currentState, loadedState, entity, session );
+			return new Precomputed( copyMutableValues( currentState, persister, session.getFactory() ), dirtyProperties );
+		}
+		catch (RuntimeException e) {
+			// leave it to the flush, which reports any failure the usual way
+			return null;
+		}
+	}
+
+	private static Object[] copyMutableValues(
+			Object[] state,
+			EntityPersister persister,
+			SessionFactoryImplementor factory) {
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] copy = new Object[state.length];
+		for ( int i = 0; i < state.length; i++ ) {
+			copy[i] = isCopyable( types[i], state[i] ) ? types[i].deepCopy( state[i], factory ) : state[i];
+		}
+		return copy;
+	}
+}
@@ -20,6 +20,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private EntityEntry entityEntry;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
@@ -79,6 +81,35 @@ public class FlushEntityEvent extends AbstractEvent {
 		return entity;
 	}
 
+	/**
+	 * The property values from which {@link #getPrecomputedDirtyProperties()}
+	 * was computed ahead of the flush of this entity, with a copy of each value
+	 * of a mutable type, or {@code null} if the dirty check was not precomputed.
+	 *
+	 * @since 6.4
+	 */
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * The dirty properties computed ahead of the flush of this entity, by
+	 * comparing {@link #getPrecomputedPropertyValues()} with the loaded state.
+	 *
+	 * @since 6.4
+	 */
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	/**
+	 * @since 6.4
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -102,6 +133,8 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
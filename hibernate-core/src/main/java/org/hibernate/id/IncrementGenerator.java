@@ -12,6 +12,8 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -68,6 +70,8 @@ public class IncrementGenerator implements IdentifierGenerator, StandardGenerato
 
 	private IntegralDataTypeHolder previousValueHolder;
 
+	private final Lock lock = new ReentrantLock();
+
 	/**
 	 * @deprecated Exposed for tests only.
 	 */
@@ -77,11 +81,18 @@ public class IncrementGenerator implements IdentifierGenerator, StandardGenerato
 	}
 
 	@Override
-	public synchronized Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		if ( sql != null ) {
-			initializePreviousValueHolder( session );
+	public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+		// a lock rather than a monitor, since the first call queries the database
+		lock.lock();
+		try {
+			if ( sql != null ) {
+				initializePreviousValueHolder( session );
+			}
+			return previousValueHolder.makeValueThenIncrement();
+		}
+		finally {
+			lock.unlock();
 		}
-		return previousValueHolder.makeValueThenIncrement();
 	}
 
 	@Override
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} for many concurrent writers, which hands
+ * out the values of the current pool using an atomic counter, without locking.
+ * <p>
+ * Once half the values of the current pool are handed out, the thread which
+ * obtained the value at the middle of the pool reads the next pool from the
+ * database, so that the other threads may carry on with the remaining values
+ * of the current pool in the meantime. Threads wait only if the current pool
+ * is exhausted before the next pool was read.
+ * <p>
+ * The next pool is always read by one of the threads which generate values,
+ * using its own {@link AccessCallback}, and never in the background, since the
+ * callback uses the connection of the session which requested the value.
+ * Like any pooled optimizer, values of a pool which was read, but not entirely
+ * used, are lost when the {@code SessionFactory} is closed.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledLoConcurrentOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState state = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return (Serializable) IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+				.initialize( state.generate( callback, incrementSize ) )
+				.makeValue();
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * A pool of values, from the value read from the database, inclusive, to the
+	 * upper limit, exclusive.
+	 */
+	private static class Pool {
+		private final AtomicLong nextValue;
+		private final long upperLimit;
+		// the value whose generation triggers the read of the next pool
+		private final long prefetchValue;
+
+		private Pool(long lowValue, long upperLimit) {
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final long firstValue = Math.max( lowValue, 1 );
+			this.nextValue = new AtomicLong( firstValue );
+			this.upperLimit = upperLimit;
+			this.prefetchValue = firstValue + ( upperLimit - firstValue ) / 2;
+		}
+	}
+
+	private static class GenerationState {
+		// guards the reads from the database
+		private final ReentrantLock lock = new ReentrantLock();
+		private volatile Pool current;
+		// guarded by the lock
+		private Pool next;
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private long generate(AccessCallback callback, int incrementSize) {
+			while ( true ) {
+				final Pool pool = current;
+				if ( pool != null ) {
+					final long value = pool.nextValue.getAndIncrement();
+					if ( value < pool.upperLimit ) {
+						if ( value == pool.prefetchValue ) {
+							prefetch( pool, callback, incrementSize );
+						}
+						return value;
+					}
+				}
+				replaceExhausted( pool, callback, incrementSize );
+			}
+		}
+
+		/**
+		 * Read the next pool, while other threads use the rest of the given pool.
+		 */
+		private void prefetch(Pool pool, AccessCallback callback, int incrementSize) {
+			lock.lock();
+			try {
+				if ( current == pool && next == null ) {
+					next = read( callback, incrementSize );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Replace the given exhausted pool with the next pool, unless another
+		 * thread already did, reading the next pool if it was not prefetched.
+		 */
+		private void replaceExhausted(Pool pool, AccessCallback callback, int incrementSize) {
+			lock.lock();
+			try {
+				if ( current == pool ) {
+					if ( next != null ) {
+						current = next;
+						next = null;
+					}
+					else {
+						current = read( callback, incrementSize );
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private Pool read(AccessCallback callback, int incrementSize) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			final long lowValue = sourceValue.makeValue().longValue();
+			return new Pool( lowValue, lowValue + incrementSize );
+		}
+	}
+}
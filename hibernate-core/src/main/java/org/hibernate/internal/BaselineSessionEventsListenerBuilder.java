@@ -9,6 +9,8 @@ package org.hibernate.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
@@ -23,6 +25,7 @@ public class BaselineSessionEventsListenerBuilder {
 
 	private final boolean logSessionMetrics;
 	private final Class<? extends SessionEventListener> autoListener;
+	private final List<Supplier<? extends SessionEventListener>> listenerSuppliers = new CopyOnWriteArrayList<>();
 
 	public BaselineSessionEventsListenerBuilder(
 			boolean logSessionMetrics,
@@ -41,6 +44,19 @@ public class BaselineSessionEventsListenerBuilder {
 		return autoListener;
 	}
 
+	/**
+	 * Register a supplier of a {@link SessionEventListener} to be added to
+	 * every session opened from now on. Intended for integrations which
+	 * need to observe every session, for example, to collect metrics.
+	 *
+	 * @param listenerSupplier called once for every new session
+	 *
+	 * @since 6.4
+	 */
+	public void addListenerSupplier(Supplier<? extends SessionEventListener> listenerSupplier) {
+		listenerSuppliers.add( listenerSupplier );
+	}
+
 	public List<SessionEventListener> buildBaselineList() {
 		final SessionEventListener[] sessionEventListeners = buildBaseline();
 		//Capacity: needs to hold at least all elements from the baseline, but also expect to add a little more later.
@@ -53,7 +69,20 @@ public class BaselineSessionEventsListenerBuilder {
 		final boolean addStats = logSessionMetrics && StatisticalLoggingSessionEventListener.isLoggingEnabled();
 		final boolean addAutoListener = autoListener != null;
 		final SessionEventListener[] arr;
-		if ( addStats && addAutoListener ) {
+		if ( !listenerSuppliers.isEmpty() ) {
+			final List<SessionEventListener> list = new ArrayList<>( listenerSuppliers.size() + 2 );
+			if ( addStats ) {
+				list.add( buildStatsListener() );
+			}
+			if ( addAutoListener ) {
+				list.add( buildAutoListener( autoListener ) );
+			}
+			for ( Supplier<? extends SessionEventListener> listenerSupplier : listenerSuppliers ) {
+				list.add( listenerSupplier.get() );
+			}
+			arr = list.toArray( EMPTY );
+		}
+		else if ( addStats && addAutoListener ) {
 			arr = new SessionEventListener[2];
 			arr[0] = buildStatsListener();
 			arr[1] = buildAutoListener( autoListener );
@@ -81,6 +81,11 @@ public final class JdbcObserverImpl implements JdbcObserver {
 		eventListenerManager.jdbcExecuteBatchEnd();
 	}
 
+	@Override
+	public void jdbcBatchExecuted(int batchSize) {
+		eventListenerManager.jdbcBatchExecuted( batchSize );
+	}
+
 	@Override
 	public void jdbcReleaseRegistryResourcesStart() {
 		abortBatch.run();
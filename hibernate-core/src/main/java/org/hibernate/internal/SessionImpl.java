@@ -52,6 +52,7 @@ import org.hibernate.UnresolvableObjectException;
 import org.hibernate.binder.internal.TenantIdBinder;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.internal.NPlusOneSelectDetector;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.NonContextualLobCreator;
@@ -62,6 +63,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -118,6 +120,7 @@ import org.hibernate.loader.internal.IdentifierLoadAccessImpl;
 import org.hibernate.loader.internal.LoadAccessContext;
 import org.hibernate.loader.internal.NaturalIdLoadAccessImpl;
 import org.hibernate.loader.internal.SimpleNaturalIdLoadAccessImpl;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.procedure.ProcedureCall;
@@ -222,6 +225,9 @@ public class SessionImpl
 
 	private transient TransactionObserver transactionObserver;
 
+	// null unless N+1 selects detection is enabled
+	private transient NPlusOneSelectDetector nPlusOneSelectDetector;
+
 	// TODO: this is unused and can be removed
 	private transient boolean isEnforcingFetchGraph;
 
@@ -250,6 +256,14 @@ public class SessionImpl
 
 		loadQueryInfluencers = new LoadQueryInfluencers( factory, options );
 
+		final int nPlusOneSelectThreshold = factory.getSessionFactoryOptions().getNPlusOneSelectThreshold();
+		if ( nPlusOneSelectThreshold > 0 ) {
+			nPlusOneSelectDetector = new NPlusOneSelectDetector(
+					nPlusOneSelectThreshold,
+					factory.getSessionFactoryOptions().isFailOnNPlusOneSelectEnabled()
+			);
+		}
+
 		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.openSession();
@@ -1065,6 +1079,36 @@ public class SessionImpl
 		return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
 	}
 
+	@Override
+	public void beforeLazyInitialization(String role) {
+		final StatisticsImplementor statistics = getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.lazyInitialization( role );
+		}
+		if ( nPlusOneSelectDetector != null ) {
+			nPlusOneSelectDetector.lazyInitialization( role, statistics );
+		}
+	}
+
+	@Override
+	public void beforeLazyInitialization(EntityPersister persister) {
+		loadQueryInfluencers.lazyInitialization( persister );
+		beforeLazyInitialization( persister.getEntityName() );
+	}
+
+	@Override
+	public void beforeLazyInitialization(CollectionPersister persister) {
+		loadQueryInfluencers.lazyInitialization( persister );
+		beforeLazyInitialization( persister.getRole() );
+	}
+
+	@Override
+	public void beforeSelectionQuery(String queryString) {
+		if ( nPlusOneSelectDetector != null ) {
+			nPlusOneSelectDetector.queryExecuted( queryString );
+		}
+	}
+
 	@Override
 	public Object internalLoad(String entityName, Object id, boolean eager, boolean nullable) {
 		final LoadType type = internalLoadType( eager, nullable );
@@ -1238,8 +1282,15 @@ public class SessionImpl
 	// it seems they prevent these hot methods from being inlined.
 	private void fireLoadNoChecks(final LoadEvent event, final LoadType loadType) {
 		pulseTransactionCoordinator();
-		fastSessionServices.eventListenerGroup_LOAD
-				.fireEventOnEachListener( event, loadType, LoadEventListener::onLoad );
+		final SessionEventListenerManager eventListenerManager = getEventListenerManager();
+		eventListenerManager.entityLoadStart();
+		try {
+			fastSessionServices.eventListenerGroup_LOAD
+					.fireEventOnEachListener( event, loadType, LoadEventListener::onLoad );
+		}
+		finally {
+			eventListenerManager.entityLoadEnd( event.getEntityClassName() );
+		}
 	}
 
 	private void fireResolveNaturalId(final ResolveNaturalIdEvent event) {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.persistence.EntityGraph;
@@ -69,6 +71,8 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	private static final int INSERT_MULTIPLE_CHUNK_SIZE = 1000;
+
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
@@ -116,6 +120,53 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public void insertMultiple(Iterable<?> entities) {
+		checkOpen();
+		final List<Object> ids = new ArrayList<>();
+		final List<Object[]> states = new ArrayList<>();
+		final List<Object> chunk = new ArrayList<>();
+		EntityPersister chunkPersister = null;
+		for ( Object entity : entities ) {
+			final EntityPersister persister = getEntityPersister( null, entity );
+			final Generator generator = persister.getGenerator();
+			final boolean generatedOnExecution = generator.generatedOnExecution( entity, this );
+			if ( persister != chunkPersister || chunk.size() == INSERT_MULTIPLE_CHUNK_SIZE || generatedOnExecution ) {
+				// preserve the order of the inserts
+				insertChunk( chunkPersister, ids, states, chunk );
+				chunkPersister = persister;
+			}
+			if ( generatedOnExecution ) {
+				insert( null, entity );
+			}
+			else {
+				final Object[] state = persister.getValues( entity );
+				final Object id = ( (BeforeExecutionGenerator) generator).generate( this, entity, null, INSERT );
+				// a later entity of the chunk might refer to this one, and
+				// its foreign key is only read when the chunk is inserted
+				persister.setIdentifier( entity, id, this );
+				if ( persister.isVersioned() ) {
+					if ( seedVersion( entity, state, persister, this ) ) {
+						persister.setValues( entity, state );
+					}
+				}
+				ids.add( id );
+				states.add( state );
+				chunk.add( entity );
+			}
+		}
+		insertChunk( chunkPersister, ids, states, chunk );
+	}
+
+	private void insertChunk(EntityPersister persister, List<Object> ids, List<Object[]> states, List<Object> chunk) {
+		if ( !chunk.isEmpty() ) {
+			persister.insertMultiple( ids, states, chunk, this );
+			ids.clear();
+			states.clear();
+			chunk.clear();
+		}
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -0,0 +1,454 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code Map} using open addressing with linear probing over flat arrays,
+ * rather than a table of linked nodes like {@link java.util.HashMap}.
+ * <p>
+ * The (spread) hash of every key is cached in a parallel {@code int[]}, so
+ * that probing only calls {@link Object#equals} on keys with a matching hash.
+ * Adding an entry never allocates, except when the table needs to grow.
+ * <p>
+ * Removed entries leave a tombstone behind, which keeps removal through an
+ * {@linkplain Iterator#remove() iterator} safe; tombstones are purged when the
+ * table is rehashed.
+ * <p>
+ * Null keys are not supported. This class is not thread-safe.
+ */
+public final class OpenAddressingMap<K,V> extends AbstractMap<K,V> {
+
+	private static final Object TOMBSTONE = new Object();
+	private static final int MIN_CAPACITY = 8;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+
+	private int size;
+	// number of slots which are not null, including tombstones
+	private int used;
+	private int modCount;
+
+	private transient Set<K> keySet;
+	private transient Collection<V> valueCollection;
+	private transient Set<Entry<K,V>> entrySet;
+
+	public OpenAddressingMap() {
+		this( MIN_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of entries the map should be able to hold without rehashing
+	 */
+	public OpenAddressingMap(int expectedSize) {
+		allocate( tableSizeFor( expectedSize ) );
+	}
+
+	private static int tableSizeFor(int expectedSize) {
+		// keep the load factor of a freshly (re)hashed table at or below 1/2
+		int capacity = MIN_CAPACITY;
+		while ( capacity < MAX_CAPACITY && capacity < expectedSize * 2 ) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static int hash(Object key) {
+		final int h = key.hashCode() * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+	}
+
+	private int threshold() {
+		// rehash once three quarters of the slots are in use
+		return keys.length - ( keys.length >>> 2 );
+	}
+
+	private int indexOf(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final int hash = hash( key );
+		final Object[] keys = this.keys;
+		final int mask = keys.length - 1;
+		int index = hash & mask;
+		Object candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate != TOMBSTONE && hashes[index] == hash
+					&& ( candidate == key || candidate.equals( key ) ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public V get(Object key) {
+		final int index = indexOf( key );
+		//noinspection unchecked
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private V put(K key, V value, boolean onlyIfAbsent) {
+		Objects.requireNonNull( key );
+		final int hash = hash( key );
+		final Object[] keys = this.keys;
+		final int mask = keys.length - 1;
+		int index = hash & mask;
+		int firstTombstone = -1;
+		Object candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( hashes[index] == hash && ( candidate == key || candidate.equals( key ) ) ) {
+				//noinspection unchecked
+				final V previous = (V) values[index];
+				if ( !onlyIfAbsent || previous == null ) {
+					values[index] = value;
+				}
+				return previous;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		if ( firstTombstone >= 0 ) {
+			index = firstTombstone;
+		}
+		else {
+			used++;
+		}
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		size++;
+		modCount++;
+
+		if ( used > threshold() ) {
+			rehash( tableSizeFor( size ) );
+		}
+		return null;
+	}
+
+	private void rehash(int capacity) {
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		allocate( capacity );
+		final int mask = capacity - 1;
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final Object key = oldKeys[i];
+			if ( key != null && key != TOMBSTONE ) {
+				int index = oldHashes[i] & mask;
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+		used = size;
+	}
+
+	@Override
+	public V remove(Object key) {
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		//noinspection unchecked
+		final V previous = (V) values[index];
+		removeAt( index );
+		return previous;
+	}
+
+	private void removeAt(int index) {
+		keys[index] = TOMBSTONE;
+		values[index] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( used > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			size = 0;
+			used = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		final Object[] keys = this.keys;
+		final Object[] values = this.values;
+		for ( int i = 0; i < keys.length; i++ ) {
+			final Object key = keys[i];
+			if ( key != null && key != TOMBSTONE ) {
+				//noinspection unchecked
+				action.accept( (K) key, (V) values[i] );
+				if ( modCount != expectedModCount ) {
+					throw new ConcurrentModificationException();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new AbstractSet<>() {
+				@Override
+				public Iterator<K> iterator() {
+					return new SlotIterator<>() {
+						@Override
+						K element(int index) {
+							//noinspection unchecked
+							return (K) keys[index];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object key) {
+					return containsKey( key );
+				}
+
+				@Override
+				public boolean remove(Object key) {
+					final int index = indexOf( key );
+					if ( index < 0 ) {
+						return false;
+					}
+					removeAt( index );
+					return true;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valueCollection == null ) {
+			valueCollection = new AbstractCollection<>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new SlotIterator<>() {
+						@Override
+						V element(int index) {
+							//noinspection unchecked
+							return (V) values[index];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return valueCollection;
+	}
+
+	@Override
+	public Set<Entry<K,V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<K,V>> iterator() {
+					return new SlotIterator<>() {
+						@Override
+						Entry<K,V> element(int index) {
+							return new SlotEntry( index );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	private final class SlotEntry implements Entry<K,V> {
+		private final int index;
+		private final K key;
+
+		private SlotEntry(int index) {
+			this.index = index;
+			//noinspection unchecked
+			this.key = (K) keys[index];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			//noinspection unchecked
+			return keys[index] == key ? (V) values[index] : get( key );
+		}
+
+		@Override
+		public V setValue(V value) {
+			if ( keys[index] != key ) {
+				return put( key, value );
+			}
+			//noinspection unchecked
+			final V previous = (V) values[index];
+			values[index] = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Entry ) ) {
+				return false;
+			}
+			final Entry<?,?> other = (Entry<?,?>) o;
+			return key.equals( other.getKey() ) && Objects.equals( getValue(), other.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+
+	private abstract class SlotIterator<E> implements Iterator<E> {
+		private final Object[] keys = OpenAddressingMap.this.keys;
+		private int expectedModCount = modCount;
+		private int next = advance( 0 );
+		private int current = -1;
+
+		abstract E element(int index);
+
+		private int advance(int from) {
+			for ( int i = from; i < keys.length; i++ ) {
+				final Object key = keys[i];
+				if ( key != null && key != TOMBSTONE ) {
+					return i;
+				}
+			}
+			return keys.length;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < keys.length;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= keys.length ) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			next = advance( current + 1 );
+			return element( current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( current );
+			expectedModCount = modCount;
+			current = -1;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A {@code Map} which splits its entries into one {@link OpenAddressingMap}
+ * per <em>partition</em>, as determined by a partitioning function applied
+ * to the keys.
+ * <p>
+ * The partition of the most recently accessed key is remembered, so that
+ * runs of operations against the same partition (for example, loading many
+ * instances of the same entity) skip the partition lookup altogether, as long
+ * as the partitioning function returns the same instance for keys belonging to
+ * the same partition. Since every partition is a separate table, the tables
+ * stay small, and growing one of them never rehashes the entries of the others.
+ * <p>
+ * Null keys are not supported. This class is not thread-safe.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class PartitionedMap<K,V> extends AbstractMap<K,V> {
+
+	private final Class<K> keyType;
+	private final Function<? super K, ?> partitioner;
+	private final int initialPartitionSize;
+
+	private final OpenAddressingMap<Object, OpenAddressingMap<K,V>> partitions = new OpenAddressingMap<>();
+	private Object lastPartitionKey;
+	private OpenAddressingMap<K,V> lastPartition;
+	private int size;
+
+	private transient Collection<V> valueCollection;
+	private transient Set<Entry<K,V>> entrySet;
+
+	/**
+	 * @param keyType The type of the keys, used to safely reject lookups with keys of another type
+	 * @param partitioner Determines the partition of a key; must never return {@code null}
+	 * @param initialPartitionSize The expected number of entries of each partition
+	 */
+	public PartitionedMap(Class<K> keyType, Function<? super K, ?> partitioner, int initialPartitionSize) {
+		this.keyType = keyType;
+		this.partitioner = partitioner;
+		this.initialPartitionSize = initialPartitionSize;
+	}
+
+	private OpenAddressingMap<K,V> partition(Object key, boolean create) {
+		if ( !keyType.isInstance( key ) ) {
+			return null;
+		}
+		final Object partitionKey = partitioner.apply( keyType.cast( key ) );
+		if ( partitionKey == lastPartitionKey ) {
+			return lastPartition;
+		}
+		OpenAddressingMap<K,V> partition = partitions.get( partitionKey );
+		if ( partition == null ) {
+			if ( !create ) {
+				return null;
+			}
+			partition = new OpenAddressingMap<>( initialPartitionSize );
+			partitions.put( partitionKey, partition );
+		}
+		lastPartitionKey = partitionKey;
+		lastPartition = partition;
+		return partition;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		final OpenAddressingMap<K,V> partition = partition( key, false );
+		return partition != null && partition.containsKey( key );
+	}
+
+	@Override
+	public V get(Object key) {
+		final OpenAddressingMap<K,V> partition = partition( key, false );
+		return partition == null ? null : partition.get( key );
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final OpenAddressingMap<K,V> partition = partition( key, true );
+		final int before = partition.size();
+		final V previous = partition.put( key, value );
+		size += partition.size() - before;
+		return previous;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		final OpenAddressingMap<K,V> partition = partition( key, true );
+		final int before = partition.size();
+		final V previous = partition.putIfAbsent( key, value );
+		size += partition.size() - before;
+		return previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		final OpenAddressingMap<K,V> partition = partition( key, false );
+		if ( partition == null ) {
+			return null;
+		}
+		final int before = partition.size();
+		final V previous = partition.remove( key );
+		size += partition.size() - before;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		partitions.clear();
+		lastPartitionKey = null;
+		lastPartition = null;
+		size = 0;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for ( OpenAddressingMap<K,V> partition : partitions.values() ) {
+			partition.forEach( action );
+		}
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valueCollection == null ) {
+			valueCollection = new AbstractCollection<>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new PartitionsIterator<>() {
+						@Override
+						Iterator<V> iterator(OpenAddressingMap<K,V> partition) {
+							return partition.values().iterator();
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					PartitionedMap.this.clear();
+				}
+			};
+		}
+		return valueCollection;
+	}
+
+	@Override
+	public Set<Entry<K,V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<K,V>> iterator() {
+					return new PartitionsIterator<>() {
+						@Override
+						Iterator<Entry<K,V>> iterator(OpenAddressingMap<K,V> partition) {
+							return partition.entrySet().iterator();
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					PartitionedMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	private abstract class PartitionsIterator<E> implements Iterator<E> {
+		private final Iterator<OpenAddressingMap<K,V>> partitionIterator = partitions.values().iterator();
+		private Iterator<E> current = Collections.emptyIterator();
+		private Iterator<E> lastReturnedFrom;
+
+		abstract Iterator<E> iterator(OpenAddressingMap<K,V> partition);
+
+		@Override
+		public boolean hasNext() {
+			while ( !current.hasNext() ) {
+				if ( !partitionIterator.hasNext() ) {
+					return false;
+				}
+				current = iterator( partitionIterator.next() );
+			}
+			return true;
+		}
+
+		@Override
+		public E next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			lastReturnedFrom = current;
+			return current.next();
+		}
+
+		@Override
+		public void remove() {
+			if ( lastReturnedFrom == null ) {
+				throw new IllegalStateException();
+			}
+			lastReturnedFrom.remove();
+			lastReturnedFrom = null;
+			size--;
+		}
+	}
+}
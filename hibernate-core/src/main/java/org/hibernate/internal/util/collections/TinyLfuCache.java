@@ -0,0 +1,343 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A concurrent cache bounded by the total <em>weight</em> of its entries, with
+ * a frequency-aware admission policy, following the W-TinyLFU design described
+ * in <a href="https://arxiv.org/abs/1512.00727">TinyLFU: A Highly Efficient
+ * Cache Admission Policy</a>.
+ * <p>
+ * New entries are first held by a small LRU <em>window</em>. When an entry is
+ * pushed out of the window, it is only admitted to the <em>main</em> LRU space
+ * if it was accessed more frequently than the entries it would evict, as
+ * estimated by a compact count-min sketch of the recent accesses to every key,
+ * including keys which are not currently cached. Entries which are only ever
+ * used once therefore never evict frequently used entries, unlike with pure LRU
+ * or LIRS eviction.
+ * <p>
+ * Lookups never block: a cache hit only reorders the LRU lists if the eviction
+ * lock is immediately available. Null keys and values are not supported.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class TinyLfuCache<K,V> {
+
+	private final ConcurrentHashMap<K, Node<K,V>> data;
+	private final ToIntFunction<? super K> weigher;
+	private final BiConsumer<? super K, ? super V> evictionListener;
+	private final FrequencySketch sketch;
+
+	private final long maximumWindowWeight;
+	private final long maximumMainWeight;
+
+	// guarded by evictionLock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final Node<K,V> window = Node.sentinel();
+	private final Node<K,V> main = Node.sentinel();
+	private long windowWeight;
+	private long mainWeight;
+
+	/**
+	 * @param maximumWeight The maximum total weight of the entries
+	 * @param weigher Determines the weight of the entry for a key, which must be at least {@code 1}
+	 * @param evictionListener Notified of every entry evicted, or rejected, by the cache
+	 */
+	public TinyLfuCache(
+			long maximumWeight,
+			ToIntFunction<? super K> weigher,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		if ( maximumWeight < 1 ) {
+			throw new IllegalArgumentException( "Maximum weight must be positive" );
+		}
+		this.weigher = weigher;
+		this.evictionListener = evictionListener;
+		// the window holds 1% of the weight, as suggested by the paper
+		this.maximumWindowWeight = Math.max( 1, maximumWeight / 100 );
+		this.maximumMainWeight = Math.max( 1, maximumWeight - maximumWindowWeight );
+		final int expectedSize = (int) Math.min( maximumWeight, 1 << 20 );
+		this.data = new ConcurrentHashMap<>( Math.min( expectedSize, 1024 ) );
+		this.sketch = new FrequencySketch( expectedSize );
+	}
+
+	public V get(Object key) {
+		final Node<K,V> node = data.get( key );
+		sketch.increment( key.hashCode() );
+		if ( node == null ) {
+			return null;
+		}
+		if ( evictionLock.tryLock() ) {
+			try {
+				if ( node.isLinked() ) {
+					node.unlink();
+					node.linkBefore( node.inWindow ? window : main );
+				}
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+		return node.value;
+	}
+
+	/**
+	 * Return the cached value for the given key, creating, and possibly caching,
+	 * it when absent. The value is created outside any lock, so it might be created
+	 * more than once for the same key by concurrent callers.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+		final V cached = get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		final V created = Objects.requireNonNull( creator.apply( key ) );
+		put( key, created );
+		return created;
+	}
+
+	public void put(K key, V value) {
+		final Node<K,V> node = new Node<>( key, Objects.requireNonNull( value ), Math.max( 1, weigher.applyAsInt( key ) ) );
+		evictionLock.lock();
+		try {
+			final Node<K,V> replaced = data.put( key, node );
+			if ( replaced != null ) {
+				removeFromList( replaced );
+			}
+			node.inWindow = true;
+			node.linkBefore( window );
+			windowWeight += node.weight;
+			while ( windowWeight > maximumWindowWeight ) {
+				final Node<K,V> candidate = window.next;
+				removeFromList( candidate );
+				admit( candidate );
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	// guarded by evictionLock
+	private void admit(Node<K,V> candidate) {
+		final int candidateFrequency = sketch.frequency( candidate.key.hashCode() );
+		while ( mainWeight + candidate.weight > maximumMainWeight ) {
+			final Node<K,V> victim = main.next;
+			if ( victim == main || sketch.frequency( victim.key.hashCode() ) >= candidateFrequency ) {
+				evict( candidate );
+				return;
+			}
+			removeFromList( victim );
+			evict( victim );
+		}
+		candidate.inWindow = false;
+		candidate.linkBefore( main );
+		mainWeight += candidate.weight;
+	}
+
+	// guarded by evictionLock
+	private void removeFromList(Node<K,V> node) {
+		if ( node.isLinked() ) {
+			node.unlink();
+			if ( node.inWindow ) {
+				windowWeight -= node.weight;
+			}
+			else {
+				mainWeight -= node.weight;
+			}
+		}
+	}
+
+	// guarded by evictionLock
+	private void evict(Node<K,V> node) {
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key, node.value );
+		}
+	}
+
+	public V remove(Object key) {
+		evictionLock.lock();
+		try {
+			final Node<K,V> node = data.remove( key );
+			if ( node == null ) {
+				return null;
+			}
+			removeFromList( node );
+			return node.value;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			window.next = window.previous = window;
+			main.next = main.previous = main;
+			windowWeight = 0;
+			mainWeight = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * The total weight of the cached entries.
+	 */
+	public long weightedSize() {
+		evictionLock.lock();
+		try {
+			return windowWeight + mainWeight;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Node<K,V> {
+		final K key;
+		final V value;
+		final int weight;
+		boolean inWindow;
+		Node<K,V> previous;
+		Node<K,V> next;
+
+		Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+
+		static <K,V> Node<K,V> sentinel() {
+			final Node<K,V> sentinel = new Node<>( null, null, 0 );
+			sentinel.previous = sentinel;
+			sentinel.next = sentinel;
+			return sentinel;
+		}
+
+		boolean isLinked() {
+			return next != null;
+		}
+
+		void linkBefore(Node<K,V> successor) {
+			previous = successor.previous;
+			next = successor;
+			previous.next = this;
+			successor.previous = this;
+		}
+
+		void unlink() {
+			previous.next = next;
+			next.previous = previous;
+			previous = null;
+			next = null;
+		}
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters, four per key, estimating how often
+	 * each key was accessed recently. All counters are halved periodically, so
+	 * that keys which stop being used eventually lose their past popularity.
+	 */
+	static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final AtomicLongArray table;
+		private final int tableMask;
+		private final int sampleSize;
+		private final AtomicInteger additions = new AtomicInteger();
+
+		FrequencySketch(int expectedSize) {
+			int length = 16;
+			while ( length < expectedSize && length < ( 1 << 24 ) ) {
+				length <<= 1;
+			}
+			this.table = new AtomicLongArray( length );
+			this.tableMask = length - 1;
+			this.sampleSize = 10 * length;
+		}
+
+		int frequency(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table.get( index ) >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && additions.incrementAndGet() == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			while ( true ) {
+				final long value = table.get( index );
+				if ( ( value & mask ) == mask ) {
+					// saturated
+					return false;
+				}
+				if ( table.compareAndSet( index, value, value + ( 1L << offset ) ) ) {
+					return true;
+				}
+			}
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length(); i++ ) {
+				long value;
+				do {
+					value = table.get( i );
+				} while ( !table.compareAndSet( i, value, ( value >>> 1 ) & RESET_MASK ) );
+			}
+			additions.addAndGet( -sampleSize / 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int hashCode) {
+			int h = hashCode * 0x9E3779B9;
+			return h ^ ( h >>> 16 );
+		}
+	}
+}
@@ -223,4 +223,26 @@ public interface HibernateHints {
 	 * @since 6.3
 	 */
 	String HINT_QUERY_PLAN_CACHEABLE = "hibernate.query.plan.cacheable";
+
+	/**
+	 * Hint to {@linkplain org.hibernate.Session#detach detach} the entities
+	 * returned by a query executed as a {@linkplain org.hibernate.query.SelectionQuery#stream
+	 * stream} as soon as the stream moves on to the next result, so that the
+	 * persistence context does not grow with the number of results streamed.
+	 * <p>
+	 * Every entity, or proxy, which a result adds to the persistence context
+	 * is detached, including associated entities fetched along with it.
+	 * Changes made to such an entity are never flushed. An entity which was
+	 * already managed before the result was read, or which the application
+	 * loads while iterating, is left alone, along with its pending changes.
+	 * Detaching an entity does not cascade to its associations.
+	 * <p>
+	 * This is useful to export a very large number of entities in constant
+	 * memory, usually along with a {@linkplain #HINT_FETCH_SIZE fetch size},
+	 * and with {@linkplain #HINT_READ_ONLY read-only} mode, which avoids
+	 * taking a snapshot of the state of each entity.
+	 *
+	 * @since 6.4
+	 */
+	String HINT_STREAM_DETACHED = "org.hibernate.streamDetached";
 }
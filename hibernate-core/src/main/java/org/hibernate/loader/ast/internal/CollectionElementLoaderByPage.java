@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.Loader;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.OneToManyCollectionPart;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.spi.Limit;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryOptionsAdapter;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+/**
+ * Loads a page of the elements of a collection, for
+ * {@linkplain org.hibernate.annotations.PagedIteration paged iteration}.
+ * <p>
+ * The elements are ordered by the {@linkplain org.hibernate.annotations.OrderBy
+ * order} of the collection, if any, and then by its index, if any, or otherwise
+ * by the identifiers of the elements, so that consecutive pages do not overlap.
+ */
+public class CollectionElementLoaderByPage implements Loader {
+	private final PluralAttributeMapping attributeMapping;
+	private final SelectStatement sqlAst;
+	private final JdbcParametersList jdbcParameters;
+
+	public CollectionElementLoaderByPage(
+			PluralAttributeMapping attributeMapping,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		this.attributeMapping = attributeMapping;
+
+		final JdbcParametersList.Builder jdbcParametersBuilder =
+				JdbcParametersList.newBuilder( attributeMapping.getKeyDescriptor().getJdbcTypeCount() );
+		this.sqlAst = LoaderSelectBuilder.createSelect(
+				attributeMapping,
+				List.of( attributeMapping.getElementDescriptor() ),
+				attributeMapping.getKeyDescriptor(),
+				null,
+				1,
+				influencers,
+				LockOptions.NONE,
+				jdbcParametersBuilder::add,
+				sessionFactory
+		);
+		this.jdbcParameters = jdbcParametersBuilder.build();
+
+		final QuerySpec querySpec = sqlAst.getQuerySpec();
+		final TableGroup tableGroup = querySpec.getFromClause().getRoots().get( 0 );
+		getOrderingPart( attributeMapping ).forEachSelectable(
+				(selectionIndex, selectableMapping) -> querySpec.addSortSpecification(
+						new SortSpecification(
+								new ColumnReference(
+										tableGroup.resolveTableReference(
+												tableGroup.getNavigablePath(),
+												selectableMapping.getContainingTableExpression()
+										),
+										selectableMapping
+								),
+								SortDirection.ASCENDING
+						)
+				)
+		);
+	}
+
+	private static ModelPart getOrderingPart(PluralAttributeMapping attributeMapping) {
+		if ( attributeMapping.getIndexDescriptor() != null ) {
+			return attributeMapping.getIndexDescriptor();
+		}
+		else if ( attributeMapping.getElementDescriptor() instanceof OneToManyCollectionPart ) {
+			// the columns of the element itself are the foreign key
+			// to the owner, which is the same for every element
+			return ( (OneToManyCollectionPart) attributeMapping.getElementDescriptor() )
+					.getAssociatedEntityMappingType()
+					.getIdentifierMapping();
+		}
+		else {
+			return attributeMapping.getElementDescriptor();
+		}
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return attributeMapping;
+	}
+
+	/**
+	 * Load the elements of the collection with the given key from the given
+	 * (zero-based) position on, returning at most the given number of elements.
+	 */
+	public List<Object> load(Object key, int firstRow, int maxRows, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		final int offset = jdbcParameterBindings.registerParametersForEachJdbcValue(
+				key,
+				attributeMapping.getKeyDescriptor(),
+				jdbcParameters,
+				session
+		);
+		assert offset == jdbcParameters.size();
+
+		final QueryOptions queryOptions = new PageQueryOptions( new Limit( firstRow, maxRows ) );
+		final JdbcOperationQuerySelect jdbcSelect = jdbcServices.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( jdbcParameterBindings, queryOptions );
+
+		return jdbcServices.getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new BaseExecutionContext( session ) {
+					@Override
+					public QueryOptions getQueryOptions() {
+						return queryOptions;
+					}
+				},
+				RowTransformerStandardImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.NONE
+		);
+	}
+
+	private static class PageQueryOptions extends QueryOptionsAdapter {
+		private final Limit limit;
+
+		private PageQueryOptions(Limit limit) {
+			this.limit = limit;
+		}
+
+		@Override
+		public Limit getLimit() {
+			return limit;
+		}
+	}
+}
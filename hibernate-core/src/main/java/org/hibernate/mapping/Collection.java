@@ -55,8 +55,10 @@ public abstract class Collection implements Fetchable, Value, Filterable, SoftDe
 	private String role;
 	private boolean lazy;
 	private boolean extraLazy;
+	private int iterationPageSize;
 	private boolean inverse;
 	private boolean mutable = true;
+	private boolean deltaTracked;
 	private boolean subselectLoadable;
 	private String cacheConcurrencyStrategy;
 	private String cacheRegionName;
@@ -132,8 +134,10 @@ public abstract class Collection implements Fetchable, Value, Filterable, SoftDe
 		this.role = original.role;
 		this.lazy = original.lazy;
 		this.extraLazy = original.extraLazy;
+		this.iterationPageSize = original.iterationPageSize;
 		this.inverse = original.inverse;
 		this.mutable = original.mutable;
+		this.deltaTracked = original.deltaTracked;
 		this.subselectLoadable = original.subselectLoadable;
 		this.cacheConcurrencyStrategy = original.cacheConcurrencyStrategy;
 		this.cacheRegionName = original.cacheRegionName;
@@ -792,6 +796,14 @@ public abstract class Collection implements Fetchable, Value, Filterable, SoftDe
 		this.mutable = mutable;
 	}
 
+	public boolean isDeltaTracked() {
+		return deltaTracked;
+	}
+
+	public void setDeltaTracked(boolean deltaTracked) {
+		this.deltaTracked = deltaTracked;
+	}
+
 	public boolean isExtraLazy() {
 		return extraLazy;
 	}
@@ -800,6 +812,20 @@ public abstract class Collection implements Fetchable, Value, Filterable, SoftDe
 		this.extraLazy = extraLazy;
 	}
 
+	/**
+	 * The number of elements loaded per page when the uninitialized
+	 * collection is iterated, or {@code 0} if it is initialized instead.
+	 *
+	 * @see org.hibernate.annotations.PagedIteration
+	 */
+	public int getIterationPageSize() {
+		return iterationPageSize;
+	}
+
+	public void setIterationPageSize(int iterationPageSize) {
+		this.iterationPageSize = iterationPageSize;
+	}
+
 	public boolean hasOrder() {
 		return orderBy != null || manyToManyOrderBy != null;
 	}
@@ -90,6 +90,7 @@ public abstract class PersistentClass implements IdentifiableTypeClass, Attribut
 	private boolean dynamicInsert;
 	private boolean dynamicUpdate;
 	private int batchSize = -1;
+	private int jdbcBatchSize = -1;
 	private boolean selectBeforeUpdate;
 	private java.util.Map<String, MetaAttribute> metaAttributes;
 	private final List<Join> joins = new ArrayList<>();
@@ -439,6 +440,22 @@ public abstract class PersistentClass implements IdentifiableTypeClass, Attribut
 		this.batchSize = batchSize;
 	}
 
+	/**
+	 * The JDBC batch size for the mutations of this entity, or {@code -1}
+	 * if not specified.
+	 *
+	 * @see org.hibernate.annotations.JdbcBatchSize
+	 *
+	 * @since 6.4
+	 */
+	public int getJdbcBatchSize() {
+		return jdbcBatchSize;
+	}
+
+	public void setJdbcBatchSize(int jdbcBatchSize) {
+		this.jdbcBatchSize = jdbcBatchSize;
+	}
+
 	public boolean hasSelectBeforeUpdate() {
 		return selectBeforeUpdate;
 	}
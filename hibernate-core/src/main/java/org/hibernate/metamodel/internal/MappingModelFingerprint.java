@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.metamodel.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+
+/**
+ * Computes a digest of the Hibernate version, the dialect, and the entities
+ * and collections of a mapping model, including their attributes, types,
+ * tables, and columns, and the attributes of their embeddables, used to
+ * detect whether information recorded by an earlier
+ * {@link org.hibernate.SessionFactory} is still valid.
+ */
+public final class MappingModelFingerprint {
+
+	private MappingModelFingerprint() {
+	}
+
+	public static String compute(Dialect dialect, MappingMetamodel mappingMetamodel) {
+		return compute( dialect, mappingMetamodel, digest -> {} );
+	}
+
+	/**
+	 * @param contributor Adds anything else the recorded information depends on
+	 * to the digest, using {@link #update(MessageDigest, String)}
+	 */
+	public static String compute(
+			Dialect dialect,
+			MappingMetamodel mappingMetamodel,
+			Consumer<MessageDigest> contributor) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the mapping model fingerprint", e );
+		}
+
+		update( digest, Version.getVersionString() );
+		update( digest, dialect.getClass().getName() );
+		update( digest, String.valueOf( dialect.getVersion() ) );
+
+		contributor.accept( digest );
+
+		mappingMetamodel.streamEntityDescriptors()
+				.sorted( Comparator.comparing( EntityPersister::getEntityName ) )
+				.forEach( persister -> update( digest, persister ) );
+
+		final List<String> collections = new ArrayList<>();
+		mappingMetamodel.forEachCollectionDescriptor(
+				persister -> collections.add(
+						persister.getRole()
+								+ Arrays.toString( persister.getCollectionSpaces() )
+								+ describe( persister.getElementType() )
+				)
+		);
+		collections.sort( null );
+		for ( String collection : collections ) {
+			update( digest, collection );
+		}
+
+		final StringBuilder result = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			result.append( Character.forDigit( ( b >> 4 ) & 0xf, 16 ) )
+					.append( Character.forDigit( b & 0xf, 16 ) );
+		}
+		return result.toString();
+	}
+
+	private static void update(MessageDigest digest, EntityPersister persister) {
+		update( digest, persister.getEntityName() );
+		update( digest, persister.getMappedClass().getName() );
+		update( digest, Arrays.toString( persister.getQuerySpaces() ) );
+		update( digest, String.valueOf( persister.getIdentifierPropertyName() ) );
+		update( digest, persister.getIdentifierType() );
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			update( digest, propertyNames[i] );
+			update( digest, propertyTypes[i] );
+			if ( persister instanceof AbstractEntityPersister ) {
+				update( digest, Arrays.toString( ( (AbstractEntityPersister) persister ).getPropertyColumnNames( i ) ) );
+			}
+		}
+	}
+
+	private static void update(MessageDigest digest, Type type) {
+		update( digest, describe( type ) );
+	}
+
+	/**
+	 * The name of the given type, followed, for an embeddable, by the names
+	 * and types of its attributes, recursively.
+	 */
+	private static String describe(Type type) {
+		if ( type instanceof CompositeType ) {
+			final CompositeType compositeType = (CompositeType) type;
+			final String[] propertyNames = compositeType.getPropertyNames();
+			final Type[] subtypes = compositeType.getSubtypes();
+			final StringBuilder description = new StringBuilder( type.getName() ).append( '{' );
+			for ( int i = 0; i < propertyNames.length; i++ ) {
+				if ( i > 0 ) {
+					description.append( ',' );
+				}
+				description.append( propertyNames[i] ).append( ':' ).append( describe( subtypes[i] ) );
+			}
+			return description.append( '}' ).toString();
+		}
+		else if ( type instanceof BasicType ) {
+			// the name of an ad hoc basic type holds a counter, which
+			// differs from one startup to the next
+			final BasicType<?> basicType = (BasicType<?>) type;
+			final BasicValueConverter<?, ?> converter = basicType.getValueConverter();
+			return basicType.getJavaTypeDescriptor().getJavaTypeClass().getName()
+					+ '(' + basicType.getJdbcType().getDefaultSqlTypeCode() + ')'
+					+ ( converter == null ? "" : converter.getClass().getName() );
+		}
+		else {
+			return type.getName();
+		}
+	}
+
+	public static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+}
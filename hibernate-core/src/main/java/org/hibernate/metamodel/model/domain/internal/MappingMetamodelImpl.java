@@ -9,12 +9,20 @@ package org.hibernate.metamodel.model.domain.internal;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -81,7 +89,9 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 
+import static org.hibernate.cfg.MappingSettings.BOOTSTRAP_PARALLELISM;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -179,6 +189,10 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().getService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
+		final Map<String, Object> settings = context.getSettings();
+		final int parallelism = getInt( BOOTSTRAP_PARALLELISM, settings, 1 );
+
+		long start = System.nanoTime();
 		processBootEntities(
 				bootModel.getEntityBindings(),
 				cache,
@@ -191,26 +205,53 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 				persisterFactory,
 				context
 		);
+		start = logPhase( "Creating persisters", start );
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
 
 		MappingModelCreationProcess.process( entityPersisterMap, context );
-
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+		start = logPhase( "Creating the mapping model", start );
+
+		if ( parallelism > 1 ) {
+			// the mapping model is complete, and each persister now generates
+			// its own SQL and loaders, so the persisters may be processed
+			// concurrently, as long as each phase completes before the next
+			final ForkJoinPool pool = createBootstrapPool( parallelism );
+			try {
+				final java.util.Collection<EntityPersister> entityPersisters = distinctEntityPersisters();
+				invokeAll( pool, entityPersisters, EntityPersister::postInstantiate );
+				start = logPhase( "Generating entity SQL", start );
+				invokeAll( pool, entityPersisters, EntityPersister::prepareLoaders );
+				start = logPhase( "Preparing entity loaders", start );
+				invokeAll( pool, collectionPersisterMap.values(), CollectionPersister::postInstantiate );
+				start = logPhase( "Preparing collection loaders", start );
+			}
+			finally {
+				pool.shutdown();
+			}
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
 		}
+		else {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+			start = logPhase( "Generating entity SQL", start );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
-		}
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.prepareLoaders();
+			}
+			start = logPhase( "Preparing entity loaders", start );
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			start = logPhase( "Preparing collection loaders", start );
+		}
 
 		registerEmbeddableMappingType( bootModel );
 
-		final Map<String, Object> settings = context.getSettings();
 		( (JpaMetamodelImpl) jpaMetamodel ).processJpa(
 				bootModel,
 				this,
@@ -220,6 +261,76 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 				bootModel.getNamedEntityGraphs().values(),
 				context
 		);
+		logPhase( "Building the JPA metamodel", start );
+	}
+
+	private static long logPhase(String phase, long start) {
+		final long end = System.nanoTime();
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "%s took %s ms", phase, TimeUnit.NANOSECONDS.toMillis( end - start ) );
+		}
+		return end;
+	}
+
+	/**
+	 * The entity persisters, each once, even if it is registered under both
+	 * its entity name and its class name.
+	 */
+	private java.util.Collection<EntityPersister> distinctEntityPersisters() {
+		final Set<EntityPersister> persisters = Collections.newSetFromMap( new IdentityHashMap<>() );
+		Collections.addAll( persisters, entityPersisterMap.values() );
+		return persisters;
+	}
+
+	private static ForkJoinPool createBootstrapPool(int parallelism) {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "hibernate-bootstrap-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	/**
+	 * Apply the given action to each of the given persisters using the given pool,
+	 * waiting for all of them, and rethrowing the first failure.
+	 */
+	private static <P> void invokeAll(
+			ForkJoinPool pool,
+			java.util.Collection<P> persisters,
+			Consumer<P> action) {
+		final List<Callable<Void>> tasks = new ArrayList<>( persisters.size() );
+		for ( P persister : persisters ) {
+			tasks.add( () -> {
+				action.accept( persister );
+				return null;
+			} );
+		}
+		for ( Future<Void> future : pool.invokeAll( tasks ) ) {
+			try {
+				future.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while building the mapping model", e );
+			}
+			catch (ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				else if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				throw new HibernateException( "Unable to build the mapping model", cause );
+			}
+		}
 	}
 
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
@@ -14,8 +14,10 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.hibernate.AssertionFailure;
@@ -58,6 +60,7 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
+import org.hibernate.loader.ast.internal.CollectionElementLoaderByPage;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
 import org.hibernate.loader.ast.internal.CollectionLoaderSingleKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
@@ -194,8 +197,10 @@ public abstract class AbstractCollectionPersister
 	private final boolean isPrimitiveArray;
 	private final boolean isLazy;
 	private final boolean isExtraLazy;
+	private final int iterationPageSize;
 	protected final boolean isInverse;
 	private final boolean isMutable;
+	private final boolean isDeltaTracked;
 	private final boolean isVersioned;
 	protected final int batchSize;
 	private final FetchMode fetchMode;
@@ -230,6 +235,9 @@ public abstract class AbstractCollectionPersister
 	private CollectionLoader collectionLoader;
 //	private volatile CollectionLoader standardCollectionLoader;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private CollectionElementLoaderByPage collectionElementLoaderByPage;
+	// by batch size, for adaptive batch fetching
+	private final Map<Integer, CollectionLoader> adaptiveBatchLoaders = new ConcurrentHashMap<>();
 
 	private PluralAttributeMapping attributeMapping;
 	private volatile Set<String> affectingFetchProfiles;
@@ -270,6 +278,7 @@ public abstract class AbstractCollectionPersister
 		ownerPersister = creationContext.getDomainModel().getEntityDescriptor( collectionBootDescriptor.getOwnerEntityName() );
 		queryLoaderName = collectionBootDescriptor.getLoaderName();
 		isMutable = collectionBootDescriptor.isMutable();
+		isDeltaTracked = collectionBootDescriptor.isDeltaTracked();
 		mappedByProperty = collectionBootDescriptor.getMappedByProperty();
 
 		final Value elementBootDescriptor = collectionBootDescriptor.getElement();
@@ -489,6 +498,9 @@ public abstract class AbstractCollectionPersister
 
 		isLazy = collectionBootDescriptor.isLazy();
 		isExtraLazy = collectionBootDescriptor.isExtraLazy();
+		iterationPageSize = collectionBootDescriptor.isMap() || collectionBootDescriptor.isArray()
+				? 0
+				: collectionBootDescriptor.getIterationPageSize();
 
 		isInverse = collectionBootDescriptor.isInverse();
 
@@ -627,6 +639,14 @@ public abstract class AbstractCollectionPersister
 			);
 		}
 
+		if ( iterationPageSize > 0 ) {
+			collectionElementLoaderByPage = new CollectionElementLoaderByPage(
+					attributeMapping,
+					new LoadQueryInfluencers( factory ),
+					factory
+			);
+		}
+
 		logStaticSQL();
 	}
 
@@ -719,11 +739,29 @@ public abstract class AbstractCollectionPersister
 			}
 		}
 
-		return attributeMapping.isAffectedByInfluencers( influencers )
-				? createNamedQueryCollectionLoader( influencers )
+		if ( attributeMapping.isAffectedByInfluencers( influencers ) ) {
+			return createNamedQueryCollectionLoader( influencers );
+		}
+		final int adaptiveBatchSize = influencers.getAdaptiveBatchSize( this );
+		return adaptiveBatchSize > 1 && adaptiveBatchSize > batchSize
+				? getAdaptiveBatchLoader( adaptiveBatchSize )
 				: getCollectionLoader();
 	}
 
+	private CollectionLoader getAdaptiveBatchLoader(int batchSize) {
+		final CollectionLoader loader = adaptiveBatchLoaders.get( batchSize );
+		if ( loader != null ) {
+			return loader;
+		}
+		else {
+			final CollectionLoader batchLoader = factory.getServiceRegistry()
+					.getService( BatchLoaderFactory.class )
+					.createCollectionBatchLoader( batchSize, new LoadQueryInfluencers( factory ), attributeMapping, factory );
+			final CollectionLoader existing = adaptiveBatchLoaders.putIfAbsent( batchSize, batchLoader );
+			return existing == null ? batchLoader : existing;
+		}
+	}
+
 	private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContractImplementor session) {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final SubselectFetch subselect =
@@ -766,7 +804,8 @@ public abstract class AbstractCollectionPersister
 //	}
 
 	private CollectionLoader createNamedQueryCollectionLoader(LoadQueryInfluencers loadQueryInfluencers) {
-		if ( loadQueryInfluencers.effectivelyBatchLoadable( this ) ) {
+		if ( loadQueryInfluencers.effectivelyBatchLoadable( this )
+				&& loadQueryInfluencers.effectiveBatchSize( this ) > 1 ) {
 			final int batchSize = loadQueryInfluencers.effectiveBatchSize( this );
 			return factory.getServiceRegistry()
 					.getService( BatchLoaderFactory.class )
@@ -1395,6 +1434,11 @@ public abstract class AbstractCollectionPersister
 		return isMutable;
 	}
 
+	@Override
+	public boolean isDeltaTracked() {
+		return isDeltaTracked;
+	}
+
 	@Override
 	public String[] getCollectionPropertyColumnAliases(String propertyName, String suffix) {
 		String[] rawAliases = collectionPropertyColumnAliases.get( propertyName );
@@ -1528,6 +1572,21 @@ public abstract class AbstractCollectionPersister
 		return isExtraLazy;
 	}
 
+	@Override
+	public int getIterationPageSize() {
+		return iterationPageSize;
+	}
+
+	@Override
+	public List<?> getElementPage(Object key, int firstRow, int maxRows, SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final CollectionElementLoaderByPage loader = attributeMapping.isAffectedByInfluencers( influencers )
+				// for example, by an enabled filter
+				? new CollectionElementLoaderByPage( attributeMapping, influencers, factory )
+				: collectionElementLoaderByPage;
+		return loader.load( key, firstRow, maxRows, session );
+	}
+
 	protected Dialect getDialect() {
 		return dialect;
 	}
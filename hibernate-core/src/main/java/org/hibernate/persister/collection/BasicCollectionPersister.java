@@ -122,7 +122,7 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 	@Override
 	public void insertRows(PersistentCollection<?> collection, Object id, SharedSessionContractImplementor session)
 			throws HibernateException {
-		getCreateEntryCoordinator().insertRows( collection, id, collection::includeInInsert, session );
+		getCreateEntryCoordinator().insertRows( collection, id, session );
 	}
 
 	protected UpdateRowsCoordinator getUpdateEntryCoordinator() {
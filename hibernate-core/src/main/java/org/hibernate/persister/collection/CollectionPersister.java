@@ -7,6 +7,7 @@
 package org.hibernate.persister.collection;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -281,6 +282,18 @@ public interface CollectionPersister extends Restrictable {
 	 */
 	boolean isMutable();
 
+	/**
+	 * Does this collection record the elements added to it and removed from
+	 * it, instead of keeping a snapshot of its state?
+	 *
+	 * @see org.hibernate.annotations.DeltaTracked
+	 *
+	 * @since 6.4
+	 */
+	default boolean isDeltaTracked() {
+		return false;
+	}
+
 	//public boolean isSubselectLoadable();
 
 	void postInstantiate() throws MappingException;
@@ -308,6 +321,31 @@ public interface CollectionPersister extends Restrictable {
 	boolean indexExists(Object key, Object index, SharedSessionContractImplementor session);
 	boolean elementExists(Object key, Object element, SharedSessionContractImplementor session);
 	Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner);
+
+	/**
+	 * The number of elements loaded per page when an uninitialized instance
+	 * of this collection is iterated, or {@code 0} if the collection is
+	 * initialized instead.
+	 *
+	 * @see org.hibernate.annotations.PagedIteration
+	 *
+	 * @since 6.4
+	 */
+	default int getIterationPageSize() {
+		return 0;
+	}
+
+	/**
+	 * Load the elements of the collection with the given key, from the given
+	 * (zero-based) position on, returning at most the given number of them.
+	 *
+	 * @see #getIterationPageSize()
+	 *
+	 * @since 6.4
+	 */
+	default List<?> getElementPage(Object key, int firstRow, int maxRows, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "CollectionPersister used for [" + getRole() + "] does not support paged iteration" );
+	}
 	default int getBatchSize() {
 		return -1;
 	}
@@ -178,7 +178,7 @@ public class OneToManyPersister extends AbstractCollectionPersister {
 	@Override
 	public void insertRows(PersistentCollection<?> collection, Object id, SharedSessionContractImplementor session)
 			throws HibernateException {
-		getInsertRowsCoordinator().insertRows( collection, id, collection::includeInInsert, session );
+		getInsertRowsCoordinator().insertRows( collection, id, session );
 		writeIndex( collection, collection.entries( this ), id, true, session );
 	}
 
@@ -40,6 +40,22 @@ public interface InsertRowsCoordinator extends CollectionOperationCoordinator {
 			EntryFilter entryChecker,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Perform the insertion of the rows of the entries which are not yet
+	 * persistent, when the rows of the collection are updated.
+	 *
+	 * @see PersistentCollection#entriesToInsert(CollectionPersister)
+	 * @see PersistentCollection#includeInInsert
+	 *
+	 * @since 6.4
+	 */
+	default void insertRows(
+			PersistentCollection<?> collection,
+			Object id,
+			SharedSessionContractImplementor session) {
+		insertRows( collection, id, collection::includeInInsert, session );
+	}
+
 	/**
 	 * A tri-predicate for including / excluding collection entries
 	 * from iterative processing inside {@link #insertRows}.
@@ -63,6 +63,31 @@ public class InsertRowsCoordinatorStandard implements InsertRowsCoordinator {
 			Object id,
 			EntryFilter entryChecker,
 			SharedSessionContractImplementor session) {
+		final CollectionPersister collectionDescriptor = mutationTarget.getTargetPart().getCollectionDescriptor();
+		insertRows( collection, id, collection.entries( collectionDescriptor ), entryChecker, session );
+	}
+
+	@Override
+	public void insertRows(
+			PersistentCollection<?> collection,
+			Object id,
+			SharedSessionContractImplementor session) {
+		final CollectionPersister collectionDescriptor = mutationTarget.getTargetPart().getCollectionDescriptor();
+		insertRows(
+				collection,
+				id,
+				collection.entriesToInsert( collectionDescriptor ),
+				collection::includeInInsert,
+				session
+		);
+	}
+
+	private void insertRows(
+			PersistentCollection<?> collection,
+			Object id,
+			Iterator<?> entries,
+			EntryFilter entryChecker,
+			SharedSessionContractImplementor session) {
 		if ( operationGroup == null ) {
 			operationGroup = createOperationGroup();
 		}
@@ -86,7 +111,6 @@ public class InsertRowsCoordinatorStandard implements InsertRowsCoordinator {
 		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
 
 		try {
-			final Iterator<?> entries = collection.entries( collectionDescriptor );
 			collection.preInsert( collectionDescriptor );
 			if ( !entries.hasNext() ) {
 				MODEL_MUTATION_LOGGER.debugf(
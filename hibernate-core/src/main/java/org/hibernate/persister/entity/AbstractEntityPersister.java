@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -346,6 +347,8 @@ public abstract class AbstractEntityPersister
 	private final String sqlAliasStem;
 
 	private SingleIdEntityLoader<?> singleIdLoader;
+	// by batch size, for adaptive batch fetching
+	private final Map<Integer, SingleIdEntityLoader<?>> adaptiveBatchLoaders = new ConcurrentHashMap<>();
 	private MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
@@ -358,6 +361,7 @@ public abstract class AbstractEntityPersister
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
+	private final Integer jdbcBatchSize;
 	private final boolean hasSubselectLoadableCollections;
 	private final boolean hasPartitionedSelectionMapping;
 	private final boolean hasCollectionNotReferencingPK;
@@ -535,6 +539,7 @@ public abstract class AbstractEntityPersister
 		batchSize = persistentClass.getBatchSize() < 0
 				? factory.getSessionFactoryOptions().getDefaultBatchFetchSize()
 				: persistentClass.getBatchSize();
+		jdbcBatchSize = persistentClass.getJdbcBatchSize() < 0 ? null : persistentClass.getJdbcBatchSize();
 		hasSubselectLoadableCollections = persistentClass.hasSubselectLoadableCollections();
 		hasPartitionedSelectionMapping = persistentClass.hasPartitionedSelectionMapping();
 		hasCollectionNotReferencingPK = persistentClass.hasCollectionNotReferencingPK();
@@ -853,7 +858,8 @@ public abstract class AbstractEntityPersister
 	}
 
 	private SingleIdEntityLoader<?> buildSingleIdEntityLoader(LoadQueryInfluencers loadQueryInfluencers) {
-		if ( loadQueryInfluencers.effectivelyBatchLoadable( this ) ) {
+		if ( loadQueryInfluencers.effectivelyBatchLoadable( this )
+				&& loadQueryInfluencers.effectiveBatchSize( this ) > 1 ) {
 			final int batchSize = loadQueryInfluencers.effectiveBatchSize( this );
 			return factory.getServiceRegistry()
 					.getService( BatchLoaderFactory.class )
@@ -1730,6 +1736,11 @@ public abstract class AbstractEntityPersister
 		return batchSize;
 	}
 
+	@Override
+	public Integer getJdbcBatchSize() {
+		return jdbcBatchSize;
+	}
+
 	@Override
 	public String[] getIdentifierColumnNames() {
 		return rootTableKeyColumnNames;
@@ -2872,6 +2883,15 @@ public abstract class AbstractEntityPersister
 		insertCoordinator.coordinateInsert( id, fields, object, session );
 	}
 
+	@Override
+	public void insertMultiple(
+			List<Object> ids,
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session) {
+		insertCoordinator.coordinateInsertMultiple( ids, fields, objects, session );
+	}
+
 	protected EntityTableMapping[] getTableMappings() {
 		return tableMappings;
 	}
@@ -3722,12 +3742,30 @@ public abstract class AbstractEntityPersister
 		else {
 			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
 			// no subselect fetching for entities for now
-			return isAffectedByInfluencers( influencers )
-					? buildSingleIdEntityLoader( influencers )
+			if ( isAffectedByInfluencers( influencers ) ) {
+				return buildSingleIdEntityLoader( influencers );
+			}
+			final int adaptiveBatchSize = influencers.getAdaptiveBatchSize( this );
+			return adaptiveBatchSize > 1 && adaptiveBatchSize > batchSize
+					? getAdaptiveBatchLoader( adaptiveBatchSize )
 					: getSingleIdLoader();
 		}
 	}
 
+	private SingleIdEntityLoader<?> getAdaptiveBatchLoader(int batchSize) {
+		final SingleIdEntityLoader<?> loader = adaptiveBatchLoaders.get( batchSize );
+		if ( loader != null ) {
+			return loader;
+		}
+		else {
+			final SingleIdEntityLoader<?> batchLoader = factory.getServiceRegistry()
+					.getService( BatchLoaderFactory.class )
+					.createEntityBatchLoader( batchSize, this, factory );
+			final SingleIdEntityLoader<?> existing = adaptiveBatchLoaders.putIfAbsent( batchSize, batchLoader );
+			return existing == null ? batchLoader : existing;
+		}
+	}
+
 	private boolean hasNamedQueryLoader() {
 		return queryLoaderName != null;
 	}
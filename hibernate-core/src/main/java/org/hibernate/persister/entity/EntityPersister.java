@@ -631,6 +631,27 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Persist multiple instances, with identifiers already assigned, in one
+	 * operation, if possible.
+	 *
+	 * @param ids the identifiers of the instances
+	 * @param fields the values of the properties of each instance
+	 * @param objects the instances
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default void insertMultiple(
+			List<Object> ids,
+			List<Object[]> fields,
+			List<Object> objects,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < objects.size(); i++ ) {
+			insert( ids.get( i ), fields.get( i ), objects.get( i ), session );
+		}
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
@@ -49,4 +49,16 @@ public interface EntityMutationTarget extends MutationTarget<EntityTableMapping>
 	 * targets defined using post-insert id generation
 	 */
 	InsertGeneratedIdentifierDelegate getIdentityInsertDelegate();
+
+	/**
+	 * The JDBC batch size for the mutations of this target, overriding the
+	 * global batch size, or {@code null} if not specified.
+	 *
+	 * @see org.hibernate.annotations.JdbcBatchSize
+	 *
+	 * @since 6.4
+	 */
+	default Integer getJdbcBatchSize() {
+		return null;
+	}
 }
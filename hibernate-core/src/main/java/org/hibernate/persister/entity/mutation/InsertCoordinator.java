@@ -6,17 +6,24 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.Internal;
+import org.hibernate.StaleStateException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -26,13 +33,17 @@ import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
@@ -51,6 +62,7 @@ import static org.hibernate.generator.EventType.INSERT;
 public class InsertCoordinator extends AbstractMutationCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	private final BulkInsertTable[] bulkInsertTables;
 
 	public InsertCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
@@ -74,6 +86,8 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 		else {
 			staticInsertGroup = generateStaticOperationGroup();
 		}
+
+		bulkInsertTables = resolveBulkInsertTables();
 	}
 
 	public MutationOperationGroup getStaticInsertGroup() {
@@ -103,7 +117,15 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 			SharedSessionContractImplementor session) {
 		// apply any pre-insert in-memory value generation
 		final boolean needsDynamicInsert = preInsertInMemoryValueGeneration( values, entity, session );
+		return performInsert( id, values, entity, needsDynamicInsert, session );
+	}
 
+	protected Object performInsert(
+			Object id,
+			Object[] values,
+			Object entity,
+			boolean needsDynamicInsert,
+			SharedSessionContractImplementor session) {
 		final EntityMetamodel entityMetamodel = entityPersister().getEntityMetamodel();
 		final boolean forceIdentifierBinding = entityPersister().getGenerator().generatedOnExecution() && id != null;
 		if ( entityMetamodel.isDynamicInsert() || needsDynamicInsert || forceIdentifierBinding ) {
@@ -114,6 +136,245 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 		}
 	}
 
+	/**
+	 * Perform the inserts of multiple instances, whose ids are already known,
+	 * through the {@linkplain Dialect#getBulkInsertSupport() bulk load channel}
+	 * of the database if possible, or otherwise as a JDBC batch.
+	 *
+	 * @param ids The ids of the instances
+	 * @param values The extracted attribute values of each instance
+	 * @param entities The entity instances being persisted
+	 * @param session The originating context
+	 */
+	public void coordinateInsertMultiple(
+			List<Object> ids,
+			List<Object[]> values,
+			List<Object> entities,
+			SharedSessionContractImplementor session) {
+		final boolean[] needsDynamicInsert = new boolean[entities.size()];
+		boolean anyNeedsDynamicInsert = false;
+		for ( int i = 0; i < entities.size(); i++ ) {
+			needsDynamicInsert[i] = preInsertInMemoryValueGeneration( values.get( i ), entities.get( i ), session );
+			anyNeedsDynamicInsert = anyNeedsDynamicInsert || needsDynamicInsert[i];
+		}
+
+		if ( anyNeedsDynamicInsert || !bulkInsert( ids, values, session ) ) {
+			final Integer jdbcBatchSize = session.getJdbcBatchSize();
+			final boolean adjustBatchSize = session.getConfiguredJdbcBatchSize() < 2;
+			if ( adjustBatchSize ) {
+				session.setJdbcBatchSize( entities.size() );
+			}
+			try {
+				for ( int i = 0; i < entities.size(); i++ ) {
+					performInsert( ids.get( i ), values.get( i ), entities.get( i ), needsDynamicInsert[i], session );
+				}
+				session.getJdbcCoordinator().executeBatch();
+			}
+			finally {
+				if ( adjustBatchSize ) {
+					session.setJdbcBatchSize( jdbcBatchSize );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Insert the rows through the bulk load channel, if it's available for
+	 * every table of the entity.
+	 *
+	 * @return {@code false} if the rows must be inserted by the usual statements
+	 */
+	private boolean bulkInsert(List<Object> ids, List<Object[]> values, SharedSessionContractImplementor session) {
+		if ( bulkInsertTables == null ) {
+			return false;
+		}
+		final BulkInsertSupport bulkInsertSupport = dialect().getBulkInsertSupport();
+		for ( BulkInsertTable table : bulkInsertTables ) {
+			if ( !bulkInsertSupport.isAvailable( table.jdbcMappings, session ) ) {
+				return false;
+			}
+		}
+
+		final List<List<Object[]>> tableRows = new ArrayList<>( bulkInsertTables.length );
+		for ( int i = 0; i < bulkInsertTables.length; i++ ) {
+			tableRows.add( new ArrayList<>( ids.size() ) );
+		}
+		final BulkInsertValueBindings jdbcValueBindings = new BulkInsertValueBindings();
+		for ( int i = 0; i < ids.size(); i++ ) {
+			final Object[] rowValues = values.get( i );
+			final TableInclusionChecker tableInclusionChecker =
+					getTableInclusionChecker( new InsertValuesAnalysis( entityPersister(), rowValues ) );
+			jdbcValueBindings.rows.clear();
+			for ( int position = 0; position < bulkInsertTables.length; position++ ) {
+				final MutationOperation operation = staticInsertGroup.getOperation( position );
+				if ( tableInclusionChecker.include( operation.getTableDetails() ) ) {
+					final Object[] row = new Object[bulkInsertTables[position].columnNames.length];
+					jdbcValueBindings.rows.put( operation.getTableDetails().getTableName(), row );
+					tableRows.get( position ).add( row );
+				}
+			}
+			decomposeForInsert(
+					jdbcValueBindings,
+					ids.get( i ),
+					rowValues,
+					staticInsertGroup,
+					entityPersister().getPropertyInsertability(),
+					tableInclusionChecker,
+					session
+			);
+		}
+
+		for ( int position = 0; position < bulkInsertTables.length; position++ ) {
+			final BulkInsertTable table = bulkInsertTables[position];
+			final List<Object[]> rows = tableRows.get( position );
+			if ( !rows.isEmpty() ) {
+				try {
+					final long rowCount = bulkInsertSupport.insertRows(
+							table.tableName,
+							table.columnNames,
+							table.jdbcMappings,
+							rows,
+							session
+					);
+					if ( rowCount != rows.size() ) {
+						throw new StaleStateException(
+								"Unexpected row count: " + rowCount + "; expected: " + rows.size()
+										+ "; bulk insert into table " + table.tableName
+						);
+					}
+				}
+				catch (SQLException e) {
+					throw session.getJdbcServices().getSqlExceptionHelper().convert(
+							e,
+							"Could not bulk insert entities: " + entityPersister().getEntityName()
+					);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The tables of the entity, if the bulk load channel of the database
+	 * supports every one of them.
+	 */
+	private BulkInsertTable[] resolveBulkInsertTables() {
+		final BulkInsertSupport bulkInsertSupport = dialect().getBulkInsertSupport();
+		if ( bulkInsertSupport == null
+				|| staticInsertGroup == null
+				|| batchKey == null
+				|| entityPersister().getGenerator().generatedOnExecution() ) {
+			return null;
+		}
+		final BulkInsertTable[] tables = new BulkInsertTable[staticInsertGroup.getNumberOfOperations()];
+		for ( int position = 0; position < tables.length; position++ ) {
+			tables[position] = BulkInsertTable.resolve( staticInsertGroup.getOperation( position ), bulkInsertSupport );
+			if ( tables[position] == null ) {
+				return null;
+			}
+		}
+		return tables;
+	}
+
+	/**
+	 * A table whose insert binds every column, and may therefore be
+	 * loaded through the bulk load channel.
+	 */
+	private static class BulkInsertTable {
+		private final String tableName;
+		private final String[] columnNames;
+		private final JdbcMapping[] jdbcMappings;
+
+		private BulkInsertTable(String tableName, String[] columnNames, JdbcMapping[] jdbcMappings) {
+			this.tableName = tableName;
+			this.columnNames = columnNames;
+			this.jdbcMappings = jdbcMappings;
+		}
+
+		private static BulkInsertTable resolve(MutationOperation operation, BulkInsertSupport bulkInsertSupport) {
+			if ( !( operation instanceof PreparableMutationOperation ) ) {
+				return null;
+			}
+			final PreparableMutationOperation insert = (PreparableMutationOperation) operation;
+			final EntityTableMapping tableMapping = (EntityTableMapping) insert.getTableDetails();
+			if ( insert.isCallable() || tableMapping.getInsertCustomSql() != null ) {
+				return null;
+			}
+			final List<JdbcParameterBinder> parameterBinders = insert.getParameterBinders();
+			if ( !hasOnlyParameters( insert.getSqlString(), parameterBinders.size() ) ) {
+				// for example, a discriminator value rendered as a literal
+				return null;
+			}
+			final String[] columnNames = new String[parameterBinders.size()];
+			final JdbcMapping[] jdbcMappings = new JdbcMapping[parameterBinders.size()];
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				if ( !( parameterBinders.get( i ) instanceof ColumnValueParameter ) ) {
+					return null;
+				}
+				final ColumnValueParameter parameter = (ColumnValueParameter) parameterBinders.get( i );
+				columnNames[i] = parameter.getColumnReference().getColumnExpression();
+				jdbcMappings[i] = parameter.getJdbcMapping();
+				if ( !bulkInsertSupport.supportsType( jdbcMappings[i] ) ) {
+					return null;
+				}
+			}
+			return new BulkInsertTable( tableMapping.getTableName(), columnNames, jdbcMappings );
+		}
+
+		/**
+		 * Whether the insert is of the form {@code insert into ... values (?,...,?)},
+		 * with the given number of parameters
+		 */
+		private static boolean hasOnlyParameters(String sql, int parameterCount) {
+			final int valuesIndex = sql.lastIndexOf( " values (" );
+			if ( valuesIndex < 0 ) {
+				return false;
+			}
+			int parameters = 0;
+			for ( int i = valuesIndex + " values (".length(); i < sql.length() - 1; i++ ) {
+				final char c = sql.charAt( i );
+				if ( c == '?' ) {
+					parameters++;
+				}
+				else if ( c != ',' && !Character.isWhitespace( c ) ) {
+					return false;
+				}
+			}
+			return sql.charAt( sql.length() - 1 ) == ')' && parameters == parameterCount;
+		}
+	}
+
+	/**
+	 * Collects the values bound for the columns of a row of each table.
+	 */
+	private class BulkInsertValueBindings implements JdbcValueBindings {
+		private final Map<String, Object[]> rows = new HashMap<>();
+
+		@Override
+		public BindingGroup getBindingGroup(String tableName) {
+			return null;
+		}
+
+		@Override
+		public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+			final Object[] row = rows.get( tableName );
+			if ( row != null ) {
+				final int position = staticInsertGroup.getOperation( tableName )
+						.getJdbcValueDescriptor( columnName, usage )
+						.getJdbcPosition();
+				row[position - 1] = value;
+			}
+		}
+
+		@Override
+		public void beforeStatement(PreparedStatementDetails statementDetails) {
+		}
+
+		@Override
+		public void afterStatement(TableMapping mutatingTable) {
+		}
+	}
+
 	protected boolean preInsertInMemoryValueGeneration(Object[] values, Object entity, SharedSessionContractImplementor session) {
 		final AbstractEntityPersister persister = entityPersister();
 		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
@@ -201,7 +462,25 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 			boolean[] propertyInclusions,
 			TableInclusionChecker tableInclusionChecker,
 			SharedSessionContractImplementor session) {
-		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		decomposeForInsert(
+				mutationExecutor.getJdbcValueBindings(),
+				id,
+				values,
+				mutationGroup,
+				propertyInclusions,
+				tableInclusionChecker,
+				session
+		);
+	}
+
+	protected void decomposeForInsert(
+			JdbcValueBindings jdbcValueBindings,
+			Object id,
+			Object[] values,
+			MutationOperationGroup mutationGroup,
+			boolean[] propertyInclusions,
+			TableInclusionChecker tableInclusionChecker,
+			SharedSessionContractImplementor session) {
 		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
 
 		for ( int position = 0; position < mutationGroup.getNumberOfOperations(); position++ ) {
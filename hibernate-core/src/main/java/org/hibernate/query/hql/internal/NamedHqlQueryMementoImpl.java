@@ -43,6 +43,7 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 
 	private final LockOptions lockOptions;
 	private final Map<String, String> parameterTypes;
+	private final Class<?> resultType;
 
 	public NamedHqlQueryMementoImpl(
 			String name,
@@ -60,6 +61,43 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 			String comment,
 			Map<String,String> parameterTypes,
 			Map<String,Object> hints) {
+		this(
+				name,
+				hqlString,
+				firstResult,
+				maxResults,
+				cacheable,
+				cacheRegion,
+				cacheMode,
+				flushMode,
+				readOnly,
+				lockOptions,
+				timeout,
+				fetchSize,
+				comment,
+				parameterTypes,
+				hints,
+				null
+		);
+	}
+
+	public NamedHqlQueryMementoImpl(
+			String name,
+			String hqlString,
+			Integer firstResult,
+			Integer maxResults,
+			Boolean cacheable,
+			String cacheRegion,
+			CacheMode cacheMode,
+			FlushMode flushMode,
+			Boolean readOnly,
+			LockOptions lockOptions,
+			Integer timeout,
+			Integer fetchSize,
+			String comment,
+			Map<String,String> parameterTypes,
+			Map<String,Object> hints,
+			Class<?> resultType) {
 		super(
 				name,
 				cacheable,
@@ -77,6 +115,7 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 		this.maxResults = maxResults;
 		this.lockOptions = lockOptions;
 		this.parameterTypes = parameterTypes;
+		this.resultType = resultType;
 	}
 
 	@Override
@@ -104,6 +143,11 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 		return parameterTypes;
 	}
 
+	@Override
+	public Class<?> getResultType() {
+		return resultType;
+	}
+
 	@Override
 	public NamedSqmQueryMemento makeCopy(String name) {
 		return new NamedHqlQueryMementoImpl(
@@ -121,7 +165,8 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 				getFetchSize(),
 				getComment(),
 				parameterTypes,
-				getHints()
+				getHints(),
+				resultType
 		);
 	}
 
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} which detaches the entities added to the
+ * persistence context by each result as soon as it moves on to the next
+ * result, so that iterating a large number of results does not make the
+ * persistence context grow.
+ * <p>
+ * Only the entities and proxies added while reading a result are detached,
+ * so entities which were already managed, or which the application loads
+ * while iterating, are left alone, even if they occur in a result. Since
+ * the detached entities are not cascaded to, their associated entities are
+ * left alone as well.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_DETACHED
+ */
+public class DetachingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SessionImplementor session;
+	// the keys of the entities and proxies added by the current result
+	private final List<EntityKey> addedByCurrent = new ArrayList<>();
+	// the entity instance, if any, which each of them held once the result was read
+	private final List<Object> loadedByCurrent = new ArrayList<>();
+
+	public DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			SessionImplementor session) {
+		super( scrollableResults );
+		this.session = session;
+	}
+
+	@Override
+	public boolean hasNext() {
+		detachCurrent();
+		// the next result is read here, so this is where it adds its entities
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Consumer<EntityKey> previous = persistenceContext.setEntityKeyRecorder( addedByCurrent::add );
+		try {
+			return super.hasNext();
+		}
+		finally {
+			persistenceContext.setEntityKeyRecorder( previous );
+			for ( EntityKey key : addedByCurrent ) {
+				final EntityHolder holder = persistenceContext.getEntityHolder( key );
+				loadedByCurrent.add( holder == null ? null : holder.getEntity() );
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			if ( !session.isClosed() ) {
+				detachCurrent();
+			}
+		}
+		finally {
+			super.close();
+		}
+	}
+
+	private void detachCurrent() {
+		if ( !addedByCurrent.isEmpty() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( int i = 0; i < addedByCurrent.size(); i++ ) {
+				final EntityKey key = addedByCurrent.get( i );
+				final EntityHolder holder = persistenceContext.getEntityHolder( key );
+				// a proxy which the application initialized while iterating is left alone
+				if ( holder != null && holder.getEntity() == loadedByCurrent.get( i ) ) {
+					detach( key, persistenceContext );
+				}
+			}
+			addedByCurrent.clear();
+			loadedByCurrent.clear();
+		}
+	}
+
+	/**
+	 * Detach the entity, or proxy, with the given key, like
+	 * {@link org.hibernate.Session#evict} does, but without cascading.
+	 */
+	private void detach(EntityKey key, PersistenceContext persistenceContext) {
+		final EntityHolder holder = persistenceContext.removeEntityHolder( key );
+		final Object entity = holder.getEntity();
+		if ( entity != null ) {
+			final EntityPersister persister = holder.getDescriptor();
+			if ( persister.hasNaturalIdentifier() ) {
+				persistenceContext.getNaturalIdResolutions()
+						.handleEviction( key.getIdentifier(), entity, persister );
+			}
+			if ( persister.hasCollections() ) {
+				new EvictVisitor( session.asEventSource(), entity ).process( entity, persister );
+			}
+			persistenceContext.removeEntry( entity );
+		}
+		final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( holder.getProxy() );
+		if ( lazyInitializer != null ) {
+			lazyInitializer.unsetSession();
+		}
+	}
+}
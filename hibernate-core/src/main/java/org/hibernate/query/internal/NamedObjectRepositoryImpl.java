@@ -6,7 +6,9 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -48,6 +50,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
 
+	private NamedQueryCheckCache checkCache;
+
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento> sqmMementoMap,
 			Map<String,NamedNativeQueryMemento> sqlMementoMap,
@@ -180,6 +184,10 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
+		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
+			checkCache = NamedQueryCheckCache.load( sessionFactory );
+		}
+
 		bootMetamodel.visitNamedHqlQueryDefinitions(
 				namedHqlQueryDefinition -> {
 					final NamedSqmQueryMemento resolved = namedHqlQueryDefinition.resolve( sessionFactory );
@@ -216,7 +224,16 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public void validateNamedQueries(QueryEngine queryEngine) {
-		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine );
+		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine, checkCache );
+		if ( checkCache != null ) {
+			final List<NamedSqmQueryMemento> checked = new ArrayList<>( sqmMementoMap.size() );
+			for ( NamedSqmQueryMemento memento : sqmMementoMap.values() ) {
+				if ( !errors.containsKey( memento.getRegistrationName() ) ) {
+					checked.add( memento );
+				}
+			}
+			checkCache.store( checked );
+		}
 		if ( !errors.isEmpty() ) {
 			int i = 0;
 			final StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -235,6 +252,10 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
+		return checkNamedQueries( queryEngine, null );
+	}
+
+	private Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, NamedQueryCheckCache checkCache) {
 		Map<String,HibernateException> errors = new HashMap<>();
 
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
@@ -244,6 +265,10 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
 			final String queryString = hqlMemento.getHqlString();
 			final String registrationName = hqlMemento.getRegistrationName();
+			if ( checkCache != null && checkCache.isChecked( hqlMemento ) ) {
+				log.debugf( "Skipping named HQL query already checked against the same mapping model: %s", registrationName );
+				continue;
+			}
 			try {
 				log.debugf( "Checking named HQL query: %s", registrationName );
 				interpretationCache.resolveHqlInterpretation(
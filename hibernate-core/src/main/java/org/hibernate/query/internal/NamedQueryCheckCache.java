@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.Version;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.spi.JpaCompliance;
+import org.hibernate.metamodel.internal.MappingModelFingerprint;
+import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_STARTUP_CHECK_CACHE_FILE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+import static org.hibernate.metamodel.internal.MappingModelFingerprint.update;
+
+/**
+ * Records, in a local file, the named HQL queries which passed the startup
+ * check, so that a restarted {@link org.hibernate.SessionFactory} with the
+ * very same mapping model does not need to interpret them again during
+ * startup.
+ * <p>
+ * The file is a {@link Properties} file holding a fingerprint of everything
+ * the interpretation of a query depends on, along with the text of every
+ * recorded query. When the fingerprint does not match, the whole file is
+ * ignored, and then overwritten once the queries are checked again.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECK_CACHE_FILE
+ */
+final class NamedQueryCheckCache {
+	private static final Logger log = Logger.getLogger( NamedQueryCheckCache.class );
+
+	private static final String FINGERPRINT = "fingerprint";
+	private static final String QUERY_PREFIX = "query.";
+
+	private final Path file;
+	private final String fingerprint;
+	private final Properties checkedQueries;
+
+	private NamedQueryCheckCache(Path file, String fingerprint, Properties checkedQueries) {
+		this.file = file;
+		this.fingerprint = fingerprint;
+		this.checkedQueries = checkedQueries;
+	}
+
+	/**
+	 * @return The cache, or {@code null} if no file was configured
+	 */
+	static NamedQueryCheckCache load(SessionFactoryImplementor sessionFactory) {
+		final String fileName = getString( QUERY_STARTUP_CHECK_CACHE_FILE, sessionFactory.getProperties() );
+		if ( fileName == null || fileName.isBlank() ) {
+			return null;
+		}
+		final Path file = Paths.get( fileName.trim() );
+		final String fingerprint = fingerprint( sessionFactory );
+		final Properties properties = new Properties();
+		if ( Files.isReadable( file ) ) {
+			try ( InputStream stream = Files.newInputStream( file ) ) {
+				properties.load( stream );
+			}
+			catch (IOException | IllegalArgumentException e) {
+				log.debugf( e, "Unable to read named query check cache file: %s", file );
+				properties.clear();
+			}
+			if ( !fingerprint.equals( properties.getProperty( FINGERPRINT ) ) ) {
+				log.debugf( "Mapping model changed, ignoring named query check cache file: %s", file );
+				properties.clear();
+			}
+		}
+		return new NamedQueryCheckCache( file, fingerprint, properties );
+	}
+
+	/**
+	 * Was the given query already checked against the same mapping model?
+	 */
+	boolean isChecked(NamedSqmQueryMemento memento) {
+		return memento.getHqlString().equals(
+				checkedQueries.getProperty( QUERY_PREFIX + memento.getRegistrationName() )
+		);
+	}
+
+	/**
+	 * Replace the recorded queries with the given queries, all of which passed
+	 * the check, and write the file.
+	 */
+	void store(Iterable<NamedSqmQueryMemento> checked) {
+		final Properties properties = new Properties();
+		properties.setProperty( FINGERPRINT, fingerprint );
+		for ( NamedSqmQueryMemento memento : checked ) {
+			properties.setProperty( QUERY_PREFIX + memento.getRegistrationName(), memento.getHqlString() );
+		}
+		if ( properties.equals( checkedQueries ) ) {
+			return;
+		}
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			// write a temporary file first, so that concurrent readers never see a partial file
+			final Path temporary = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try {
+				try ( OutputStream stream = Files.newOutputStream( temporary ) ) {
+					properties.store( stream, "Named queries checked by Hibernate ORM " + Version.getVersionString() );
+				}
+				try {
+					Files.move( temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( temporary, file, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				Files.deleteIfExists( temporary );
+			}
+			checkedQueries.clear();
+			checkedQueries.putAll( properties );
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to write named query check cache file %s: %s", file, e.getMessage() );
+		}
+	}
+
+	/**
+	 * A digest of the Hibernate version, the dialect, the settings which affect
+	 * the validity of HQL, the SQL functions, and the entities and collections
+	 * of the mapping model, including their attributes, types, tables, and columns.
+	 */
+	static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		return MappingModelFingerprint.compute(
+				sessionFactory.getJdbcServices().getDialect(),
+				sessionFactory.getMappingMetamodel(),
+				digest -> {
+					final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+					final JpaCompliance jpaCompliance = options.getJpaCompliance();
+					update( digest, "query=" + jpaCompliance.isJpaQueryComplianceEnabled() );
+					update( digest, "orderby=" + jpaCompliance.isJpaOrderByMappingComplianceEnabled() );
+					update( digest, "list=" + jpaCompliance.isJpaListComplianceEnabled() );
+					update( digest, "load_by_id=" + jpaCompliance.isLoadByIdComplianceEnabled() );
+					update( digest, "value_handling=" + options.getCriteriaValueHandlingMode() );
+					update( digest, className( options.getCustomHqlTranslator() ) );
+					update( digest, className( options.getCustomSqmTranslatorFactory() ) );
+					sessionFactory.getQueryEngine().getSqmFunctionRegistry().getFunctionsByName()
+							.sorted( Map.Entry.comparingByKey() )
+							.forEach( entry -> {
+								update( digest, entry.getKey() );
+								update( digest, entry.getValue().getClass().getName() );
+							} );
+				}
+		);
+	}
+
+	private static String className(Object object) {
+		return object == null ? "" : object.getClass().getName();
+	}
+}
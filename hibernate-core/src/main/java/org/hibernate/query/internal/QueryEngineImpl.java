@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.internal;
 
+import org.hibernate.HibernateException;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -17,6 +18,7 @@ import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
@@ -26,6 +28,7 @@ import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
 import org.hibernate.query.sqm.internal.SqmCreationOptionsStandard;
 import org.hibernate.query.sqm.internal.SqmCriteriaNodeBuilder;
 import org.hibernate.query.sqm.spi.SqmCreationContext;
@@ -202,7 +205,24 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final Object implementation = properties.get( AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION );
+			if ( implementation instanceof QueryInterpretationCache ) {
+				return (QueryInterpretationCache) implementation;
+			}
+			else if ( implementation == null
+					|| implementation.toString().isBlank()
+					|| "standard".equalsIgnoreCase( implementation.toString().trim() ) ) {
+				return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			}
+			else if ( "frequency".equalsIgnoreCase( implementation.toString().trim() ) ) {
+				return new QueryInterpretationCacheFrequencyImpl( size, statisticsSupplier );
+			}
+			else {
+				throw new HibernateException(
+						"Unrecognized " + AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION + " value : "
+								+ implementation + ".  Supported values include 'standard' and 'frequency'."
+				);
+			}
 		}
 		else {
 			// disabled
@@ -215,6 +235,25 @@ public class QueryEngineImpl implements QueryEngine {
 		namedObjectRepository.validateNamedQueries( this );
 	}
 
+	@Override
+	public void warmUpInterpretationCache() {
+		namedObjectRepository.visitSqmQueryMementos( memento -> {
+			final String queryString = memento.getHqlString();
+			if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( queryString ) ) {
+				// a criteria query has no HQL to interpret
+				return;
+			}
+			try {
+				// cached under the same key as the query which will use it
+				interpretationCache.resolveHqlInterpretation( queryString, memento.getResultType(), hqlTranslator );
+			}
+			catch (HibernateException e) {
+				// reported when the query is first used
+				QueryLogging.QUERY_LOGGER.debugf( "Named query '%s' could not be interpreted", memento.getRegistrationName() );
+			}
+		} );
+	}
+
 	@Override
 	public NamedObjectRepository getNamedObjectRepository() {
 		return namedObjectRepository;
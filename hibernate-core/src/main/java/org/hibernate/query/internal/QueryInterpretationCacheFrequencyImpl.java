@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.NonSelectQueryPlan;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.query.internal.QueryInterpretationCacheStandardImpl.createHqlInterpretation;
+
+/**
+ * A {@link QueryInterpretationCache} with a frequency-aware admission policy,
+ * meant for applications executing a large number of distinct queries.
+ * <p>
+ * Each entry is weighed by the length of its query string, as an estimate of
+ * the size of its syntax tree: a query of up to {@value #AVERAGE_QUERY_LENGTH}
+ * characters has a weight of {@code 1}, and the maximum weight of each cache is
+ * the configured {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+ * maximum size}. A query which is not cached yet only replaces cached queries
+ * if it was used more often than them, so that a burst of queries which are
+ * used only once does not evict the queries used all the time.
+ *
+ * @see TinyLfuCache
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+ */
+public class QueryInterpretationCacheFrequencyImpl implements QueryInterpretationCache {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int AVERAGE_QUERY_LENGTH = 200;
+
+	private final TinyLfuCache<Key, QueryPlan> queryPlanCache;
+	private final TinyLfuCache<Object, HqlInterpretation> hqlInterpretationCache;
+	private final TinyLfuCache<String, ParameterInterpretation> nativeQueryParamCache;
+	private final Supplier<StatisticsImplementor> statisticsSupplier;
+
+	public QueryInterpretationCacheFrequencyImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf( "Starting frequency-aware QueryInterpretationCache(%s)", maxQueryPlanCount );
+
+		this.statisticsSupplier = statisticsSupplier;
+		this.queryPlanCache = new TinyLfuCache<>(
+				maxQueryPlanCount,
+				key -> weigh( key.getQueryString() ),
+				(key, plan) -> evicted( key.getQueryString() )
+		);
+		this.hqlInterpretationCache = new TinyLfuCache<>(
+				maxQueryPlanCount,
+				key -> weigh( queryString( key ) ),
+				(key, interpretation) -> evicted( queryString( key ) )
+		);
+		this.nativeQueryParamCache = new TinyLfuCache<>(
+				maxQueryPlanCount,
+				QueryInterpretationCacheFrequencyImpl::weigh,
+				null
+		);
+	}
+
+	private static int weigh(String queryString) {
+		return 1 + queryString.length() / AVERAGE_QUERY_LENGTH;
+	}
+
+	private static String queryString(Object hqlInterpretationKey) {
+		return hqlInterpretationKey instanceof String
+				? (String) hqlInterpretationKey
+				: ( (QueryInterpretationCacheStandardImpl.HqlInterpretationCacheKey) hqlInterpretationKey ).getQueryString();
+	}
+
+	private void evicted(String queryString) {
+		log.tracef( "Evicted or rejected query from QueryInterpretationCache - %s", queryString );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( queryString );
+		}
+	}
+
+	@Override
+	public int getNumberOfCachedHqlInterpretations() {
+		return hqlInterpretationCache.size();
+	}
+
+	@Override
+	public int getNumberOfCachedQueryPlans() {
+		return queryPlanCache.size();
+	}
+
+	@Override
+	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
+			Key key,
+			Supplier<SelectQueryPlan<R>> creator) {
+		log.tracef( "QueryPlan#getSelectQueryPlan(%s)", key );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		final boolean stats = statistics.isStatisticsEnabled();
+
+		@SuppressWarnings("unchecked")
+		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) queryPlanCache.get( key );
+		if ( cached != null ) {
+			if ( stats ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+			return cached;
+		}
+
+		final SelectQueryPlan<R> plan = creator.get();
+		queryPlanCache.put( key.prepareForStore(), plan );
+		if ( stats ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
+		return plan;
+	}
+
+	@Override
+	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
+		return null;
+	}
+
+	@Override
+	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
+		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+	}
+
+	@Override
+	public HqlInterpretation resolveHqlInterpretation(
+			String queryString,
+			Class<?> expectedResultType,
+			Function<String, SqmStatement<?>> creator) {
+		return resolveHqlInterpretation( queryString, expectedResultType, new HqlTranslator() {
+			@Override
+			public <R> SqmStatement<R> translate(String hql, Class<R> expectedResultType) {
+				//noinspection unchecked
+				return (SqmStatement<R>) creator.apply( hql );
+			}
+		} );
+	}
+
+	@Override
+	public HqlInterpretation resolveHqlInterpretation(
+			String queryString,
+			Class<?> expectedResultType,
+			HqlTranslator translator) {
+		log.tracef( "QueryPlan#resolveHqlInterpretation( `%s` )", queryString );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+
+		final Object cacheKey = expectedResultType != null
+				? new QueryInterpretationCacheStandardImpl.HqlInterpretationCacheKey( queryString, expectedResultType )
+				: queryString;
+		final HqlInterpretation existing = hqlInterpretationCache.get( cacheKey );
+		if ( existing != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( queryString );
+			}
+			return existing;
+		}
+		final HqlInterpretation hqlInterpretation =
+				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
+		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		return hqlInterpretation;
+	}
+
+	@Override
+	public ParameterInterpretation resolveNativeQueryParameters(
+			String queryString,
+			Function<String, ParameterInterpretation> creator) {
+		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
+		return nativeQueryParamCache.computeIfAbsent( queryString, creator );
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void close() {
+		hqlInterpretationCache.clear();
+		nativeQueryParamCache.clear();
+		queryPlanCache.clear();
+	}
+}
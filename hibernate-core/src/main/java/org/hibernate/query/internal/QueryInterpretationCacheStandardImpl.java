@@ -212,7 +212,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		queryPlanCache.clear();
 	}
 
-	private static final class HqlInterpretationCacheKey {
+	static final class HqlInterpretationCacheKey {
 		private final String queryString;
 		private final Class<?> expectedResultType;
 
@@ -221,6 +221,10 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			this.expectedResultType = expectedResultType;
 		}
 
+		String getQueryString() {
+			return queryString;
+		}
+
 		@Override
 		public boolean equals(Object o) {
 			if ( o.getClass() != HqlInterpretationCacheKey.class ) {
@@ -72,6 +72,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_PLAN_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAM_DETACHED;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
@@ -304,6 +305,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_QUERY_PLAN_CACHEABLE:
 					applyQueryPlanCacheableHint( getBoolean( value ) );
 					return true;
+				case HINT_STREAM_DETACHED:
+					applyStreamDetachedHint( getBoolean( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					applyCacheableHint( getBoolean( value ) );
 					return true;
@@ -352,6 +356,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setQueryPlanCachingEnabled( isCacheable );
 	}
 
+	protected void applyStreamDetachedHint(boolean detached) {
+		QueryLogging.QUERY_LOGGER.debug( "Detached streaming hint was specified for a query which cannot be streamed; ignoring" );
+	}
+
 	protected void applyCacheModeHint(CacheMode cacheMode) {
 		getQueryOptions().setCacheMode( cacheMode );
 	}
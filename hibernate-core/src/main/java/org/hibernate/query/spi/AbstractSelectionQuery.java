@@ -42,6 +42,7 @@ import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -55,6 +56,7 @@ import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.DetachingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -83,6 +85,7 @@ import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAM_DETACHED;
 import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
@@ -102,6 +105,7 @@ public abstract class AbstractSelectionQuery<R>
 	public static final String CRITERIA_HQL_STRING = "<criteria>";
 
 	private Callback callback;
+	private boolean streamDetached;
 
 	public AbstractSelectionQuery(SharedSessionContractImplementor session) {
 		super( session );
@@ -458,6 +462,7 @@ public abstract class AbstractSelectionQuery<R>
 		final MutableQueryOptions options = getQueryOptions();
 
 		session.prepareForQueryExecution( requiresTxn( options.getLockOptions().findGreatestLockMode() ) );
+		session.beforeSelectionQuery( getQueryString() );
 		prepareForExecution();
 
 		assert sessionFlushMode == null;
@@ -537,11 +542,18 @@ public abstract class AbstractSelectionQuery<R>
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
 
+	@Override
+	protected void applyStreamDetachedHint(boolean detached) {
+		streamDetached = detached;
+	}
+
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final ScrollableResultsIterator iterator = streamDetached && getSession() instanceof SessionImplementor
+				? new DetachingScrollableResultsIterator<>( scrollableResults, (SessionImplementor) getSession() )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
@@ -751,6 +763,10 @@ public abstract class AbstractSelectionQuery<R>
 	protected void collectHints(Map<String, Object> hints) {
 		super.collectHints( hints );
 
+		if ( streamDetached ) {
+			hints.put( HINT_STREAM_DETACHED, true );
+		}
+
 		if ( isReadOnly() ) {
 			hints.put( HINT_READONLY, true );
 		}
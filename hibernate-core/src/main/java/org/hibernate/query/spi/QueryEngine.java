@@ -44,6 +44,21 @@ public interface QueryEngine {
 
 	void validateNamedQueries();
 
+	/**
+	 * Interpret every named HQL query, adding its interpretation to the
+	 * {@linkplain #getInterpretationCache() interpretation cache}. Unlike
+	 * {@link #validateNamedQueries()}, this does not report errors, which
+	 * are reported when the query is first used instead.
+	 * <p>
+	 * By default, does nothing.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_WARM_UP
+	 *
+	 * @since 6.4
+	 */
+	default void warmUpInterpretationCache() {
+	}
+
 	NamedObjectRepository getNamedObjectRepository();
 
 	HqlTranslator getHqlTranslator();
@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 import org.hibernate.AssertionFailure;
@@ -74,6 +76,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	// guards the translation of the SQM, a lock rather than a monitor, so that
+	// virtual threads waiting for the translation do not pin their carrier
+	private final Lock interpretationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -296,15 +301,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			interpretationLock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
@@ -317,6 +320,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					cacheableSqmInterpretation = localCopy;
 				}
 			}
+			finally {
+				interpretationLock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
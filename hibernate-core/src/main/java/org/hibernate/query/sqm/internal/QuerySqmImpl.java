@@ -1135,7 +1135,8 @@ public class QuerySqmImpl<R>
 				getFetchSize(),
 				getComment(),
 				Collections.emptyMap(),
-				getHints()
+				getHints(),
+				resultType
 		);
 	}
 
@@ -38,6 +38,14 @@ public interface NamedSqmQueryMemento extends NamedQueryMemento {
 
 	Map<String, String> getParameterTypes();
 
+	/**
+	 * The result type of the query this memento was created from, or {@code null}
+	 * if the query was not typed.
+	 */
+	default Class<?> getResultType() {
+		return null;
+	}
+
 	@Override
 	NamedSqmQueryMemento makeCopy(String name);
 
@@ -30,6 +30,7 @@ public interface JdbcObserver {
 
 	void jdbcExecuteBatchStart();
 	void jdbcExecuteBatchEnd();
+	default void jdbcBatchExecuted(int batchSize) {}
 
 	default void jdbcReleaseRegistryResourcesStart() {}
 	default void jdbcReleaseRegistryResourcesEnd() {}
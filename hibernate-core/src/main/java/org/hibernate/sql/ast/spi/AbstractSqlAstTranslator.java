@@ -185,7 +185,6 @@ import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcOperationQueryInsertImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
-import org.hibernate.sql.exec.internal.JdbcParametersImpl;
 import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
@@ -282,10 +281,10 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	private final SessionFactoryImplementor sessionFactory;
 
 	// In-flight state
-	private final StringBuilder sqlBuffer = new StringBuilder();
+	private final SqlBufferSizeHint sqlBufferSizeHint;
+	private final StringBuilder sqlBuffer;
 
 	private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
-	private final JdbcParametersImpl jdbcParameters = new JdbcParametersImpl();
 	private JdbcParameterBindings jdbcParameterBindings;
 	private Map<JdbcParameter, JdbcParameterBinding> appliedParameterBindings = Collections.emptyMap();
 	private SqlAstNodeRenderingMode parameterRenderingMode = SqlAstNodeRenderingMode.DEFAULT;
@@ -335,6 +334,55 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		this.dialect = jdbcServices.getDialect();
 		this.statementStack.push( statement );
 		this.parameterMarkerStrategy = jdbcServices.getParameterMarkerStrategy();
+		this.sqlBufferSizeHint = SqlBufferSizeHint.forStatement( statement );
+		this.sqlBuffer = new StringBuilder( sqlBufferSizeHint.getCapacity() );
+	}
+
+	/**
+	 * The initial capacity of the SQL buffer of a translator, for a kind of
+	 * statement, which follows the length of the SQL recently rendered for
+	 * statements of that kind, so that the buffer rarely needs to grow, and
+	 * to copy its content, during the translation.
+	 * <p>
+	 * The capacity is raised immediately to the length of a longer SQL
+	 * statement, but decays slowly toward the length of shorter ones.
+	 * Concurrent updates may be lost, which is harmless for a hint.
+	 */
+	private static final class SqlBufferSizeHint {
+		private static final int MIN_CAPACITY = 64;
+		private static final int MAX_CAPACITY = 8 * 1024;
+
+		private static final SqlBufferSizeHint SELECT = new SqlBufferSizeHint();
+		private static final SqlBufferSizeHint MUTATION = new SqlBufferSizeHint();
+		private static final SqlBufferSizeHint TABLE_MUTATION = new SqlBufferSizeHint();
+
+		private volatile int capacity = 256;
+
+		private static SqlBufferSizeHint forStatement(Statement statement) {
+			if ( statement instanceof TableMutation ) {
+				return TABLE_MUTATION;
+			}
+			else if ( statement instanceof MutationStatement ) {
+				return MUTATION;
+			}
+			else {
+				return SELECT;
+			}
+		}
+
+		private int getCapacity() {
+			return capacity;
+		}
+
+		private void rendered(int length) {
+			final int current = capacity;
+			if ( length > current ) {
+				capacity = Math.min( MAX_CAPACITY, length );
+			}
+			else if ( length < current ) {
+				capacity = Math.max( MIN_CAPACITY, current - ( ( current - length ) >> 4 ) );
+			}
+		}
 	}
 
 	private static Clause matchWithClause(Clause clause) {
@@ -792,7 +840,9 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			final Statement statement = statementStack.pop();
 
 			if ( statement instanceof TableMutation ) {
-				return translateTableMutation( (TableMutation<?>) statement );
+				final T jdbcMutation = translateTableMutation( (TableMutation<?>) statement );
+				sqlBufferSizeHint.rendered( sqlBuffer.length() );
+				return jdbcMutation;
 			}
 
 			this.lockOptions = queryOptions.getLockOptions().makeCopy();
@@ -813,6 +863,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			else {
 				throw new IllegalArgumentException( "Unexpected statement - " + statement );
 			}
+			sqlBufferSizeHint.rendered( sqlBuffer.length() );
 
 			//noinspection unchecked
 			return (T) jdbcOperation;
@@ -4192,7 +4243,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 				appendSql( PARAM_MARKER );
 				final JdbcParameter offsetParameter = (JdbcParameter) offsetClauseExpression;
 				final int offsetValue = offset + fetchCount.intValue();
-				jdbcParameters.addParameter( offsetParameter );
 				parameterBinders.add(
 						(statement, startPosition, jdbcParameterBindings, executionContext) -> {
 							final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( offsetParameter );
@@ -4223,7 +4273,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			// We don't register and bind the special OffsetJdbcParameter as that comes from the query options
 			// And in this case, we only want to bind a single JDBC parameter
 			if ( !( offsetParameter instanceof OffsetJdbcParameter ) ) {
-				jdbcParameters.addParameter( offsetParameter );
 				parameterBinders.add(
 						(statement, startPosition, jdbcParameterBindings, executionContext) -> {
 							final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( offsetParameter );
@@ -4234,7 +4283,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 						}
 				);
 			}
-			jdbcParameters.addParameter( fetchParameter );
 			parameterBinders.add( fetchBinder );
 		}
 	}
@@ -6403,12 +6451,9 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	protected void visitParameterAsParameter(JdbcParameter jdbcParameter) {
 		renderParameterAsParameter( jdbcParameter );
 		parameterBinders.add( jdbcParameter.getParameterBinder() );
-		jdbcParameters.addParameter( jdbcParameter );
 	}
 
 	protected final void renderParameterAsParameter(JdbcParameter jdbcParameter) {
-		final JdbcType jdbcType = jdbcParameter.getExpressionType().getJdbcMapping( 0 ).getJdbcType();
-		assert jdbcType != null;
 		renderParameterAsParameter( parameterBinders.size() + 1, jdbcParameter );
 	}
 
@@ -6898,7 +6943,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		}
 
 		if ( lastEnd < sqlFragment.length() ) {
-			appendSql( sqlFragment.substring( lastEnd ) );
+			append( sqlFragment, lastEnd, sqlFragment.length() );
 		}
 	}
 
@@ -6906,7 +6951,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		final String marker = ":" + parameter.getFilterName() + "." + parameter.getParameterName();
 		final int markerStart = sqlFragment.indexOf( marker, startPosition );
 
-		appendSql( sqlFragment.substring( startPosition, markerStart ) );
+		append( sqlFragment, startPosition, markerStart );
 
 		final Object value = parameter.getValue();
 		final JdbcMapping valueMapping = parameter.getValueMapping();
@@ -8347,7 +8392,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	protected void applyParameter(ColumnValueParameter parameter) {
 		assert parameter != null;
 		parameterBinders.add( parameter.getParameterBinder() );
-		jdbcParameters.addParameter( parameter );
 	}
 
 	@Override
@@ -8369,7 +8413,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 			// append the part of the fragment from the last-end position (start of string for first pass)
 			// to the index of the parameter marker
-			appendSql( sqlFragment.substring( lastEnd, markerStart ) );
+			append( sqlFragment, lastEnd, markerStart );
 
 			// render the parameter marker and register the parameter handling
 			visitParameterAsParameter( parameter );
@@ -8378,7 +8422,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		}
 
 		if ( lastEnd < sqlFragment.length() ) {
-			appendSql( sqlFragment.substring( lastEnd ) );
+			append( sqlFragment, lastEnd, sqlFragment.length() );
 		}
 	}
 
@@ -8387,7 +8431,6 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		for ( ColumnValueParameter parameter : columnWriteFragment.getParameters() ) {
 			parameterBinders.add( parameter.getParameterBinder() );
-			jdbcParameters.addParameter( parameter );
 		}
 	}
 }
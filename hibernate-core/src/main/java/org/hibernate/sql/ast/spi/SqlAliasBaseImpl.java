@@ -28,11 +28,13 @@ public class SqlAliasBaseImpl implements SqlAliasBase {
 
 	@Override
 	public String generateNewAlias() {
+		final String alias;
 		synchronized (this) {
-			final String alias = stem + "_" + ( aliasCount++ );
-			SqlTreeCreationLogger.LOGGER.debugf( "Created new SQL alias : %s", alias );
-			return alias;
+			alias = stem + "_" + ( aliasCount++ );
 		}
+		// log outside the monitor, since the logger may block on I/O
+		SqlTreeCreationLogger.LOGGER.debugf( "Created new SQL alias : %s", alias );
+		return alias;
 	}
 
 	@Override
@@ -39,6 +39,10 @@ public class ColumnReference implements Expression, Assignable {
 	private final String readExpression;
 	private final JdbcMapping jdbcMapping;
 
+	// the read expression, as last rendered, since a column reference
+	// is almost always rendered with the same qualifier
+	private volatile QualifiedReadExpression renderedReadExpression;
+
 	public ColumnReference(TableReference tableReference, SelectableMapping selectableMapping) {
 		this(
 				tableReference.getIdentificationVariable(),
@@ -176,12 +180,7 @@ public class ColumnReference implements Expression, Assignable {
 			appender.accept( columnExpression );
 		}
 		else if ( readExpression != null ) {
-			if ( qualifier == null ) {
-				appender.accept( replace( readExpression, TEMPLATE + ".", "" ) );
-			}
-			else {
-				appender.accept( replace( readExpression, TEMPLATE, qualifier ) );
-			}
+			appender.accept( getQualifiedReadExpression( qualifier ) );
 		}
 		else {
 			if ( qualifier != null ) {
@@ -193,7 +192,42 @@ public class ColumnReference implements Expression, Assignable {
 	}
 
 	public void appendReadExpression(SqlAppender appender, String qualifier) {
-		appendReadExpression( qualifier, appender::appendSql );
+		// not delegating to the Consumer variant, to avoid a capturing lambda per rendered column
+		if ( isFormula ) {
+			appender.appendSql( columnExpression );
+		}
+		else if ( readExpression != null ) {
+			appender.appendSql( getQualifiedReadExpression( qualifier ) );
+		}
+		else {
+			if ( qualifier != null ) {
+				appender.appendSql( qualifier );
+				appender.appendSql( '.' );
+			}
+			appender.appendSql( columnExpression );
+		}
+	}
+
+	private String getQualifiedReadExpression(String qualifier) {
+		final QualifiedReadExpression rendered = renderedReadExpression;
+		if ( rendered != null && Objects.equals( rendered.qualifier, qualifier ) ) {
+			return rendered.expression;
+		}
+		final String expression = qualifier == null
+				? replace( readExpression, TEMPLATE + ".", "" )
+				: replace( readExpression, TEMPLATE, qualifier );
+		renderedReadExpression = new QualifiedReadExpression( qualifier, expression );
+		return expression;
+	}
+
+	private static final class QualifiedReadExpression {
+		private final String qualifier;
+		private final String expression;
+
+		private QualifiedReadExpression(String qualifier, String expression) {
+			this.qualifier = qualifier;
+			this.expression = expression;
+		}
 	}
 
 	public void appendColumnForWrite(SqlAppender appender) {
@@ -6,10 +6,13 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
+import org.hibernate.HibernateException;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
@@ -17,12 +20,19 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
 /**
+ * Instantiates the result by calling a constructor through a {@link MethodHandle}.
+ * For constructors with up to {@value #MAX_DIRECT_ARGUMENTS} parameters, the
+ * arguments are passed directly, without allocating an array for each row.
+ *
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
+	private static final int MAX_DIRECT_ARGUMENTS = 6;
+
 	private final Constructor<R> targetConstructor;
 	private final JavaType<R> resultType;
-	private final List<ArgumentReader<?>> argumentReaders;
+	private final ArgumentReader<?>[] argumentReaders;
+	private final MethodHandle constructorHandle;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
@@ -30,7 +40,24 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 			List<ArgumentReader<?>> argumentReaders) {
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
-		this.argumentReaders = argumentReaders;
+		this.argumentReaders = argumentReaders.toArray( new ArgumentReader<?>[0] );
+		this.constructorHandle = constructorHandle( targetConstructor, this.argumentReaders.length );
+	}
+
+	private static MethodHandle constructorHandle(Constructor<?> constructor, int numberOfArgs) {
+		final MethodHandle handle;
+		try {
+			// the constructor was made accessible, so no access check happens here
+			handle = MethodHandles.lookup().unreflectConstructor( constructor );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Error instantiating class '"
+					+ constructor.getDeclaringClass().getName() + "'", e );
+		}
+		return numberOfArgs <= MAX_DIRECT_ARGUMENTS
+				? handle.asType( MethodType.genericMethodType( numberOfArgs ) )
+				: handle.asSpreader( Object[].class, numberOfArgs )
+						.asType( MethodType.genericMethodType( 0, true ) );
 	}
 
 	@Override
@@ -39,23 +66,74 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public R assemble(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
-		for ( int i = 0; i < numberOfArgs; i++ ) {
-			args[i] = argumentReaders.get( i ).assemble( rowProcessingState, options );
-		}
-
+		final ArgumentReader<?>[] readers = argumentReaders;
 		try {
-			return targetConstructor.newInstance( args );
+			switch ( readers.length ) {
+				case 0:
+					return (R) (Object) constructorHandle.invokeExact();
+				case 1:
+					return (R) (Object) constructorHandle.invokeExact(
+							readers[0].assemble( rowProcessingState, options )
+					);
+				case 2:
+					return (R) (Object) constructorHandle.invokeExact(
+							readers[0].assemble( rowProcessingState, options ),
+							readers[1].assemble( rowProcessingState, options )
+					);
+				case 3:
+					return (R) (Object) constructorHandle.invokeExact(
+							readers[0].assemble( rowProcessingState, options ),
+							readers[1].assemble( rowProcessingState, options ),
+							readers[2].assemble( rowProcessingState, options )
+					);
+				case 4:
+					return (R) (Object) constructorHandle.invokeExact(
+							readers[0].assemble( rowProcessingState, options ),
+							readers[1].assemble( rowProcessingState, options ),
+							readers[2].assemble( rowProcessingState, options ),
+							readers[3].assemble( rowProcessingState, options )
+					);
+				case 5:
+					return (R) (Object) constructorHandle.invokeExact(
+							readers[0].assemble( rowProcessingState, options ),
+							readers[1].assemble( rowProcessingState, options ),
+							readers[2].assemble( rowProcessingState, options ),
+							readers[3].assemble( rowProcessingState, options ),
+							readers[4].assemble( rowProcessingState, options )
+					);
+				case 6:
+					return (R) (Object) constructorHandle.invokeExact(
+							readers[0].assemble( rowProcessingState, options ),
+							readers[1].assemble( rowProcessingState, options ),
+							readers[2].assemble( rowProcessingState, options ),
+							readers[3].assemble( rowProcessingState, options ),
+							readers[4].assemble( rowProcessingState, options ),
+							readers[5].assemble( rowProcessingState, options )
+					);
+				default:
+					final Object[] args = new Object[readers.length];
+					for ( int i = 0; i < readers.length; i++ ) {
+						args[i] = readers[i].assemble( rowProcessingState, options );
+					}
+					return (R) (Object) constructorHandle.invokeExact( args );
+			}
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e.getCause() );
+		catch (RuntimeException e) {
+			// an exception thrown while reading the arguments must not be wrapped
+			if ( e instanceof HibernateException ) {
+				throw e;
+			}
+			throw instantiationException( e );
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e );
+		catch (Throwable e) {
+			throw instantiationException( e );
 		}
 	}
+
+	private InstantiationException instantiationException(Throwable cause) {
+		return new InstantiationException( "Error instantiating class '"
+				+ targetConstructor.getDeclaringClass().getName() + "'", cause );
+	}
 }
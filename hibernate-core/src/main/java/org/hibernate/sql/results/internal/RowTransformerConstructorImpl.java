@@ -11,6 +11,9 @@ import jakarta.persistence.TupleElement;
 import org.hibernate.InstantiationException;
 import org.hibernate.sql.results.spi.RowTransformer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.List;
 
@@ -22,7 +25,7 @@ import java.util.List;
 public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	private final Class<T> type;
 	private final TupleMetadata tupleMetadata;
-	private final Constructor<T> constructor;
+	private final MethodHandle constructor;
 
 	public RowTransformerConstructorImpl(Class<T> type, TupleMetadata tupleMetadata) {
 		this.type = type;
@@ -33,8 +36,11 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 			sig[i] = elements.get(i).getJavaType();
 		}
 		try {
-			constructor = type.getDeclaredConstructor( sig );
-			constructor.setAccessible( true );
+			final Constructor<T> declaredConstructor = type.getDeclaredConstructor( sig );
+			declaredConstructor.setAccessible( true );
+			constructor = MethodHandles.lookup().unreflectConstructor( declaredConstructor )
+					.asSpreader( Object[].class, sig.length )
+					.asType( MethodType.methodType( Object.class, Object[].class ) );
 		}
 		catch (Exception e) {
 			throw new InstantiationException( "Cannot instantiate query result type ", type, e );
@@ -42,11 +48,12 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public T transformRow(Object[] row) {
 		try {
-			return constructor.newInstance( row );
+			return (T) (Object) constructor.invokeExact( row );
 		}
-		catch (Exception e) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Cannot instantiate query result type", type, e );
 		}
 	}
@@ -34,6 +34,11 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	private final int assemblerCount;
 
+	// the result is the value of the single assembler, so no array is needed
+	private final boolean singleResult;
+	// the transformer does not retain the array, so the same one can be used for every row
+	private final Object[] reusableRow;
+
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
 			InitializersList initializers,
@@ -44,6 +49,12 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		this.singleResult = assemblerCount == 1
+				&& ( rowTransformer == RowTransformerStandardImpl.INSTANCE
+						|| rowTransformer instanceof RowTransformerSingularReturnImpl );
+		this.reusableRow = rowTransformer instanceof RowTransformerConstructorImpl
+				? new Object[assemblerCount]
+				: null;
 	}
 
 	@Override
@@ -81,11 +92,18 @@ public class StandardRowReader<T> implements RowReader<T> {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
 		coordinateInitializers( rowProcessingState );
 
-		final Object[] resultRow = new Object[ assemblerCount ];
+		if ( singleResult ) {
+			final Object result = resultAssemblers.get( 0 ).assemble( rowProcessingState, options );
+			afterRow( rowProcessingState );
+			return (T) result;
+		}
+
+		final Object[] resultRow = reusableRow == null ? new Object[ assemblerCount ] : reusableRow;
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
 			final DomainResultAssembler assembler = resultAssemblers.get( i );
@@ -8,6 +8,7 @@ package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.List;
 
+import org.hibernate.cache.internal.ColumnarQueryResults;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.results.ResultsLogger;
@@ -24,6 +25,8 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private static final Object[][] NO_DATA = new Object[0][];
 
 	private Object[][] cachedData;
+	// the cached data, when stored column by column
+	private ColumnarQueryResults columnarData;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private int position = -1;
@@ -35,7 +38,15 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	}
 
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
-		this( extractData( cachedResults ), resolvedMapping );
+		if ( cachedResults instanceof ColumnarQueryResults ) {
+			this.columnarData = (ColumnarQueryResults) cachedResults;
+			this.numberOfRows = columnarData.getRowCount();
+		}
+		else {
+			this.cachedData = extractData( cachedResults );
+			this.numberOfRows = cachedData.length;
+		}
+		this.resolvedMapping = resolvedMapping;
 	}
 
 	private static Object[][] extractData(List<?> cachedResults) {
@@ -227,7 +238,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
-		return cachedData[position];
+		return columnarData == null ? cachedData[position] : columnarData.getRow( position );
 	}
 
 	@Override
@@ -235,7 +246,9 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
-		return cachedData[position][valueIndex];
+		return columnarData == null
+				? cachedData[position][valueIndex]
+				: columnarData.getValue( position, valueIndex );
 	}
 
 	@Override
@@ -245,6 +258,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedData = null;
+		columnarData = null;
 	}
 
 	@Override
@@ -97,6 +97,16 @@ public interface QueryStatistics extends Serializable {
 		return 0;
 	}
 
+	/**
+	 * The number of times a query plan was evicted from, or rejected by, the cache.
+	 *
+	 * @since 6.4
+	 */
+	default long getPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The overall time spent to compile the plan for this
 	 * particular query.
@@ -105,4 +115,31 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The entity names, collection roles, and lazy attributes for which an
+	 * "N+1 selects" problem was reported following this query.
+	 *
+	 * @see Statistics#getNPlusOneSelectRoles()
+	 *
+	 * @since 6.4
+	 */
+	default String[] getNPlusOneSelectRoles() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * The number of "N+1 selects" problems reported for the entity, the
+	 * collection, or the lazy attribute with the given name following this
+	 * query.
+	 *
+	 * @see Statistics#getNPlusOneSelectCount(String)
+	 *
+	 * @since 6.4
+	 */
+	default long getNPlusOneSelectCount(String role) {
+		//For backward compatibility
+		return 0;
+	}
 }
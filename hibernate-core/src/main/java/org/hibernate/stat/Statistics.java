@@ -395,4 +395,142 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from, or rejected by, the cache.
+	 *
+	 * @since 6.4
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey#toLoggableString()
+	 * keys} of the JDBC batches whose size was changed by {@linkplain
+	 * org.hibernate.cfg.AvailableSettings#BATCH_ADAPTIVE adaptive batching}
+	 * since the statistics were last cleared.
+	 *
+	 * @since 6.4
+	 */
+	default String[] getJdbcBatchKeys() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * The size of the JDBC batches with the given key most recently chosen by
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#BATCH_ADAPTIVE adaptive
+	 * batching}, or {@code 0} if it never changed the configured size.
+	 *
+	 * @param batchKey The {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey#toLoggableString()
+	 * key} of the batch, for example, {@code org.example.Book#INSERT}
+	 *
+	 * @since 6.4
+	 */
+	default int getJdbcBatchSize(String batchKey) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The entity names and collection roles upgraded by
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} since the statistics were last cleared.
+	 *
+	 * @since 6.4
+	 */
+	default String[] getAdaptiveBatchFetchRoles() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * The largest batch size chosen by {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} for the given entity name or collection role,
+	 * in any session, or {@code 0} if it was never upgraded.
+	 *
+	 * @since 6.4
+	 */
+	default int getAdaptiveBatchFetchSize(String role) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Whether {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} upgraded the collection with the given role to
+	 * subselect fetching in any session.
+	 *
+	 * @since 6.4
+	 */
+	default boolean isAdaptiveSubselectFetch(String role) {
+		//For backward compatibility
+		return false;
+	}
+
+	/**
+	 * The entity names of the proxies, the roles of the collections, and the
+	 * qualified names of the lazy attributes which were lazily initialized
+	 * since the statistics were last cleared.
+	 *
+	 * @since 6.4
+	 */
+	default String[] getLazyInitializationRoles() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * The number of lazy initializations of proxies of the entity, of instances
+	 * of the collection, or of the lazy attribute with the given name.
+	 *
+	 * @since 6.4
+	 */
+	default long getLazyInitializationCount(String role) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of "N+1 selects" problems reported by the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 * detector}, that is, the number of times the lazy initializations of an
+	 * association following a query exceeded the threshold.
+	 *
+	 * @since 6.4
+	 */
+	default long getNPlusOneSelectCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The entity names, collection roles, and lazy attributes for which an
+	 * "N+1 selects" problem was reported.
+	 *
+	 * @see #getNPlusOneSelectCount()
+	 *
+	 * @since 6.4
+	 */
+	default String[] getNPlusOneSelectRoles() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * The number of "N+1 selects" problems reported for the entity, the
+	 * collection, or the lazy attribute with the given name, following any
+	 * query.
+	 *
+	 * @see #getNPlusOneSelectCount()
+	 * @see QueryStatistics#getNPlusOneSelectCount(String)
+	 *
+	 * @since 6.4
+	 */
+	default long getNPlusOneSelectCount(String role) {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -36,8 +38,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
+	private final LongAdder planCacheEvictionCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final Map<String, LongAdder> nPlusOneSelectCounts = new ConcurrentHashMap<>();
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -147,6 +152,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCacheMissCount.sum();
 	}
 
+	/**
+	 * Query plan evicted from, or rejected by, the cache
+	 */
+	public long getPlanCacheEvictionCount() {
+		return planCacheEvictionCount.sum();
+	}
+
 	/**
 	 * Query plan overall compiled total
 	 */
@@ -154,6 +166,21 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * Associations lazily initialized too many times following this query
+	 */
+	public String[] getNPlusOneSelectRoles() {
+		return nPlusOneSelectCounts.keySet().toArray( new String[0] );
+	}
+
+	/**
+	 * "N+1 selects" problems reported for the given association following this query
+	 */
+	public long getNPlusOneSelectCount(String role) {
+		final LongAdder count = nPlusOneSelectCounts.get( role );
+		return count == null ? 0 : count.sum();
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -187,6 +214,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCompilationTotalMicroseconds.addAndGet( microseconds );
 	}
 
+	void nPlusOneSelect(String role) {
+		nPlusOneSelectCounts.computeIfAbsent( role, r -> new LongAdder() ).increment();
+	}
+
 	void incrementCacheHitCount() {
 		cacheHitCount.increment();
 	}
@@ -207,6 +238,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCacheMissCount.increment();
 	}
 
+	void incrementPlanCacheEvictionCount() {
+		planCacheEvictionCount.increment();
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -215,6 +250,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
+				+ ",planCacheEvictionCount=" + this.planCacheEvictionCount
 				+ ",executionCount=" + this.executionCount
 				+ ",executionRowCount=" + this.executionRowCount
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -98,6 +99,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	private final Map<String, Integer> jdbcBatchSizes = new ConcurrentHashMap<>();
+	private final Map<String, Integer> adaptiveBatchFetchSizes = new ConcurrentHashMap<>();
+	private final Set<String> adaptiveSubselectFetchRoles = ConcurrentHashMap.newKeySet();
+
+	private final Map<String, LongAdder> lazyInitializationCounts = new ConcurrentHashMap<>();
+	private final LongAdder nPlusOneSelectCount = new LongAdder();
+	private final Map<String, LongAdder> nPlusOneSelectCounts = new ConcurrentHashMap<>();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -209,6 +219,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+
+		jdbcBatchSizes.clear();
+		adaptiveBatchFetchSizes.clear();
+		adaptiveSubselectFetchRoles.clear();
+
+		lazyInitializationCounts.clear();
+		nPlusOneSelectCount.reset();
+		nPlusOneSelectCounts.clear();
 
 		resetStart();
 	}
@@ -773,6 +792,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -800,6 +824,105 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String query) {
+		queryPlanCacheEvictionCount.increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementPlanCacheEvictionCount();
+		}
+	}
+
+	@Override
+	public String[] getJdbcBatchKeys() {
+		return jdbcBatchSizes.keySet().toArray( new String[0] );
+	}
+
+	@Override
+	public int getJdbcBatchSize(String batchKey) {
+		final Integer batchSize = jdbcBatchSizes.get( batchKey );
+		return batchSize == null ? 0 : batchSize;
+	}
+
+	@Override
+	public void jdbcBatchSizeChosen(String batchKey, int batchSize) {
+		jdbcBatchSizes.put( batchKey, batchSize );
+	}
+
+	@Override
+	public String[] getAdaptiveBatchFetchRoles() {
+		return adaptiveBatchFetchSizes.keySet().toArray( new String[0] );
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchSize(String role) {
+		final Integer batchSize = adaptiveBatchFetchSizes.get( role );
+		return batchSize == null ? 0 : batchSize;
+	}
+
+	@Override
+	public boolean isAdaptiveSubselectFetch(String role) {
+		return adaptiveSubselectFetchRoles.contains( role );
+	}
+
+	@Override
+	public void adaptiveBatchFetchUpgrade(String role, int batchSize, boolean subselect) {
+		adaptiveBatchFetchSizes.merge( role, batchSize, Math::max );
+		if ( subselect ) {
+			adaptiveSubselectFetchRoles.add( role );
+		}
+	}
+
+	@Override
+	public String[] getLazyInitializationRoles() {
+		return lazyInitializationCounts.keySet().toArray( new String[0] );
+	}
+
+	@Override
+	public long getLazyInitializationCount(String role) {
+		final LongAdder count = lazyInitializationCounts.get( role );
+		return count == null ? 0 : count.sum();
+	}
+
+	@Override
+	public void lazyInitialization(String role) {
+		LongAdder count = lazyInitializationCounts.get( role );
+		if ( count == null ) {
+			final LongAdder newCount = new LongAdder();
+			count = lazyInitializationCounts.putIfAbsent( role, newCount );
+			if ( count == null ) {
+				count = newCount;
+			}
+		}
+		count.increment();
+	}
+
+	@Override
+	public long getNPlusOneSelectCount() {
+		return nPlusOneSelectCount.sum();
+	}
+
+	@Override
+	public String[] getNPlusOneSelectRoles() {
+		return nPlusOneSelectCounts.keySet().toArray( new String[0] );
+	}
+
+	@Override
+	public long getNPlusOneSelectCount(String role) {
+		final LongAdder count = nPlusOneSelectCounts.get( role );
+		return count == null ? 0 : count.sum();
+	}
+
+	@Override
+	public void nPlusOneSelect(String role, String query) {
+		nPlusOneSelectCount.increment();
+		nPlusOneSelectCounts.computeIfAbsent( role, r -> new LongAdder() ).increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).nPlusOneSelect( role );
+		}
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -974,6 +1097,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -269,6 +269,70 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating the eviction of a query plan from the query plan cache,
+	 * or its rejection by the cache.
+	 *
+	 * @param query The query
+	 *
+	 * @since 6.4
+	 */
+	default void queryPlanCacheEviction(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that adaptive batching changed the size of the JDBC
+	 * batches with the given key.
+	 *
+	 * @param batchKey The loggable form of the key of the batch
+	 * @param batchSize The batch size
+	 *
+	 * @since 6.4
+	 */
+	default void jdbcBatchSizeChosen(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that adaptive batch fetching upgraded the fetching
+	 * of an entity or collection in a session.
+	 *
+	 * @param role The entity name or collection role
+	 * @param batchSize The new batch size
+	 * @param subselect Whether the collection is now fetched by subselect
+	 *
+	 * @since 6.4
+	 */
+	default void adaptiveBatchFetchUpgrade(String role, int batchSize, boolean subselect) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the lazy initialization of a proxy, a collection,
+	 * or a lazy attribute.
+	 *
+	 * @param role The entity name, collection role, or qualified attribute name
+	 *
+	 * @since 6.4
+	 */
+	default void lazyInitialization(String role) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the lazy initializations of an association
+	 * following a query exceeded the "N+1 selects" threshold.
+	 *
+	 * @param role The entity name, collection role, or qualified attribute name
+	 * @param query The query which the lazy initializations followed
+	 *
+	 * @since 6.4
+	 */
+	default void nPlusOneSelect(String role, String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(annotatedClasses = AdaptiveBatchSizeTest.Reading.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "16"),
+		@Setting(name = AvailableSettings.BATCH_ADAPTIVE, value = "true"),
+		// no batch is ever fast enough, so the batches shrink
+		@Setting(name = AvailableSettings.BATCH_ADAPTIVE_TARGET_LATENCY, value = "0")
+})
+@SessionFactory(generateStatistics = true)
+public class AdaptiveBatchSizeTest {
+	private static final String INSERT = Reading.class.getName() + "#INSERT";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Reading" ).executeUpdate() );
+	}
+
+	@Test
+	public void testBatchSizeAdapts(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 16; i++ ) {
+				session.persist( new Reading( i, i * 0.5 ) );
+			}
+			session.flush();
+			// the first batch had the configured size, and the next is half as large
+			assertEquals( 8, statistics.getJdbcBatchSize( INSERT ) );
+			for ( long i = 16; i < 40; i++ ) {
+				session.persist( new Reading( i, i * 0.5 ) );
+			}
+		} );
+
+		assertEquals( 1, statistics.getJdbcBatchSize( INSERT ) );
+		// the size is shared by the sessions
+		scope.inTransaction( session -> {
+			session.persist( new Reading( 40L, 20.0 ) );
+			assertEquals( 1, statistics.getJdbcBatchSize( INSERT ) );
+		} );
+
+		scope.inTransaction( session -> assertEquals(
+				41L,
+				session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		Long id;
+		double reading;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, double reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+}
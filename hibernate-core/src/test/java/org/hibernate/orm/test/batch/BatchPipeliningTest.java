@@ -0,0 +1,209 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DomainModel(annotatedClasses = {
+		BatchPipeliningTest.Vehicle.class,
+		BatchPipeliningTest.Truck.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_PIPELINING, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+}, settingProviders = @SettingProvider(
+		settingName = AvailableSettings.BATCH_PIPELINING_EXECUTOR,
+		provider = BatchPipeliningTest.CountingExecutorProvider.class
+))
+@SessionFactory
+public class BatchPipeliningTest {
+
+	private static final int ENTITIES = 105;
+
+	private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+	private static final AtomicInteger RUNNING = new AtomicInteger();
+	private static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Truck" ).executeUpdate();
+			session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchBuilder(SessionFactoryScope scope) {
+		final BatchBuilder batchBuilder = scope.getSessionFactory().getServiceRegistry()
+				.getService( BatchBuilder.class );
+		assertThat( batchBuilder ).isInstanceOf( BatchBuilderImpl.class );
+	}
+
+	@Test
+	public void testInsertUpdateDelete(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < ENTITIES; i++ ) {
+				session.persist( i % 2 == 0 ? new Vehicle( i, "vehicle " + i ) : new Truck( i, "truck " + i, (int) i ) );
+			}
+		} );
+		assertEquals( ENTITIES, statistics.getEntityInsertCount() );
+
+		scope.inTransaction( session -> {
+			final List<Vehicle> vehicles = session.createSelectionQuery( "from Vehicle order by id", Vehicle.class )
+					.getResultList();
+			assertEquals( ENTITIES, vehicles.size() );
+			for ( Vehicle vehicle : vehicles ) {
+				vehicle.name = vehicle.name.toUpperCase();
+				if ( vehicle instanceof Truck ) {
+					( (Truck) vehicle ).load++;
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Vehicle vehicle : session.createSelectionQuery( "from Vehicle", Vehicle.class ).getResultList() ) {
+				assertEquals( vehicle.name.toUpperCase(), vehicle.name );
+				if ( vehicle instanceof Truck ) {
+					assertEquals( vehicle.id + 1, ( (Truck) vehicle ).load );
+				}
+				if ( vehicle.id % 3 == 0 ) {
+					session.remove( vehicle );
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> assertEquals(
+				ENTITIES - ( ENTITIES + 2 ) / 3,
+				session.createSelectionQuery( "select count(*) from Vehicle", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testConfiguredExecutor(SessionFactoryScope scope) {
+		EXECUTIONS.set( 0 );
+		MAX_RUNNING.set( 0 );
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < ENTITIES; i++ ) {
+				session.persist( new Vehicle( i, "vehicle " + i ) );
+			}
+		} );
+		assertThat( EXECUTIONS.get() ).isPositive();
+		// at most one batch of the session executes in the background
+		assertEquals( 1, MAX_RUNNING.get() );
+	}
+
+	@Test
+	public void testUnexpectedRowCountIsReported(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < ENTITIES; i++ ) {
+				session.persist( new Vehicle( i, "vehicle " + i ) );
+			}
+		} );
+
+		final RuntimeException exception = assertThrows(
+				RuntimeException.class,
+				() -> scope.inTransaction( session -> {
+					final List<Vehicle> vehicles = session.createSelectionQuery( "from Vehicle order by id", Vehicle.class )
+							.getResultList();
+					// deleted concurrently, after the first batch of updates
+					scope.inTransaction( other -> other.createMutationQuery( "delete from Vehicle where id = 15" )
+							.executeUpdate() );
+					for ( Vehicle vehicle : vehicles ) {
+						vehicle.name = "updated";
+					}
+				} )
+		);
+		Throwable cause = exception;
+		while ( cause != null && !( cause instanceof StaleStateException ) ) {
+			cause = cause.getCause();
+		}
+		assertThat( cause ).isInstanceOf( StaleStateException.class );
+
+		scope.inTransaction( session -> assertEquals(
+				0L,
+				session.createSelectionQuery( "select count(*) from Vehicle where name = 'updated'", Long.class )
+						.getSingleResult()
+		) );
+	}
+
+	public static class CountingExecutorProvider implements SettingProvider.Provider<Executor> {
+		@Override
+		public Executor getSetting() {
+			return command -> {
+				EXECUTIONS.incrementAndGet();
+				ForkJoinPool.commonPool().execute( () -> {
+					MAX_RUNNING.accumulateAndGet( RUNNING.incrementAndGet(), Math::max );
+					try {
+						command.run();
+					}
+					finally {
+						RUNNING.decrementAndGet();
+					}
+				} );
+			};
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		Long id;
+		String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Truck")
+	public static class Truck extends Vehicle {
+		int load;
+
+		public Truck() {
+		}
+
+		public Truck(Long id, String name, int load) {
+			super( id, name );
+			this.load = load;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.annotations.JdbcBatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(annotatedClasses = {
+		JdbcBatchSizeTest.LogEntry.class,
+		JdbcBatchSizeTest.Customer.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "1"))
+@SessionFactory(generateStatistics = true)
+public class JdbcBatchSizeTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from LogEntry" ).executeUpdate();
+			session.createMutationQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityBatchSize(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 10; i++ ) {
+				session.persist( new LogEntry( i, "entry " + i ) );
+				session.persist( new Customer( i, "customer " + i ) );
+			}
+		} );
+
+		assertEquals( 20, statistics.getEntityInsertCount() );
+		assertEquals( 25, statistics.getJdbcBatchSize( LogEntry.class.getName() + "#INSERT" ) );
+		// not batched, as configured globally
+		assertEquals( 0, statistics.getJdbcBatchSize( Customer.class.getName() + "#INSERT" ) );
+		assertThat( statistics.getJdbcBatchKeys() ).containsExactly( LogEntry.class.getName() + "#INSERT" );
+
+		scope.inTransaction( session -> assertEquals(
+				10L,
+				session.createSelectionQuery( "select count(*) from LogEntry", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testSessionBatchSizeTakesPrecedence(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			session.setJdbcBatchSize( 5 );
+			for ( long i = 0; i < 10; i++ ) {
+				session.persist( new LogEntry( i, "entry " + i ) );
+			}
+		} );
+
+		assertEquals( 5, statistics.getJdbcBatchSize( LogEntry.class.getName() + "#INSERT" ) );
+	}
+
+	@Entity(name = "LogEntry")
+	@JdbcBatchSize(size = 25)
+	public static class LogEntry {
+		@Id
+		Long id;
+		String message;
+
+		public LogEntry() {
+		}
+
+		public LogEntry(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Long id;
+		String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
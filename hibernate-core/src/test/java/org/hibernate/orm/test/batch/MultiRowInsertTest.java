@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Shipment.class,
+		MultiRowInsertTest.Parcel.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Parcel" ).executeUpdate();
+			session.createMutationQuery( "delete from Shipment" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 23; i++ ) {
+				session.persist( i % 3 == 0 ? new Parcel( i, i * 100 ) : new Shipment( i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Shipment> shipments = session.createSelectionQuery( "from Shipment order by id", Shipment.class )
+					.getResultList();
+			assertEquals( 23, shipments.size() );
+			for ( int i = 0; i < 23; i++ ) {
+				final Shipment shipment = shipments.get( i );
+				assertEquals( (long) i, shipment.id );
+				assertEquals( "shipment #" + i, shipment.description );
+				assertEquals( LocalDate.of( 2023, 1, 1 ).plusDays( i ), shipment.shipped );
+				if ( i % 2 == 0 ) {
+					assertNull( shipment.quantity );
+				}
+				else {
+					assertEquals( i, shipment.quantity );
+				}
+				assertArrayEquals( new byte[] { (byte) i, 1, 2 }, shipment.label );
+				if ( i % 3 == 0 ) {
+					assertThat( shipment ).isInstanceOf( Parcel.class );
+					assertEquals( i * 100, ( (Parcel) shipment ).weight );
+				}
+			}
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testStatements(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 23; i++ ) {
+				session.persist( new Shipment( i ) );
+			}
+		} );
+
+		// batches of 10, 10 and 3 rows, inserted by groups of 8 and 2, 8 and 2, and 2 and 1 rows
+		final List<String> inserts = inspector.getSqlQueries();
+		assertEquals( 6, inserts.size() );
+		assertThat( rowCount( inserts.get( 0 ) ) ).isEqualTo( 8 );
+		assertThat( rowCount( inserts.get( 1 ) ) ).isEqualTo( 2 );
+		assertThat( rowCount( inserts.get( 5 ) ) ).isEqualTo( 1 );
+		assertThat( inserts.stream().distinct().count() ).isEqualTo( 3 );
+
+		scope.inTransaction( session -> assertEquals(
+				23L,
+				session.createSelectionQuery( "select count(*) from Shipment", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testMultiRowInsertString(SessionFactoryScope scope) {
+		final Dialect dialect = scope.getSessionFactory().getJdbcServices().getDialect();
+		if ( dialect.getMultiRowInsertString( "insert into t (a,b) values (?,?)", 2 ) == null ) {
+			return;
+		}
+		assertEquals(
+				"insert into t (a,b) values (?,upper(?)),(?,upper(?)),(?,upper(?))",
+				dialect.getMultiRowInsertString( "insert into t (a,b) values (?,upper(?))", 3 )
+		);
+		assertEquals(
+				"insert into t (a,b) values (?,'(x'),(?,'(x')",
+				dialect.getMultiRowInsertString( "insert into t (a,b) values (?,'(x')", 2 )
+		);
+		assertNull( dialect.getMultiRowInsertString( "insert into t (a) values (?) returning id", 2 ) );
+		assertNull( dialect.getMultiRowInsertString( "insert into t default values", 2 ) );
+	}
+
+	private static int rowCount(String insert) {
+		return insert.split( "\\),\\(" ).length;
+	}
+
+	@Entity(name = "Shipment")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Shipment {
+		@Id
+		Long id;
+		String description;
+		LocalDate shipped;
+		Integer quantity;
+		byte[] label;
+
+		public Shipment() {
+		}
+
+		public Shipment(Long id) {
+			this.id = id;
+			this.description = "shipment #" + id;
+			this.shipped = LocalDate.of( 2023, 1, 1 ).plusDays( id );
+			this.quantity = id % 2 == 0 ? null : id.intValue();
+			this.label = new byte[] { id.byteValue(), 1, 2 };
+		}
+	}
+
+	@Entity(name = "Parcel")
+	public static class Parcel extends Shipment {
+		long weight;
+
+		public Parcel() {
+		}
+
+		public Parcel(Long id, long weight) {
+			super( id );
+			this.weight = weight;
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Department.class,
+		AdaptiveBatchFetchTest.Employee.class,
+		AdaptiveBatchFetchTest.Office.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true, generateStatistics = true)
+public class AdaptiveBatchFetchTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				for ( int j = 0; j < 2; j++ ) {
+					final int id = i * 2 + j;
+					final Office office = new Office( id );
+					session.persist( office );
+					session.persist( new Employee( id, department, office ) );
+				}
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Office" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testProxiesUpgradedToBatchFetching(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee order by id", Employee.class ).getResultList();
+			inspector.clear();
+			final List<Office> offices = new ArrayList<>();
+			for ( Employee employee : employees ) {
+				Hibernate.initialize( employee.office );
+				offices.add( employee.office );
+			}
+			assertThat( offices ).allMatch( Hibernate::isInitialized );
+			// one by one, then batches of 4, 8, and 16
+			assertThat( inspector.getSqlQueries() ).hasSize( 4 );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getAdaptiveBatchFetchRoles() ).containsExactly( Office.class.getName() );
+		assertThat( statistics.getAdaptiveBatchFetchSize( Office.class.getName() ) ).isEqualTo( 16 );
+		assertThat( statistics.isAdaptiveSubselectFetch( Office.class.getName() ) ).isFalse();
+	}
+
+	@Test
+	public void testCollectionsUpgradedToSubselectFetching(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department order by id", Department.class ).getResultList();
+			inspector.clear();
+			for ( Department department : departments ) {
+				assertThat( department.employees ).hasSize( 2 );
+			}
+			// one by one, then the remaining collections by subselect
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+		} );
+
+		final String role = Department.class.getName() + ".employees";
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getAdaptiveBatchFetchRoles() ).containsExactly( role );
+		assertThat( statistics.isAdaptiveSubselectFetch( role ) ).isTrue();
+	}
+
+	@Test
+	public void testCollectionsUpgradedToBatchFetching(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Department> departments = new ArrayList<>();
+			for ( int i = 0; i < 10; i++ ) {
+				// loaded one by one, so no subselect is possible
+				departments.add( session.find( Department.class, i ) );
+			}
+			inspector.clear();
+			for ( Department department : departments ) {
+				assertThat( department.employees ).hasSize( 2 );
+			}
+			// one by one, then batches of 4 and 8
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		} );
+
+		final String role = Department.class.getName() + ".employees";
+		assertThat( scope.getSessionFactory().getStatistics().getAdaptiveBatchFetchSize( role ) ).isEqualTo( 8 );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "department")
+		List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Department department;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Office office;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department, Office office) {
+			this.id = id;
+			this.department = department;
+			this.office = office;
+		}
+	}
+
+	@Entity(name = "Office")
+	public static class Office {
+		@Id
+		Integer id;
+
+		public Office() {
+		}
+
+		public Office(Integer id) {
+			this.id = id;
+		}
+	}
+}
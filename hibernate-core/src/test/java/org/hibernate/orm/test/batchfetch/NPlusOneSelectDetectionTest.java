@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		NPlusOneSelectDetectionTest.Department.class,
+		NPlusOneSelectDetectionTest.Employee.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD, value = "3"))
+@SessionFactory(generateStatistics = true)
+public class NPlusOneSelectDetectionTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testCollectionInitializations(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department", Department.class ).getResultList();
+			for ( Department department : departments ) {
+				Hibernate.initialize( department.employees );
+			}
+		} );
+
+		final String role = Department.class.getName() + ".employees";
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getLazyInitializationRoles() ).containsExactly( role );
+		assertThat( statistics.getLazyInitializationCount( role ) ).isEqualTo( 10 );
+		// reported once for the association and query
+		assertThat( statistics.getNPlusOneSelectCount() ).isEqualTo( 1 );
+		assertThat( statistics.getNPlusOneSelectRoles() ).containsExactly( role );
+		assertThat( statistics.getNPlusOneSelectCount( role ) ).isEqualTo( 1 );
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( "from Department" );
+		assertThat( queryStatistics.getNPlusOneSelectRoles() ).containsExactly( role );
+		assertThat( queryStatistics.getNPlusOneSelectCount( role ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testCountsByQuery(SessionFactoryScope scope) {
+		final String firstQuery = "from Department";
+		final String secondQuery = "from Department order by id";
+		scope.inTransaction( session -> {
+			for ( String query : List.of( firstQuery, secondQuery, firstQuery ) ) {
+				final List<Department> departments =
+						session.createSelectionQuery( query, Department.class ).getResultList();
+				for ( Department department : departments ) {
+					Hibernate.initialize( department.employees );
+				}
+				session.clear();
+			}
+		} );
+
+		final String role = Department.class.getName() + ".employees";
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getNPlusOneSelectCount() ).isEqualTo( 3 );
+		assertThat( statistics.getNPlusOneSelectCount( role ) ).isEqualTo( 3 );
+		assertThat( statistics.getQueryStatistics( firstQuery ).getNPlusOneSelectCount( role ) ).isEqualTo( 2 );
+		assertThat( statistics.getQueryStatistics( secondQuery ).getNPlusOneSelectCount( role ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testProxyInitializations(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee", Employee.class ).getResultList();
+			for ( Employee employee : employees ) {
+				Hibernate.initialize( employee.department );
+			}
+		} );
+
+		final String role = Department.class.getName();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getLazyInitializationCount( role ) ).isEqualTo( 10 );
+		assertThat( statistics.getNPlusOneSelectRoles() ).containsExactly( role );
+	}
+
+	@Test
+	public void testBelowThreshold(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i += 3 ) {
+				// at most three initializations follow each query
+				final List<Employee> employees = session.createSelectionQuery(
+						"from Employee where id >= " + i + " and id < " + ( i + 3 ),
+						Employee.class
+				).getResultList();
+				for ( Employee employee : employees ) {
+					Hibernate.initialize( employee.department );
+				}
+			}
+		} );
+
+		assertThat( scope.getSessionFactory().getStatistics().getNPlusOneSelectCount() ).isZero();
+	}
+
+	@Test
+	public void testCountsResetByEachQueryExecution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i += 2 ) {
+				// the same query, followed each time by two initializations
+				final List<Employee> employees = session.createSelectionQuery(
+						"from Employee where id >= :first and id < :last",
+						Employee.class
+				).setParameter( "first", i ).setParameter( "last", i + 2 ).getResultList();
+				for ( Employee employee : employees ) {
+					Hibernate.initialize( employee.department );
+				}
+			}
+		} );
+
+		assertThat( scope.getSessionFactory().getStatistics().getNPlusOneSelectCount() ).isZero();
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "department")
+		List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
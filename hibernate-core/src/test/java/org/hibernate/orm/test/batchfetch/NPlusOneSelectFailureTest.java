@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.NPlusOneSelectException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.batchfetch.NPlusOneSelectDetectionTest.Department;
+import org.hibernate.orm.test.batchfetch.NPlusOneSelectDetectionTest.Employee;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = {
+		Department.class,
+		Employee.class,
+		NPlusOneSelectFailureTest.Office.class,
+		NPlusOneSelectFailureTest.Clerk.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD, value = "3"),
+		@Setting(name = AvailableSettings.FAIL_ON_N_PLUS_ONE_SELECT, value = "true")
+})
+@SessionFactory
+public class NPlusOneSelectFailureTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+				final Office office = new Office( i );
+				session.persist( office );
+				session.persist( new Clerk( i, office ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+			session.createMutationQuery( "delete from Clerk" ).executeUpdate();
+			session.createMutationQuery( "delete from Office" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFailOnNPlusOneSelect(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department order by id", Department.class ).getResultList();
+			for ( int i = 0; i < 3; i++ ) {
+				Hibernate.initialize( departments.get( i ).employees );
+			}
+			assertThatThrownBy( () -> Hibernate.initialize( departments.get( 3 ).employees ) )
+					.isInstanceOf( NPlusOneSelectException.class )
+					.hasMessageContaining( Department.class.getName() + ".employees" )
+					.hasMessageContaining( "from Department order by id" );
+		} );
+	}
+
+	@Test
+	public void testProxyInitializedFromCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.find( Office.class, i );
+			}
+		} );
+		assertTrue( scope.getSessionFactory().getCache().containsEntity( Office.class, 4 ) );
+		scope.inTransaction( session -> {
+			final List<Clerk> clerks =
+					session.createSelectionQuery( "from Clerk order by id", Clerk.class ).getResultList();
+			// every office is in the second-level cache, so no select is executed
+			for ( Clerk clerk : clerks ) {
+				Hibernate.initialize( clerk.office );
+				assertTrue( Hibernate.isInitialized( clerk.office ) );
+			}
+		} );
+	}
+
+	@Entity(name = "Office")
+	@Cacheable
+	public static class Office {
+		@Id
+		Integer id;
+
+		public Office() {
+		}
+
+		public Office(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Clerk")
+	public static class Clerk {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Office office;
+
+		public Clerk() {
+		}
+
+		public Clerk(Integer id, Office office) {
+			this.id = id;
+			this.office = office;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DomainModel(annotatedClasses = {
+		ParallelBootstrapTest.Shape.class,
+		ParallelBootstrapTest.Circle.class,
+		ParallelBootstrapTest.Square.class,
+		ParallelBootstrapTest.Drawing.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.BOOTSTRAP_PARALLELISM, value = "4"))
+@SessionFactory
+public class ParallelBootstrapTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Shape" ).executeUpdate();
+			session.createMutationQuery( "delete from Drawing" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPersistersArePrepared(SessionFactoryScope scope) {
+		final MappingMetamodel metamodel = scope.getSessionFactory().getMappingMetamodel();
+		final List<EntityPersister> persisters = new ArrayList<>();
+		metamodel.forEachEntityDescriptor( persisters::add );
+		assertEquals( 4, persisters.size() );
+		for ( EntityPersister persister : persisters ) {
+			final AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+			assertNotNull( entityPersister.getInsertCoordinator() );
+			assertNotNull( entityPersister.getUpdateCoordinator() );
+			assertNotNull( entityPersister.getDeleteCoordinator() );
+		}
+		assertNotNull( metamodel.getCollectionDescriptor( Drawing.class.getName() + ".shapes" ) );
+		assertNotNull( metamodel.getCollectionDescriptor( Drawing.class.getName() + ".tags" ) );
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Drawing drawing = new Drawing();
+			drawing.id = 1;
+			drawing.tags.add( "geometry" );
+			session.persist( drawing );
+
+			final Circle circle = new Circle();
+			circle.id = 1;
+			circle.radius = 2;
+			circle.drawing = drawing;
+			session.persist( circle );
+
+			final Square square = new Square();
+			square.id = 2;
+			square.side = 3;
+			square.drawing = drawing;
+			session.persist( square );
+		} );
+
+		scope.inTransaction( session -> {
+			final Drawing drawing = session.find( Drawing.class, 1 );
+			assertEquals( 2, drawing.shapes.size() );
+			assertEquals( Set.of( "geometry" ), drawing.tags );
+			assertEquals( 2, session.find( Circle.class, 1 ).radius );
+			session.find( Square.class, 2 ).side = 4;
+		} );
+
+		scope.inTransaction( session -> assertEquals( 4, session.find( Square.class, 2 ).side ) );
+	}
+
+	@Entity(name = "Shape")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Shape {
+		@Id
+		Integer id;
+		@ManyToOne
+		Drawing drawing;
+	}
+
+	@Entity(name = "Circle")
+	public static class Circle extends Shape {
+		int radius;
+	}
+
+	@Entity(name = "Square")
+	public static class Square extends Shape {
+		int side;
+	}
+
+	@Entity(name = "Drawing")
+	public static class Drawing {
+		@Id
+		Integer id;
+		@OneToMany(mappedBy = "drawing")
+		List<Shape> shapes = new ArrayList<>();
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.LoopbackInvalidationBus;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.InvalidationBus;
+import org.hibernate.cache.spi.support.MultiLevelRegionFactory;
+import org.hibernate.cache.spi.support.MultiLevelStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = MultiLevelRegionFactoryTest.Country.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.spi.support.MultiLevelRegionFactory"),
+		@Setting(name = AvailableSettings.CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY, value = "org.hibernate.orm.test.cache.MultiLevelRegionFactoryTest$CountingRegionFactory"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+}, settingProviders = @SettingProvider(
+		settingName = AvailableSettings.CACHE_MULTI_LEVEL_INVALIDATION_BUS,
+		provider = MultiLevelRegionFactoryTest.LoopbackInvalidationBusProvider.class
+))
+@SessionFactory
+public class MultiLevelRegionFactoryTest {
+	private static final AtomicInteger REMOTE_GETS = new AtomicInteger();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Country( 1L, "Belgium" ) ) );
+		scope.getSessionFactory().getStatistics().clear();
+		REMOTE_GETS.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Country" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testReadsServedLocally(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getRegionFactory() )
+				.isInstanceOf( MultiLevelRegionFactory.class );
+
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inSession( session -> assertEquals( "Belgium", session.find( Country.class, 1L ).name ) );
+		}
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertEquals( 3, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 0, REMOTE_GETS.get() );
+	}
+
+	@Test
+	public void testReadsFromRemoteAfterLocalEviction(SessionFactoryScope scope) {
+		final MultiLevelStorageAccess storageAccess = storageAccess( scope );
+		storageAccess.invalidate( null );
+
+		scope.inSession( session -> assertEquals( "Belgium", session.find( Country.class, 1L ).name ) );
+		scope.inSession( session -> assertEquals( "Belgium", session.find( Country.class, 1L ).name ) );
+
+		assertEquals( 2, scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		assertEquals( 1, REMOTE_GETS.get() );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		scope.inSession( session -> session.find( Country.class, 1L ) );
+		scope.inTransaction( session -> session.find( Country.class, 1L ).name = "Belgique" );
+
+		scope.getSessionFactory().getStatistics().clear();
+		scope.inSession( session -> assertEquals( "Belgique", session.find( Country.class, 1L ).name ) );
+		assertEquals( 1, scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testInvalidationBus(SessionFactoryScope scope) {
+		final MultiLevelStorageAccess storageAccess = storageAccess( scope );
+		final String regionName = scope.getSessionFactory().getCache().getRegionFactory()
+				.qualify( Country.class.getName() );
+		// another node, sharing the remote tier of this one
+		final MultiLevelStorageAccess otherNode = new MultiLevelStorageAccess(
+				regionName,
+				storageAccess.getRemoteStorageAccess(),
+				LoopbackInvalidationBus.INSTANCE,
+				100
+		);
+		try {
+			storageAccess.putIntoCache( "key", "first", null );
+			assertEquals( "first", otherNode.getFromCache( "key", null ) );
+			assertTrue( otherNode.containsLocally( "key" ) );
+
+			storageAccess.putIntoCache( "key", "second", null );
+			assertFalse( otherNode.containsLocally( "key" ) );
+			assertEquals( "second", otherNode.getFromCache( "key", null ) );
+
+			otherNode.evictData( "key" );
+			assertFalse( storageAccess.containsLocally( "key" ) );
+			assertFalse( storageAccess.contains( "key" ) );
+		}
+		finally {
+			LoopbackInvalidationBus.INSTANCE.unsubscribe( regionName, otherNode );
+		}
+	}
+
+	@Test
+	public void testInvalidationBusRequired() {
+		try (StandardServiceRegistry serviceRegistry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, MultiLevelRegionFactory.class.getName() )
+				.applySetting( AvailableSettings.CACHE_MULTI_LEVEL_REMOTE_REGION_FACTORY, CountingRegionFactory.class.getName() )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.build()) {
+			final Exception exception = assertThrows(
+					Exception.class,
+					() -> new MetadataSources( serviceRegistry )
+							.addAnnotatedClass( Country.class )
+							.buildMetadata()
+							.buildSessionFactory()
+							.close()
+			);
+			Throwable cause = exception;
+			while ( cause != null && !( cause instanceof CacheException ) ) {
+				cause = cause.getCause();
+			}
+			assertThat( cause ).isInstanceOf( CacheException.class );
+			assertThat( cause.getMessage() ).contains( AvailableSettings.CACHE_MULTI_LEVEL_INVALIDATION_BUS );
+		}
+	}
+
+	private static MultiLevelStorageAccess storageAccess(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final DomainDataRegionTemplate region = (DomainDataRegionTemplate) sessionFactory.getCache()
+				.getRegion( Country.class.getName() );
+		return (MultiLevelStorageAccess) region.getCacheStorageAccess();
+	}
+
+	/**
+	 * Stands for a remote cache, counting the reads of domain data.
+	 */
+	public static class LoopbackInvalidationBusProvider implements SettingProvider.Provider<InvalidationBus> {
+		@Override
+		public InvalidationBus getSetting() {
+			return LoopbackInvalidationBus.INSTANCE;
+		}
+	}
+
+	public static class CountingRegionFactory extends RegionFactoryTemplate {
+		@Override
+		protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		}
+
+		@Override
+		protected void releaseFromUse() {
+		}
+
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new MapStorageAccessImpl() {
+				@Override
+				public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+					REMOTE_GETS.incrementAndGet();
+					return super.getFromCache( key, session );
+				}
+			};
+		}
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl();
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl();
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		Long id;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
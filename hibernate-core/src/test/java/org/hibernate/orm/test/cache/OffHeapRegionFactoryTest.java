@@ -0,0 +1,220 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Version;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_OFF_HEAP_PAGE_SIZE, value = "4096"),
+		@Setting(name = AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE, value = "16384")
+})
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	private static final UUID CODE = UUID.randomUUID();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Product product = new Product();
+			product.id = 1;
+			product.name = "Widget é";
+			product.price = new BigDecimal( "12.50" );
+			product.released = LocalDate.of( 2023, 7, 14 );
+			product.updated = LocalDateTime.of( 2023, 7, 14, 12, 30, 15, 123_000_000 );
+			product.code = CODE;
+			product.status = Status.ACTIVE;
+			product.discontinued = false;
+			product.dimensions = new Dimensions( 2.5, 4 );
+			product.tags.add( "red" );
+			product.tags.add( "small" );
+			session.persist( product );
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntityAndCollectionRoundTrip(SessionFactoryScope scope) {
+		assertEquals( OffHeapRegionFactory.class, scope.getSessionFactory().getCache().getRegionFactory().getClass() );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> session.find( Product.class, 1 ).tags.size() );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 2, statistics.getSecondLevelCachePutCount() );
+
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1 );
+			assertEquals( "Widget é", product.name );
+			assertEquals( new BigDecimal( "12.50" ), product.price );
+			assertEquals( LocalDate.of( 2023, 7, 14 ), product.released );
+			assertEquals( LocalDateTime.of( 2023, 7, 14, 12, 30, 15, 123_000_000 ), product.updated );
+			assertEquals( CODE, product.code );
+			assertEquals( Status.ACTIVE, product.status );
+			assertEquals( Boolean.FALSE, product.discontinued );
+			assertEquals( 2.5, product.dimensions.width );
+			assertEquals( 4, product.dimensions.height );
+			assertEquals( 0, product.version );
+			assertEquals( List.of( "red", "small" ), product.tags );
+		} );
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Product.class, 1 ).price = new BigDecimal( "15.00" ) );
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final Product product = session.find( Product.class, 1 );
+				assertEquals( new BigDecimal( "15.00" ), product.price );
+				assertEquals( 1, product.version );
+			} );
+		}
+		assertEquals( 1, scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testQueryCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Object[]> results = session.createQuery(
+								"select p.name, p.price from Product p",
+								Object[].class
+						)
+						.setCacheable( true )
+						.getResultList();
+				assertEquals( 1, results.size() );
+				assertEquals( new BigDecimal( "12.50" ), results.get( 0 )[1] );
+			} );
+		}
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// the update of the table invalidates the cached results
+		scope.inTransaction( session -> session.find( Product.class, 1 ).name = "Gadget" );
+		scope.inTransaction( session -> assertEquals(
+				"Gadget",
+				session.createQuery( "select p.name from Product p", String.class )
+						.setCacheable( true )
+						.getSingleResult()
+		) );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEviction(SessionFactoryScope scope) {
+		// far more entries than fit into the 4 pages of the region
+		scope.inTransaction( session -> {
+			for ( int i = 2; i <= 400; i++ ) {
+				final Product product = new Product();
+				product.id = i;
+				product.name = "Product " + i;
+				session.persist( product );
+			}
+		} );
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 400; i++ ) {
+				session.find( Product.class, i );
+			}
+		} );
+		// read the most recently cached entries first, before they are evicted
+		scope.inTransaction( session -> {
+			for ( int i = 400; i >= 1; i-- ) {
+				assertEquals( i == 1 ? "Widget é" : "Product " + i, session.find( Product.class, i ).name );
+			}
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final long hits = statistics.getSecondLevelCacheHitCount();
+		assertTrue( hits > 0 );
+		assertTrue( hits < 400, "expected evictions, but got " + hits + " hits" );
+	}
+
+	public enum Status {
+		ACTIVE,
+		RETIRED
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private double width;
+		private int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Product {
+		@Id
+		private Integer id;
+		@Version
+		private int version;
+		private String name;
+		private BigDecimal price;
+		private LocalDate released;
+		private LocalDateTime updated;
+		private UUID code;
+		@Enumerated(EnumType.STRING)
+		private Status status;
+		private Boolean discontinued;
+		private Dimensions dimensions;
+		@ElementCollection
+		@OrderColumn
+		@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+		private List<String> tags = new ArrayList<>();
+	}
+}
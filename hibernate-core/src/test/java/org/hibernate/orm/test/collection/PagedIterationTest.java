@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.PagedIteration;
+import org.hibernate.annotations.ParamDef;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = { PagedIterationTest.Calendar.class, PagedIterationTest.Event.class })
+@SessionFactory(useCollectingStatementInspector = true)
+public class PagedIterationTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Calendar calendar = new Calendar( 1L );
+			session.persist( calendar );
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new Event( (long) i, "event" + i, calendar ) );
+			}
+			for ( int i = 0; i < 10; i++ ) {
+				calendar.notes.add( "note" + i );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Event" ).executeUpdate();
+			session.createMutationQuery( "delete from Calendar" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPagedIteration(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Calendar calendar = session.find( Calendar.class, 1L );
+			inspector.clear();
+
+			final List<Event> events = new ArrayList<>();
+			for ( Event event : calendar.events ) {
+				if ( event.id == 3L ) {
+					event.name = "modified";
+				}
+				events.add( event );
+			}
+			assertThat( Hibernate.isInitialized( calendar.events ) ).isFalse();
+			final List<Long> ids = new ArrayList<>();
+			for ( long id = 0; id < 25; id++ ) {
+				ids.add( id );
+			}
+			assertThat( events ).extracting( event -> event.id ).containsExactlyElementsOf( ids );
+			// three pages, of 10, 10, and 5 elements
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+			// the unmodified entities of consumed pages are evicted
+			assertThat( events ).filteredOn( session::contains ).extracting( event -> event.id ).containsExactly( 3L );
+			assertThat( calendar.events ).hasSize( 25 );
+			assertThat( Hibernate.isInitialized( calendar.events ) ).isFalse();
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Event.class, 3L ).name ).isEqualTo( "modified" ) );
+	}
+
+	@Test
+	public void testPagedIterationOfElementCollection(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Calendar calendar = session.find( Calendar.class, 1L );
+			inspector.clear();
+
+			final List<String> notes = new ArrayList<>();
+			final Iterator<String> iterator = calendar.notes.iterator();
+			while ( iterator.hasNext() ) {
+				notes.add( iterator.next() );
+			}
+			assertThat( notes ).containsExactly(
+					"note0", "note1", "note2", "note3", "note4", "note5", "note6", "note7", "note8", "note9"
+			);
+			// pages of 4, 4, 2 elements
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( Hibernate.isInitialized( calendar.notes ) ).isFalse();
+			assertThatThrownBy( iterator::remove ).isInstanceOf( UnsupportedOperationException.class );
+		} );
+	}
+
+	@Test
+	public void testIterationWithQueuedOperations(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Calendar calendar = session.find( Calendar.class, 1L );
+			final Event event = new Event( 25L, "event25", calendar );
+			session.persist( event );
+			calendar.events.add( event );
+			assertThat( Hibernate.isInitialized( calendar.events ) ).isFalse();
+
+			final List<Event> events = new ArrayList<>();
+			for ( Event e : calendar.events ) {
+				events.add( e );
+			}
+			assertThat( events ).hasSize( 26 ).contains( event );
+			assertThat( Hibernate.isInitialized( calendar.events ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testAlreadyManagedElementsNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Calendar calendar = session.find( Calendar.class, 1L );
+			final Event managed = session.find( Event.class, 5L );
+
+			final List<Event> events = new ArrayList<>();
+			for ( Event event : calendar.events ) {
+				events.add( event );
+			}
+			assertThat( events ).hasSize( 25 ).contains( managed );
+			// only the entities made managed by the pages are evicted
+			assertThat( events ).filteredOn( session::contains ).containsExactly( managed );
+			assertThat( session.contains( calendar ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testPagedIterationOfFilteredCollection(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.enableFilter( "minimumId" ).setParameter( "id", 18L );
+			final Calendar calendar = session.find( Calendar.class, 1L );
+			inspector.clear();
+
+			final List<Long> ids = new ArrayList<>();
+			for ( Event event : calendar.events ) {
+				ids.add( event.id );
+			}
+			assertThat( ids ).containsExactly( 18L, 19L, 20L, 21L, 22L, 23L, 24L );
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( Hibernate.isInitialized( calendar.events ) ).isFalse();
+		} );
+	}
+
+	@Entity(name = "Calendar")
+	@FilterDef(name = "minimumId", parameters = @ParamDef(name = "id", type = Long.class))
+	public static class Calendar {
+		@Id
+		Long id;
+
+		@OneToMany(mappedBy = "calendar")
+		@PagedIteration(pageSize = 10)
+		@Filter(name = "minimumId", condition = "id >= :id")
+		Set<Event> events = new HashSet<>();
+
+		@ElementCollection
+		@OrderColumn
+		@PagedIteration(pageSize = 4)
+		List<String> notes = new ArrayList<>();
+
+		public Calendar() {
+		}
+
+		public Calendar(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Calendar calendar;
+
+		public Event() {
+		}
+
+		public Event(Long id, String name, Calendar calendar) {
+			this.id = id;
+			this.name = name;
+			this.calendar = calendar;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.set;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.DeltaTracked;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { DeltaTrackedSetTest.Author.class, DeltaTrackedSetTest.Book.class })
+@SessionFactory(useCollectingStatementInspector = true)
+public class DeltaTrackedSetTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L );
+			for ( int i = 0; i < 20; i++ ) {
+				author.tags.add( "tag" + i );
+				final Book book = new Book( (long) i );
+				session.persist( book );
+				author.books.add( book );
+			}
+			session.persist( author );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testOnlyChangesAreWritten(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			Hibernate.initialize( author.tags );
+			Hibernate.initialize( author.books );
+			assertThat( snapshot( session, author.tags ) ).isNotInstanceOf( Map.class );
+			assertThat( snapshot( session, author.books ) ).isNotInstanceOf( Map.class );
+
+			author.tags.add( "new" );
+			author.tags.remove( "tag3" );
+			// removed, then added again
+			author.tags.remove( "tag4" );
+			author.tags.add( "tag4" );
+			author.books.remove( session.getReference( Book.class, 5L ) );
+			inspector.clear();
+		} );
+		final List<String> statements = inspector.getSqlQueries();
+		assertThat( statements ).hasSize( 3 );
+		assertThat( statements ).filteredOn( sql -> sql.startsWith( "insert" ) ).hasSize( 1 );
+		assertThat( statements ).filteredOn( sql -> sql.startsWith( "delete" ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			assertThat( author.tags ).hasSize( 20 ).contains( "new", "tag4" ).doesNotContain( "tag3" );
+			assertThat( author.books ).hasSize( 19 );
+		} );
+	}
+
+	@Test
+	public void testBulkOperations(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			author.tags.removeAll( Set.of( "tag0", "tag1" ) );
+			author.tags.addAll( Set.of( "tag1", "x", "y" ) );
+			author.tags.retainAll( Set.of( "tag1", "tag2", "x", "y", "z" ) );
+			for ( Iterator<String> iterator = author.tags.iterator(); iterator.hasNext(); ) {
+				if ( iterator.next().equals( "y" ) ) {
+					iterator.remove();
+				}
+			}
+		} );
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			assertThat( author.tags ).containsExactlyInAnyOrder( "tag1", "tag2", "x" );
+			author.tags.clear();
+		} );
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			assertThat( author.tags ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testChangesAcrossFlushes(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			author.tags.add( "first" );
+			session.flush();
+			author.tags.remove( "first" );
+			author.tags.add( "second" );
+			session.flush();
+			author.tags.add( "first" );
+		} );
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			assertThat( author.tags ).hasSize( 22 ).contains( "first", "second" );
+		} );
+	}
+
+	private static Object snapshot(SessionImplementor session, Set<?> collection) {
+		return session.getPersistenceContextInternal()
+				.getCollectionEntry( (PersistentCollection<?>) collection )
+				.getSnapshot();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+
+		@ElementCollection
+		@DeltaTracked
+		Set<String> tags = new HashSet<>();
+
+		@ManyToMany
+		@DeltaTracked
+		Set<Book> books = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		public Book() {
+		}
+
+		public Book(Long id) {
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Book && id.equals( ( (Book) o ).id );
+		}
+
+		@Override
+		public int hashCode() {
+			return id.hashCode();
+		}
+	}
+}
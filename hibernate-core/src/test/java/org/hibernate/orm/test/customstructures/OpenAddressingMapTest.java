@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.customstructures;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.internal.util.collections.OpenAddressingMap;
+import org.hibernate.internal.util.collections.PartitionedMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingMapTest {
+
+	@Test
+	public void testOpenAddressingMap() {
+		verifyMapContract( new OpenAddressingMap<>( 2 ) );
+	}
+
+	@Test
+	public void testPartitionedMap() {
+		verifyMapContract( new PartitionedMap<>( Key.class, key -> key.partition, 2 ) );
+	}
+
+	@Test
+	public void testPartitionedMapRejectsForeignKeys() {
+		final Map<Key, String> map = new PartitionedMap<>( Key.class, key -> key.partition, 2 );
+		map.put( new Key( "a", 1 ), "a1" );
+		assertNull( map.get( "a" ) );
+		assertFalse( map.containsKey( 1 ) );
+		assertNull( map.remove( "a" ) );
+		assertEquals( 1, map.size() );
+	}
+
+	private static void verifyMapContract(Map<Key, String> map) {
+		final Map<Key, String> expected = new HashMap<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			// use few distinct hash codes, to exercise probing
+			final Key key = new Key( i % 3 == 0 ? "a" : "b", i );
+			assertNull( map.put( key, "v" + i ) );
+			expected.put( key, "v" + i );
+		}
+		assertEquals( expected, map );
+		assertEquals( 1000, map.size() );
+
+		assertEquals( "v10", map.put( new Key( "b", 10 ), "w10" ) );
+		assertEquals( "w10", map.putIfAbsent( new Key( "b", 10 ), "x10" ) );
+		assertEquals( "w10", map.get( new Key( "b", 10 ) ) );
+		assertEquals( 1000, map.size() );
+
+		for ( int i = 0; i < 1000; i += 2 ) {
+			map.remove( new Key( i % 3 == 0 ? "a" : "b", i ) );
+		}
+		assertEquals( 500, map.size() );
+		assertFalse( map.containsKey( new Key( "a", 0 ) ) );
+		assertTrue( map.containsKey( new Key( "a", 3 ) ) );
+
+		// reuse the slots of removed entries
+		for ( int i = 0; i < 1000; i += 2 ) {
+			map.put( new Key( i % 3 == 0 ? "a" : "b", i ), "y" + i );
+		}
+		assertEquals( 1000, map.size() );
+		assertEquals( "y0", map.get( new Key( "a", 0 ) ) );
+
+		int removed = 0;
+		for ( Iterator<String> iterator = map.values().iterator(); iterator.hasNext(); ) {
+			if ( iterator.next().startsWith( "y" ) ) {
+				iterator.remove();
+				removed++;
+			}
+		}
+		assertEquals( 500, removed );
+		assertEquals( 500, map.size() );
+
+		final int[] count = { 0 };
+		map.forEach( (key, value) -> {
+			assertEquals( 1, key.value % 2 );
+			count[0]++;
+		} );
+		assertEquals( 500, count[0] );
+		assertEquals( 500, map.entrySet().size() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( new Key( "a", 3 ) ) );
+		map.put( new Key( "a", 3 ), "z3" );
+		assertEquals( "z3", map.get( new Key( "a", 3 ) ) );
+	}
+
+	private static class Key {
+		private final String partition;
+		private final int value;
+
+		private Key(String partition, int value) {
+			this.partition = partition;
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return value == key.value && partition.equals( key.partition );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( partition, value / 10 );
+		}
+	}
+}
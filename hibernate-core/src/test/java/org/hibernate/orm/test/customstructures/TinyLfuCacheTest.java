@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.customstructures;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuCacheTest {
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final List<String> evicted = new ArrayList<>();
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 100, key -> 1, (key, value) -> evicted.add( key ) );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( "hot" + i, "value" );
+		}
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertNotNull( cache.get( "hot" + i ) );
+			}
+		}
+		// a scan of keys used only once
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.computeIfAbsent( "cold" + i, key -> "value" );
+		}
+		for ( int i = 0; i < 50; i++ ) {
+			assertNotNull( cache.get( "hot" + i ), "hot" + i );
+		}
+		assertTrue( cache.size() <= 100 );
+		assertEquals( 1000 + 50 - cache.size(), evicted.size() );
+	}
+
+	@Test
+	public void testWeightBound() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 100, String::length, null );
+		for ( int i = 0; i < 200; i++ ) {
+			cache.put( "key-" + i, "value" );
+			assertTrue( cache.weightedSize() <= 100 );
+		}
+		assertTrue( cache.size() < 100 / "key-".length() );
+	}
+
+	@Test
+	public void testReplaceRemoveAndClear() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 10, key -> 2, null );
+		cache.put( "a", "1" );
+		cache.put( "a", "2" );
+		assertEquals( "2", cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+		assertEquals( 2, cache.weightedSize() );
+
+		cache.put( "b", "3" );
+		assertEquals( "2", cache.remove( "a" ) );
+		assertNull( cache.get( "a" ) );
+		assertNull( cache.remove( "a" ) );
+		assertEquals( 1, cache.size() );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertEquals( 0, cache.weightedSize() );
+		assertNull( cache.get( "b" ) );
+		cache.put( "c", "4" );
+		assertEquals( "4", cache.get( "c" ) );
+	}
+}
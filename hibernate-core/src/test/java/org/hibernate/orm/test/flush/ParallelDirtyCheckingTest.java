@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckingTest.Item.class,
+		ParallelDirtyCheckingTest.Category.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+}, settingProviders = @SettingProvider(
+		settingName = AvailableSettings.PARALLEL_DIRTY_CHECKING_EXECUTOR,
+		provider = ParallelDirtyCheckingTest.CountingExecutorProvider.class
+))
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+
+	private static final int ITEMS = 200;
+
+	private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+	private static Runnable onPreUpdate;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category books = new Category( 1L, "books" );
+			final Category games = new Category( 2L, "games" );
+			session.persist( books );
+			session.persist( games );
+			for ( long i = 0; i < ITEMS; i++ ) {
+				session.persist( new Item( i, "item " + i, new Dimensions( 1, 1 ), books ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Category" ).executeUpdate();
+		} );
+		onPreUpdate = null;
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Category games = session.getReference( Category.class, 2L );
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			for ( Item item : items ) {
+				final long id = item.id;
+				if ( id % 2 == 0 ) {
+					item.name = "renamed " + id;
+				}
+				if ( id % 3 == 0 ) {
+					item.dimensions = new Dimensions( 2, 3 );
+				}
+				if ( id % 5 == 0 ) {
+					item.category = games;
+				}
+				if ( id % 7 == 0 ) {
+					// a new instance with the same state is not a modification
+					item.dimensions = new Dimensions( item.dimensions.width, item.dimensions.height );
+				}
+			}
+		} );
+		assertEquals( expectedUpdates(), statistics.getEntityUpdateCount() );
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session
+					.createSelectionQuery( "from Item i join fetch i.category order by i.id", Item.class )
+					.getResultList();
+			assertEquals( ITEMS, items.size() );
+			for ( Item item : items ) {
+				final long id = item.id;
+				assertEquals( id % 2 == 0 ? "renamed " + id : "item " + id, item.name );
+				assertEquals( id % 3 == 0 ? 2 : 1, item.dimensions.width );
+				assertEquals( id % 3 == 0 ? 3 : 1, item.dimensions.height );
+				assertEquals( id % 5 == 0 ? "games" : "books", item.category.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testModificationDuringFlushIsNotMissed(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			items.get( 0 ).name = "first";
+			session.flush();
+			assertEquals( 1, statistics.getEntityUpdateCount() );
+			items.get( 1 ).name = "second";
+			session.flush();
+			assertEquals( 2, statistics.getEntityUpdateCount() );
+			session.flush();
+			assertEquals( 2, statistics.getEntityUpdateCount() );
+		} );
+	}
+
+	@Test
+	public void testModificationByCallbackIsNotMissed(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			// the item is only modified after it was dirty checked in parallel,
+			// and the instance of its embeddable is the same
+			onPreUpdate = () -> items.get( 5 ).dimensions.width = 9;
+			items.get( 0 ).name = "first";
+		} );
+		assertEquals( 2, statistics.getEntityUpdateCount() );
+		scope.inTransaction( session -> assertEquals( 9, session.find( Item.class, 5L ).dimensions.width ) );
+	}
+
+	@Test
+	public void testConfiguredExecutor(SessionFactoryScope scope) {
+		EXECUTIONS.set( 0 );
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			session.flush();
+		} );
+		assertTrue( EXECUTIONS.get() > 0 );
+	}
+
+	private static long expectedUpdates() {
+		long count = 0;
+		for ( long id = 0; id < ITEMS; id++ ) {
+			if ( id % 2 == 0 || id % 3 == 0 || id % 5 == 0 ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		@Embedded
+		private Dimensions dimensions;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Category category;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Dimensions dimensions, Category category) {
+			this.id = id;
+			this.name = name;
+			this.dimensions = dimensions;
+			this.category = category;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			final Runnable callback = onPreUpdate;
+			if ( callback != null ) {
+				onPreUpdate = null;
+				callback.run();
+			}
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private int width;
+		private int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Long id;
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	public static class CountingExecutorProvider implements SettingProvider.Provider<Executor> {
+		@Override
+		public Executor getSetting() {
+			return command -> {
+				EXECUTIONS.incrementAndGet();
+				ForkJoinPool.commonPool().execute( command );
+			};
+		}
+	}
+}
@@ -271,6 +271,67 @@ public class OptimizerUnitTest {
 		assertEquals( 4, sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testBasicPooledLoConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 3 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		// the middle of the pool, the next pool is read ahead of time
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+
+		// "clock over" to the pool read ahead of time
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( (1+6), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testSubsequentPooledLoConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1001, 3, 5 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 3 );
+
+		assertEquals( 5, sequence.getTimesCalled() );
+		assertEquals( 1001, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( (1001+3), next.intValue() );
+		assertEquals( (5+1), sequence.getTimesCalled() );
+		assertEquals( (1001+3), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( (1001+4), next.intValue() );
+		assertEquals( (5+2), sequence.getTimesCalled() );
+		assertEquals( (1001+6), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( (1001+5), next.intValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( (1001+6), next.intValue() );
+		assertEquals( (5+2), sequence.getTimesCalled() );
+	}
+
 	@Test
 	public void testBasicPooledThreadLocalLoOptimizerUsage() {
 		final SourceMock sequence = new SourceMock( 1, 50 ); // pass 5000 to match default for PooledThreadLocalLoOptimizer.THREAD_LOCAL_BLOCK_SIZE
@@ -320,6 +381,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
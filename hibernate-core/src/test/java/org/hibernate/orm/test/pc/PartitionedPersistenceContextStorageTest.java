@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.pc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistenceContextStorage;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(
+		annotatedClasses = {
+				PartitionedPersistenceContextStorageTest.Animal.class,
+				PartitionedPersistenceContextStorageTest.Dog.class,
+				PartitionedPersistenceContextStorageTest.Owner.class
+		}
+)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_STORAGE, value = "partitioned")
+)
+@SessionFactory
+public class PartitionedPersistenceContextStorageTest {
+
+	private static final int COUNT = 200;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+			session.createMutationQuery( "delete from Owner" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLoadAndFlush(SessionFactoryScope scope) {
+		assertEquals(
+				PersistenceContextStorage.PARTITIONED,
+				scope.getSessionFactory().getSessionFactoryOptions().getPersistenceContextStorage()
+		);
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Owner owner = new Owner( i );
+				session.persist( owner );
+				session.persist( new Animal( i, owner ) );
+				session.persist( new Dog( COUNT + i, owner ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createSelectionQuery( "from Owner", Owner.class ).getResultList();
+			final List<Animal> animals = session.createSelectionQuery( "from Animal", Animal.class ).getResultList();
+			assertEquals( COUNT, owners.size() );
+			assertEquals( 2 * COUNT, animals.size() );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertEquals( 3 * COUNT, persistenceContext.getNumberOfManagedEntities() );
+
+			// Dog shares the partition of its root entity Animal
+			assertSame( animals.get( 0 ), session.get( Animal.class, animals.get( 0 ).id ) );
+			final Animal dog = session.get( Animal.class, COUNT + 1 );
+			assertThat( dog ).isInstanceOf( Dog.class );
+			assertSame( dog, session.get( Dog.class, COUNT + 1 ) );
+
+			for ( Owner owner : owners ) {
+				assertFalse( Hibernate.isInitialized( owner.animals ) );
+				assertEquals( 2, owner.animals.size() );
+				owner.name = "changed";
+			}
+			assertEquals( COUNT, persistenceContext.getCollectionsByKey().size() );
+
+			session.remove( dog );
+			session.flush();
+			assertFalse( session.contains( dog ) );
+			assertEquals( 3 * COUNT - 1, persistenceContext.getNumberOfManagedEntities() );
+
+			session.clear();
+			assertTrue( persistenceContext.getCollectionsByKey().isEmpty() );
+			assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+		} );
+
+		scope.inTransaction( session -> {
+			assertEquals(
+					(long) COUNT,
+					session.createSelectionQuery( "select count(*) from Owner where name = 'changed'", Long.class )
+							.getSingleResult()
+			);
+			assertEquals(
+					2L * COUNT - 1,
+					session.createSelectionQuery( "select count(*) from Animal", Long.class ).getSingleResult()
+			);
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "owner")
+		private List<Animal> animals = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance
+	public static class Animal {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Owner owner;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Integer id, Owner owner) {
+			super( id, owner );
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.internal.QueryInterpretationCacheFrequencyImpl;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(annotatedClasses = QueryInterpretationCacheFrequencyTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION, value = "frequency"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_WARM_UP, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_STARTUP_CHECKING, value = "false"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class QueryInterpretationCacheFrequencyTest {
+
+	private static final String NAMED_QUERY = "select e from Employee e where e.name = :name";
+
+	@Test
+	public void testWarmUpAndEviction(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		assertThat( cache ).isInstanceOf( QueryInterpretationCacheFrequencyImpl.class );
+		scope.inSession( session -> scope.getSessionFactory().addNamedQuery(
+				"Employee.byNameTyped",
+				session.createQuery( NAMED_QUERY, Employee.class )
+		) );
+		cache.close();
+		scope.getSessionFactory().getQueryEngine().warmUpInterpretationCache();
+		// the untyped annotated query, and the typed registered query
+		assertEquals( 2, cache.getNumberOfCachedHqlInterpretations() );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			session.createNamedQuery( "Employee.byName" );
+			session.createQuery( NAMED_QUERY );
+			session.createQuery( NAMED_QUERY, Employee.class );
+		} );
+		assertEquals( 3, statistics.getQueryPlanCacheHitCount() );
+		assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 3, statistics.getQueryStatistics( NAMED_QUERY ).getPlanCacheHitCount() );
+
+		scope.inSession( session -> {
+			for ( int round = 0; round < 3; round++ ) {
+				session.createQuery( NAMED_QUERY, Employee.class );
+			}
+			for ( int i = 0; i < 50; i++ ) {
+				session.createQuery( "select e from Employee e where e.id = " + i, Employee.class );
+			}
+			// the frequently used query was not displaced by the queries used once
+			statistics.clear();
+			session.createQuery( NAMED_QUERY, Employee.class );
+			assertEquals( 1, statistics.getQueryPlanCacheHitCount() );
+			assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+		} );
+		assertThat( cache.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 10 );
+	}
+
+	@Test
+	public void testTypedQueryNotInterpretedWithoutResultType(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		cache.close();
+		scope.getSessionFactory().getQueryEngine().warmUpInterpretationCache();
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			// the annotated query was interpreted without a result type
+			session.createNamedQuery( "Employee.byName", Employee.class );
+			assertEquals( 0, statistics.getQueryPlanCacheHitCount() );
+			assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+			session.createQuery( "select e.name from Employee e", String.class );
+			session.createQuery( "select e.name from Employee e", Object[].class );
+			assertEquals( 3, statistics.getQueryPlanCacheMissCount() );
+		} );
+	}
+
+	@Test
+	public void testEvictionStatistics(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		cache.close();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			for ( int i = 0; i < 50; i++ ) {
+				session.createQuery( "select e from Employee e where e.id > " + i, Employee.class );
+			}
+		} );
+		assertEquals( 50, statistics.getQueryPlanCacheMissCount() );
+		assertEquals(
+				50 - cache.getNumberOfCachedHqlInterpretations(),
+				statistics.getQueryPlanCacheEvictionCount()
+		);
+		long perQueryEvictions = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			perQueryEvictions += statistics.getQueryStatistics( "select e from Employee e where e.id > " + i )
+					.getPlanCacheEvictionCount();
+		}
+		assertEquals( statistics.getQueryPlanCacheEvictionCount(), perQueryEvictions );
+	}
+
+	@Entity(name = "Employee")
+	@NamedQuery(name = "Employee.byName", query = NAMED_QUERY)
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
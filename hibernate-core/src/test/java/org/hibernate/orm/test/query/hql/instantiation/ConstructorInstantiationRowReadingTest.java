@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.query.sqm.sql.internal.InstantiationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the instantiation of query results through constructors, both
+ * with and without the arguments being passed directly.
+ */
+@DomainModel(annotatedClasses = ConstructorInstantiationRowReadingTest.Measurement.class)
+@SessionFactory
+public class ConstructorInstantiationRowReadingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Measurement( i, "m" + i, i * 10 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFewArguments(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Pair> results = session.createQuery(
+					"select new " + Pair.class.getName() + "(m.id, m.name) from Measurement m order by m.id",
+					Pair.class
+			).getResultList();
+			assertEquals( 3, results.size() );
+			for ( int i = 0; i < 3; i++ ) {
+				assertEquals( i + 1, results.get( i ).id );
+				assertEquals( "m" + ( i + 1 ), results.get( i ).name );
+			}
+		} );
+	}
+
+	@Test
+	public void testPrimitiveArgument(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Reading> results = session.createQuery(
+					"select new " + Reading.class.getName() + "(m.name, m.reading) from Measurement m order by m.id",
+					Reading.class
+			).getResultList();
+			assertEquals( 3, results.size() );
+			assertEquals( 30, results.get( 2 ).value );
+		} );
+	}
+
+	@Test
+	public void testManyArguments(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Wide> results = session.createQuery(
+					"select new " + Wide.class.getName()
+							+ "(m.id, m.name, m.reading, m.id, m.name, m.reading, m.id, m.name) "
+							+ "from Measurement m order by m.id",
+					Wide.class
+			).getResultList();
+			assertEquals( 3, results.size() );
+			assertEquals( "m1|m1|10|10|1|1|1|m1", results.get( 0 ).toString() );
+			assertEquals( "m3|m3|30|30|3|3|3|m3", results.get( 2 ).toString() );
+		} );
+	}
+
+	@Test
+	public void testImplicitInstantiation(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			// every row must get its own values
+			final List<Pair> results = session.createSelectionQuery(
+					"select m.id, m.name from Measurement m order by m.id",
+					Pair.class
+			).getResultList();
+			assertEquals( 3, results.size() );
+			for ( int i = 0; i < 3; i++ ) {
+				assertEquals( i + 1, results.get( i ).id );
+				assertEquals( "m" + ( i + 1 ), results.get( i ).name );
+			}
+		} );
+	}
+
+	@Test
+	public void testConstructorFailure(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final InstantiationException exception = assertThrows(
+					InstantiationException.class,
+					() -> session.createQuery(
+							"select new " + Failing.class.getName() + "(m.id, m.name) from Measurement m",
+							Failing.class
+					).getResultList()
+			);
+			assertInstanceOf( IllegalStateException.class, exception.getCause() );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private String name;
+		private Integer reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String name, Integer reading) {
+			this.id = id;
+			this.name = name;
+			this.reading = reading;
+		}
+	}
+
+	public static class Pair {
+		private final Integer id;
+		private final String name;
+
+		Pair(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	public static class Reading {
+		private final int value;
+
+		public Reading(String name, int value) {
+			this.value = value;
+		}
+	}
+
+	public static class Failing {
+		public Failing(Integer id, String name) {
+			throw new IllegalStateException( "failing" );
+		}
+	}
+
+	public static class Wide {
+		private final String value;
+
+		public Wide(Integer i1, String s1, Integer r1, Integer i2, String s2, Integer r2, Integer i3, String s3) {
+			value = String.join( "|", s1, s2, r1.toString(), r2.toString(), i1.toString(), i2.toString(), i3.toString(), s3 );
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.named.checkcache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.type.SqlTypes;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BaseUnitTest
+public class NamedQueryCheckCacheTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testCheckedQueriesAreNotInterpretedAgain() {
+		final Path file = directory.resolve( "named-queries.properties" );
+
+		// first startup checks the query, and records it
+		assertEquals( 1, interpretationsAfterStartup( file, Book.class ) );
+		assertTrue( Files.exists( file ) );
+
+		// same mapping model: the query is not interpreted again
+		assertEquals( 0, interpretationsAfterStartup( file, Book.class ) );
+		assertEquals( 0, interpretationsAfterStartup( file, Book.class ) );
+	}
+
+	@Test
+	public void testMappingModelChangeInvalidatesCheckedQueries() {
+		final Path file = directory.resolve( "named-queries.properties" );
+
+		assertEquals( 1, interpretationsAfterStartup( file, Book.class ) );
+		assertEquals( 0, interpretationsAfterStartup( file, Book.class ) );
+
+		// a different mapping model: the query is checked again
+		assertEquals( 1, interpretationsAfterStartup( file, Book.class, Author.class ) );
+		assertEquals( 0, interpretationsAfterStartup( file, Book.class, Author.class ) );
+		assertEquals( 1, interpretationsAfterStartup( file, Book.class ) );
+	}
+
+	@Test
+	public void testQueryComplianceChangeInvalidatesCheckedQueries() {
+		final Path file = directory.resolve( "named-queries.properties" );
+		final Map<String, Object> compliant = Map.of( AvailableSettings.JPA_QUERY_COMPLIANCE, true );
+
+		assertEquals( 1, interpretationsAfterStartup( file, Book.class ) );
+		assertEquals( 0, interpretationsAfterStartup( file, Book.class ) );
+
+		// the query, which has no select clause, is not valid in strict JPA compliance,
+		// and must fail at startup instead of being skipped as already checked
+		assertThrows(
+				NamedQueryValidationException.class,
+				() -> interpretationsAfterStartup( file, compliant, Book.class )
+		);
+	}
+
+	@Test
+	public void testEmbeddableAttributeTypeChangeInvalidatesCheckedQueries() {
+		final Path file = directory.resolve( "named-queries.properties" );
+		final Map<String, Object> integerBooleans =
+				Map.of( AvailableSettings.PREFERRED_BOOLEAN_JDBC_TYPE, SqlTypes.INTEGER );
+
+		assertEquals( 1, interpretationsAfterStartup( file, Publisher.class ) );
+		assertEquals( 0, interpretationsAfterStartup( file, Publisher.class ) );
+
+		// only the type of an attribute of the embeddable changes
+		assertEquals( 1, interpretationsAfterStartup( file, integerBooleans, Publisher.class ) );
+		assertEquals( 0, interpretationsAfterStartup( file, integerBooleans, Publisher.class ) );
+	}
+
+	private static int interpretationsAfterStartup(Path file, Class<?>... entityClasses) {
+		return interpretationsAfterStartup( file, Map.of(), entityClasses );
+	}
+
+	private static int interpretationsAfterStartup(Path file, Map<String, Object> settings, Class<?>... entityClasses) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECK_CACHE_FILE, file.toString() )
+				.applySettings( settings )
+				.build();
+		try {
+			final MetadataSources sources = new MetadataSources( registry );
+			for ( Class<?> entityClass : entityClasses ) {
+				sources.addAnnotatedClass( entityClass );
+			}
+			try ( SessionFactoryImplementor sessionFactory =
+						(SessionFactoryImplementor) sources.buildMetadata().buildSessionFactory() ) {
+				return sessionFactory.getQueryEngine().getInterpretationCache()
+						.getNumberOfCachedHqlInterpretations();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+	}
+
+	@Entity(name = "Publisher")
+	@NamedQuery(name = "Publisher.verified", query = "from Publisher where address.verified = true")
+	public static class Publisher {
+		@Id
+		private Long id;
+		@Embedded
+		private Address address;
+	}
+
+	@Embeddable
+	public static class Address {
+		private String city;
+		private Boolean verified;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
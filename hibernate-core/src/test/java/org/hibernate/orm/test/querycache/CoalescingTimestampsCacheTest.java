@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cache.internal.CoalescingTimestampsCacheFactory;
+import org.hibernate.cache.internal.CoalescingTimestampsCacheImpl;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = CoalescingTimestampsCacheTest.Account.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_FACTORY, value = "org.hibernate.cache.internal.CoalescingTimestampsCacheFactory"),
+		@Setting(name = AvailableSettings.TIMESTAMPS_CACHE_WINDOW, value = "60000")
+})
+@SessionFactory(generateStatistics = true)
+public class CoalescingTimestampsCacheTest {
+	private static final String[] SPACES = { "Account" };
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Account( 1L, 100 ) ) );
+		scope.getSessionFactory().getCache().evictAll();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Account" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFactory(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getTimestampsCache() )
+				.isInstanceOf( CoalescingTimestampsCacheImpl.class );
+		assertEquals( 100, CoalescingTimestampsCacheFactory.DEFAULT_WINDOW );
+	}
+
+	@Test
+	public void testQueryResultsInvalidatedByCommit(SessionFactoryScope scope) {
+		final String hql = "select a.balance from Account a";
+		assertThat( query( scope, hql ) ).containsExactly( 100 );
+		assertThat( query( scope, hql ) ).containsExactly( 100 );
+
+		scope.inTransaction( session -> session.find( Account.class, 1L ).balance = 200 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( query( scope, hql ) ).containsExactly( 200 );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+	}
+
+	@Test
+	public void testOverlappingPreInvalidationsCoalesced(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final TimestampsCache timestampsCache = factory.getCache().getTimestampsCache();
+		final Statistics statistics = factory.getStatistics();
+
+		try ( SessionImplementor first = (SessionImplementor) factory.openSession();
+				SessionImplementor second = (SessionImplementor) factory.openSession() ) {
+			timestampsCache.preInvalidate( SPACES, first );
+			timestampsCache.preInvalidate( SPACES, second );
+			assertEquals( 1, statistics.getUpdateTimestampsCachePutCount() );
+			final long beforeCommit = factory.getCache().getRegionFactory().nextTimestamp();
+			assertFalse( timestampsCache.isUpToDate( Set.of( SPACES ), beforeCommit, first ) );
+
+			// the commit is written even though the second session still writes the space
+			timestampsCache.invalidate( SPACES, first );
+			assertEquals( 2, statistics.getUpdateTimestampsCachePutCount() );
+			assertFalse( timestampsCache.isUpToDate( Set.of( SPACES ), beforeCommit, first ) );
+
+			timestampsCache.invalidate( SPACES, second );
+			assertEquals( 3, statistics.getUpdateTimestampsCachePutCount() );
+			final long afterwards = factory.getCache().getRegionFactory().nextTimestamp();
+			assertTrue( timestampsCache.isUpToDate( Set.of( SPACES ), afterwards, first ) );
+		}
+	}
+
+	@Test
+	public void testInvalidationOverwritesEarlierTimestamp(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final TimestampsCache timestampsCache = factory.getCache().getTimestampsCache();
+
+		try ( SessionImplementor first = (SessionImplementor) factory.openSession();
+				SessionImplementor second = (SessionImplementor) factory.openSession() ) {
+			timestampsCache.preInvalidate( SPACES, first );
+			timestampsCache.preInvalidate( SPACES, second );
+			// another node sharing the region overwrites the pre-invalidation
+			timestampsCache.getRegion().putIntoCache( SPACES[0], Long.MIN_VALUE, first );
+			final long beforeCommit = factory.getCache().getRegionFactory().nextTimestamp();
+
+			timestampsCache.invalidate( SPACES, first );
+			assertTrue( (Long) timestampsCache.getRegion().getFromCache( SPACES[0], first ) >= beforeCommit );
+			assertFalse( timestampsCache.isUpToDate( Set.of( SPACES ), beforeCommit, first ) );
+			timestampsCache.invalidate( SPACES, second );
+		}
+	}
+
+	@Test
+	public void testNearCache(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final TimestampsCache timestampsCache = factory.getCache().getTimestampsCache();
+
+		try ( SessionImplementor session = (SessionImplementor) factory.openSession() ) {
+			timestampsCache.preInvalidate( SPACES, session );
+			timestampsCache.invalidate( SPACES, session );
+			final long afterwards = factory.getCache().getRegionFactory().nextTimestamp();
+
+			// a later write to the region by another node is not seen within the window
+			timestampsCache.getRegion().putIntoCache( SPACES[0], Long.MAX_VALUE, session );
+			assertTrue( timestampsCache.isUpToDate( Set.of( SPACES ), afterwards, session ) );
+		}
+	}
+
+	@Test
+	public void testInvalidationDuringRead(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final InterleavingRegion region = new InterleavingRegion( factory.getCache().getTimestampsCache().getRegion() );
+		final TimestampsCache timestampsCache = new CoalescingTimestampsCacheImpl( region, 60_000 );
+
+		try ( SessionImplementor session = (SessionImplementor) factory.openSession() ) {
+			final long before = factory.getCache().getRegionFactory().nextTimestamp();
+			// the space is invalidated after the region was read, but before
+			// the timestamp read is kept locally
+			region.duringRead = () -> {
+				timestampsCache.preInvalidate( SPACES, session );
+				timestampsCache.invalidate( SPACES, session );
+			};
+			assertTrue( timestampsCache.isUpToDate( Set.of( SPACES ), before, session ) );
+			region.duringRead = null;
+
+			assertFalse( timestampsCache.isUpToDate( Set.of( SPACES ), before, session ) );
+		}
+	}
+
+	private static class InterleavingRegion implements TimestampsRegion {
+		private final TimestampsRegion delegate;
+		private Runnable duringRead;
+
+		private InterleavingRegion(TimestampsRegion delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			final Object value = delegate.getFromCache( key, session );
+			if ( duringRead != null ) {
+				duringRead.run();
+			}
+			return value;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			delegate.putIntoCache( key, value, session );
+		}
+
+		@Override
+		public String getName() {
+			return delegate.getName();
+		}
+
+		@Override
+		public RegionFactory getRegionFactory() {
+			return delegate.getRegionFactory();
+		}
+
+		@Override
+		public void clear() {
+			delegate.clear();
+		}
+
+		@Override
+		public void destroy() {
+		}
+	}
+
+	private static List<Integer> query(SessionFactoryScope scope, String hql) {
+		return scope.fromSession(
+				session -> session.createSelectionQuery( hql, Integer.class ).setCacheable( true ).getResultList()
+		);
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		Long id;
+		int balance;
+
+		public Account() {
+		}
+
+		public Account(Long id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cache.internal.ColumnarQueryResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DomainModel(annotatedClasses = ColumnarQueryCacheTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_COLUMNAR_QUERY_CACHE_ENTRIES, value = "true")
+})
+@SessionFactory(generateStatistics = true)
+public class ColumnarQueryCacheTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 20; i++ ) {
+				final Product product = new Product();
+				product.id = i;
+				product.category = i % 2 == 0 ? "even" : "odd";
+				product.quantity = i % 5 == 0 ? null : (int) i * 10;
+				product.price = i * 1.5;
+				product.active = i % 3 == 0;
+				product.released = LocalDate.of( 2023, 1, 1 ).plusDays( i );
+				session.persist( product );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAll();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testProjection(SessionFactoryScope scope) {
+		final String hql = "select p.id, p.category, p.quantity, p.price, p.active, p.released from Product p order by p.id";
+		final List<Object[]> fromDatabase = scope.fromSession(
+				session -> session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).getResultList()
+		);
+		final List<Object[]> fromCache = scope.fromSession(
+				session -> session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).getResultList()
+		);
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertThat( fromCache ).hasSize( 20 );
+		for ( int i = 0; i < fromDatabase.size(); i++ ) {
+			assertThat( fromCache.get( i ) ).containsExactly( fromDatabase.get( i ) );
+		}
+		assertNull( fromCache.get( 4 )[2] );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		final String hql = "from Product where category = :category order by id";
+		scope.inSession( session -> session.createSelectionQuery( hql, Product.class )
+				.setParameter( "category", "odd" )
+				.setCacheable( true )
+				.getResultList() );
+		final List<Product> fromCache = scope.fromSession( session -> session.createSelectionQuery( hql, Product.class )
+				.setParameter( "category", "odd" )
+				.setCacheable( true )
+				.getResultList() );
+
+		assertEquals( 1, scope.getSessionFactory().getStatistics().getQueryCacheHitCount() );
+		assertThat( fromCache ).extracting( product -> product.id )
+				.containsExactly( 1L, 3L, 5L, 7L, 9L, 11L, 13L, 15L, 17L, 19L );
+	}
+
+	@Test
+	public void testEncoding() {
+		final List<Object> results = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			results.add( new Object[] {
+					(long) i,
+					i % 4 == 0 ? null : i,
+					i * 0.5,
+					i % 2 == 0,
+					i % 3 == 0 ? "fizz" : "buzz",
+					"unique #" + i,
+					i % 2 == 0 ? (Object) i : "mixed"
+			} );
+		}
+
+		final ColumnarQueryResults columnar = ColumnarQueryResults.encode( results );
+		assertThat( columnar ).isNotNull();
+		assertEquals( 10, columnar.getRowCount() );
+		assertEquals( 7, columnar.getColumnCount() );
+		assertThat( columnar ).hasSize( results.size() );
+		for ( int i = 0; i < results.size(); i++ ) {
+			assertThat( columnar.getRow( i ) ).containsExactly( (Object[]) results.get( i ) );
+		}
+
+		final ColumnarQueryResults deserialized = (ColumnarQueryResults) SerializationHelper.clone( (Serializable) columnar );
+		for ( int i = 0; i < results.size(); i++ ) {
+			assertThat( deserialized.getRow( i ) ).containsExactly( (Object[]) results.get( i ) );
+		}
+	}
+
+	@Test
+	public void testEncodingUnsupportedResults() {
+		assertNull( ColumnarQueryResults.encode( List.of() ) );
+		assertNull( ColumnarQueryResults.encode( List.of( new Object[] { 1 }, new Object[] { 1, 2 } ) ) );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Long id;
+		String category;
+		Integer quantity;
+		Double price;
+		Boolean active;
+		LocalDate released;
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DomainModel(annotatedClasses = {
+		InsertMultipleTest.Book.class,
+		InsertMultipleTest.Animal.class,
+		InsertMultipleTest.Dog.class,
+		InsertMultipleTest.Vehicle.class,
+		InsertMultipleTest.Car.class,
+		InsertMultipleTest.Ticket.class,
+		InsertMultipleTest.Employee.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.DIALECT, value = "org.hibernate.orm.test.stateless.InsertMultipleTest$BulkLoadingH2Dialect"))
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class InsertMultipleTest {
+	private static final Map<String, Integer> BULK_LOADED_ROWS = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	public void clearBulkLoadedRows() {
+		BULK_LOADED_ROWS.clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+			session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+			session.createMutationQuery( "delete from Ticket" ).executeUpdate();
+			session.createMutationQuery( "delete from Employee where manager is not null" ).executeUpdate();
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBulkLoad(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			entities.add( new Book( "Book " + i, i % 2 == 0 ? null : new BigDecimal( "9.99" ) ) );
+		}
+		entities.add( new Dog( "Rex", "Beagle" ) );
+		entities.add( new Dog( "Fido", null ) );
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		for ( Object entity : entities ) {
+			if ( entity instanceof Book ) {
+				assertNotNull( ( (Book) entity ).id );
+			}
+		}
+		assertEquals( 10, BULK_LOADED_ROWS.get( "Book" ) );
+		assertEquals( 2, BULK_LOADED_ROWS.get( "Animal" ) );
+		assertEquals( 2, BULK_LOADED_ROWS.get( "Dog" ) );
+
+		scope.inStatelessTransaction( session -> {
+			assertEquals( 10L, session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult() );
+			assertEquals(
+					new BigDecimal( "9.99" ),
+					session.createSelectionQuery( "select price from Book where title = 'Book 1'", BigDecimal.class )
+							.getSingleResult()
+			);
+			assertEquals(
+					"Beagle",
+					session.createSelectionQuery( "select breed from Dog where name = 'Rex'", String.class )
+							.getSingleResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testFallbacks(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			// the discriminator value is rendered as a literal
+			entities.add( new Car( "Car " + i ) );
+			// the id is generated by an identity column
+			entities.add( new Ticket( "Ticket " + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		assertFalse( BULK_LOADED_ROWS.containsKey( "Vehicle" ) );
+		assertFalse( BULK_LOADED_ROWS.containsKey( "Ticket" ) );
+		for ( Object entity : entities ) {
+			if ( entity instanceof Ticket ) {
+				assertNotNull( ( (Ticket) entity ).id );
+			}
+		}
+		scope.inStatelessTransaction( session -> {
+			assertEquals( 5L, session.createSelectionQuery( "select count(*) from Car", Long.class ).getSingleResult() );
+			assertEquals( 5L, session.createSelectionQuery( "select count(*) from Ticket", Long.class ).getSingleResult() );
+		} );
+	}
+
+	@Test
+	public void testSelfReferencingChunk(SessionFactoryScope scope) {
+		final Employee boss = new Employee( "Boss", null );
+		final List<Object> entities = new ArrayList<>();
+		entities.add( boss );
+		for ( int i = 0; i < 3; i++ ) {
+			entities.add( new Employee( "Employee " + i, boss ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		assertEquals( 4, BULK_LOADED_ROWS.get( "Employee" ) );
+		scope.inStatelessTransaction( session -> assertEquals(
+				3L,
+				session.createSelectionQuery( "select count(*) from Employee where manager.id = :id", Long.class )
+						.setParameter( "id", boss.id )
+						.getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testCopyFormat(SessionFactoryScope scope) {
+		final TypeConfiguration typeConfiguration = scope.getSessionFactory().getTypeConfiguration();
+		final JdbcMapping[] jdbcMappings = {
+				typeConfiguration.getBasicTypeForJavaType( Long.class ),
+				typeConfiguration.getBasicTypeForJavaType( String.class ),
+				typeConfiguration.getBasicTypeForJavaType( Boolean.class ),
+				typeConfiguration.getBasicTypeForJavaType( byte[].class )
+		};
+		final StringBuilder csv = new StringBuilder();
+		PostgreSQLCopyBulkInsertSupport.INSTANCE.appendRow(
+				csv,
+				new Object[] { 1L, "say \"hello\", world", true, new byte[] { 0x0f, (byte) 0xa0 } },
+				jdbcMappings,
+				scope.getSessionFactory().getWrapperOptions()
+		);
+		PostgreSQLCopyBulkInsertSupport.INSTANCE.appendRow(
+				csv,
+				new Object[] { 2L, null, false, null },
+				jdbcMappings,
+				scope.getSessionFactory().getWrapperOptions()
+		);
+		assertEquals( "1,\"say \"\"hello\"\", world\",t,\\x0fa0\n2,,f,\n", csv.toString() );
+	}
+
+	public static class BulkLoadingH2Dialect extends H2Dialect {
+		@Override
+		public BulkInsertSupport getBulkInsertSupport() {
+			return new RecordingBulkInsertSupport();
+		}
+	}
+
+	/**
+	 * Records the rows, and inserts them by plain JDBC.
+	 */
+	private static class RecordingBulkInsertSupport implements BulkInsertSupport {
+		@Override
+		public boolean supportsType(JdbcMapping jdbcMapping) {
+			return true;
+		}
+
+		@Override
+		public boolean isAvailable(JdbcMapping[] jdbcMappings, SharedSessionContractImplementor session) {
+			return true;
+		}
+
+		@Override
+		public long insertRows(
+				String tableName,
+				String[] columnNames,
+				JdbcMapping[] jdbcMappings,
+				List<Object[]> rows,
+				SharedSessionContractImplementor session) throws SQLException {
+			BULK_LOADED_ROWS.merge( tableName, rows.size(), Integer::sum );
+			final String sql = "insert into " + tableName + " (" + String.join( ",", columnNames ) + ") values ("
+					+ "?,".repeat( columnNames.length - 1 ) + "?)";
+			try ( PreparedStatement statement = session.getJdbcCoordinator().getLogicalConnection()
+					.getPhysicalConnection().prepareStatement( sql ) ) {
+				long rowCount = 0;
+				for ( Object[] row : rows ) {
+					for ( int i = 0; i < row.length; i++ ) {
+						//noinspection unchecked
+						( (ValueBinder<Object>) jdbcMappings[i].getJdbcValueBinder() )
+								.bind( statement, row[i], i + 1, session );
+					}
+					rowCount += statement.executeUpdate();
+				}
+				return rowCount;
+			}
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		@GeneratedValue
+		Long id;
+		String title;
+		BigDecimal price;
+
+		public Book() {
+		}
+
+		public Book(String title, BigDecimal price) {
+			this.title = title;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+
+		public Animal() {
+		}
+
+		public Animal(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		String breed;
+
+		public Dog() {
+		}
+
+		public Dog(String name, String breed) {
+			super( name );
+			this.breed = breed;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	public static class Vehicle {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	@DiscriminatorValue("car")
+	public static class Car extends Vehicle {
+		public Car() {
+		}
+
+		public Car(String name) {
+			super( name );
+		}
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String title;
+
+		public Ticket() {
+		}
+
+		public Ticket(String title) {
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+		@ManyToOne
+		Employee manager;
+
+		public Employee() {
+		}
+
+		public Employee(String name, Employee manager) {
+			this.name = name;
+			this.manager = manager;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stream;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = {
+		DetachedStreamTest.Book.class,
+		DetachedStreamTest.Publisher.class
+})
+@SessionFactory
+public class DetachedStreamTest {
+
+	private static final int BOOKS = 100;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1L, "Manning" );
+			session.persist( publisher );
+			for ( long i = 0; i < BOOKS; i++ ) {
+				session.persist( new Book( i, "Book " + i, publisher ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntitiesAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Publisher publisher = session.find( Publisher.class, 1L );
+			final int[] count = { 0 };
+			final Book[] previous = { null };
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_STREAM_DETACHED, true )
+					.setFetchSize( 10 )
+					.stream() ) {
+				books.forEach( book -> {
+					assertEquals( "Book " + count[0]++, book.title );
+					assertTrue( session.contains( book ) );
+					if ( previous[0] != null ) {
+						assertFalse( session.contains( previous[0] ) );
+					}
+					previous[0] = book;
+					// the publisher, and the book being streamed
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= 2 );
+				} );
+			}
+			assertEquals( BOOKS, count[0] );
+			assertFalse( session.contains( previous[0] ) );
+			// entities which were managed beforehand are left alone
+			assertTrue( session.contains( publisher ) );
+			assertEquals( 1, persistenceContext.getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testChangesAreNotFlushed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_STREAM_DETACHED, true )
+					.stream() ) {
+				books.forEach( book -> book.title = "changed" );
+			}
+		} );
+		scope.inTransaction( session -> assertEquals(
+				0L,
+				session.createSelectionQuery( "select count(*) from Book where title = 'changed'", Long.class )
+						.getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testManagedEntityInResultIsNotDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 5L );
+			book.title = "Modified";
+			final int[] count = { 0 };
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					// the change must still be pending when the stream ends
+					.setHibernateFlushMode( FlushMode.COMMIT )
+					.setHint( HibernateHints.HINT_STREAM_DETACHED, true )
+					.stream() ) {
+				books.forEach( streamed -> {
+					if ( count[0]++ == 5 ) {
+						assertSame( book, streamed );
+					}
+				} );
+			}
+			assertEquals( BOOKS, count[0] );
+			// the book was managed before it was streamed, so it stays managed
+			assertTrue( session.contains( book ) );
+			assertEquals( 1, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 5L );
+			assertEquals( "Modified", book.title );
+			book.title = "Book 5";
+		} );
+	}
+
+	@Test
+	public void testEntityLoadedWhileIteratingIsNotDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher[] publisher = { null };
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_STREAM_DETACHED, true )
+					.stream() ) {
+				books.forEach( book -> {
+					if ( publisher[0] == null ) {
+						publisher[0] = session.find( Publisher.class, 1L );
+					}
+				} );
+			}
+			// loaded by the application, not by a result
+			assertTrue( session.contains( publisher[0] ) );
+			assertEquals( 1, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testProjection(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			try ( Stream<Object[]> rows = session.createSelectionQuery(
+							"select b, p, b.title from Book b join b.publisher p order by b.id",
+							Object[].class
+					)
+					.setHint( HibernateHints.HINT_STREAM_DETACHED, true )
+					.stream() ) {
+				final List<String> titles = rows.map( row -> {
+					assertTrue( Hibernate.isInitialized( row[1] ) );
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= 2 );
+					return (String) row[2];
+				} ).collect( Collectors.toList() );
+				assertEquals( BOOKS, titles.size() );
+			}
+			assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testWithoutHint(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book", Book.class ).stream() ) {
+				assertEquals( BOOKS, books.count() );
+			}
+			assertEquals( BOOKS, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Long id;
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
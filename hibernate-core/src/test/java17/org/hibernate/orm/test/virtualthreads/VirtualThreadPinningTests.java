@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.virtualthreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the load, flush and query paths on many virtual threads at once, and
+ * checks that the JVM reports no virtual thread parking while pinned to its
+ * carrier by a monitor held in Hibernate code.
+ * <p>
+ * Pinning caused by the JDBC driver, that is, parking whose nearest frame
+ * outside the JDK belongs to the driver, is not reported.
+ */
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		VirtualThreadPinningTests.Author.class,
+		VirtualThreadPinningTests.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.POOL_SIZE, value = "" + VirtualThreadPinningTests.POOL_SIZE))
+@SessionFactory
+public class VirtualThreadPinningTests {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int TASK_COUNT = 1000;
+	static final int POOL_SIZE = 50;
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	@EnableEvent(value = PINNED_EVENT, stackTrace = EnableEvent.StacktracePolicy.INCLUDED, threshold = 0)
+	public void testNoPinningOnVirtualThreads(SessionFactoryScope scope) throws Exception {
+		assumeTrue( Runtime.version().feature() >= 21, "Virtual threads require JDK 21" );
+
+		// build the SessionFactory up front, rather than from all the tasks at once
+		scope.getSessionFactory();
+
+		// the built-in connection pool fails, rather than waits, when exhausted
+		final Semaphore connections = new Semaphore( POOL_SIZE );
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < TASK_COUNT; i++ ) {
+				final String name = "author #" + i;
+				futures.add( executor.submit( () -> {
+					connections.acquire();
+					try {
+						loadFlushAndQuery( scope, name );
+					}
+					finally {
+						connections.release();
+					}
+					return null;
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		jfrEvents.awaitEvents();
+		final List<RecordedEvent> pinnedInHibernate = jfrEvents.events()
+				.filter( event -> event.getEventType().getName().equals( PINNED_EVENT ) )
+				.filter( VirtualThreadPinningTests::isPinnedByHibernate )
+				.toList();
+		assertThat( pinnedInHibernate ).isEmpty();
+	}
+
+	private static void loadFlushAndQuery(SessionFactoryScope scope, String name) {
+		final Long authorId = scope.fromTransaction( session -> {
+			final Author author = new Author( name );
+			session.persist( author );
+			for ( int i = 0; i < 3; i++ ) {
+				session.persist( new Book( author, name + " book #" + i ) );
+			}
+			return author.id;
+		} );
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, authorId );
+			Hibernate.initialize( author.books );
+			assertThat( author.books ).hasSize( 3 );
+
+			final Book book = author.books.get( 0 );
+			book.title = book.title + " (revised)";
+			session.flush();
+
+			final List<Book> books = session.createSelectionQuery(
+							"from Book where author.name = :name",
+							Book.class
+					)
+					.setParameter( "name", name )
+					.getResultList();
+			assertThat( books ).hasSize( 3 );
+		} );
+	}
+
+	/**
+	 * Whether Hibernate is on the stack from where the virtual thread parked,
+	 * even if the pinning monitor was entered by the JDBC driver or the JDK on
+	 * its behalf. The frames of the tests themselves are always on the stack,
+	 * so they don't count.
+	 */
+	private static boolean isPinnedByHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			final String className = frame.getMethod().getType().getName();
+			if ( className.startsWith( "org.hibernate." )
+					&& !className.startsWith( "org.hibernate.orm.test." )
+					&& !className.startsWith( "org.hibernate.testing." ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		// this source set compiles against JDK 17
+		return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue(generator = "author_seq")
+		@SequenceGenerator(name = "author_seq", allocationSize = 20)
+		Long id;
+
+		String name;
+
+		@OneToMany(mappedBy = "author")
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		@GeneratedValue(generator = "book_seq")
+		@SequenceGenerator(name = "book_seq", allocationSize = 20)
+		Long id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Author author, String title) {
+			this.author = author;
+			this.title = title;
+			author.books.add( this );
+		}
+	}
+}
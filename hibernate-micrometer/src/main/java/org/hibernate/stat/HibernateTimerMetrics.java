@@ -0,0 +1,295 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MeterBinder} implementation that provides latency distributions, as
+ * {@link Timer}s and {@link DistributionSummary}s publishing percentiles and
+ * percentile histograms, for:
+ * <ul>
+ * <li>flushes, tagged by type: {@code full}, or {@code partial} for an automatic flush
+ *     before a query,
+ * <li>entity loads by id, tagged by entity name,
+ * <li>the execution of JDBC statements, and, separately, the processing of the rows of
+ *     query results,
+ * <li>the sizes, and execution times, of JDBC batches, and
+ * <li>the acquisition of JDBC connections.
+ * </ul>
+ * <p>
+ * Unlike {@link HibernateMetrics}, these metrics do not depend on {@link Statistics}:
+ * they are recorded by a {@link SessionEventListener} added to every session, even when
+ * {@value org.hibernate.cfg.AvailableSettings#GENERATE_STATISTICS} is disabled.
+ * Only sessions opened after the binding are observed.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateTimerMetrics implements MeterBinder {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	/**
+	 * Create {@code HibernateTimerMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateTimerMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateTimerMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateTimerMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateTimerMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			final SessionFactoryImplementor factory = (SessionFactoryImplementor) sessionFactory;
+			final Meters meters = new Meters( registry );
+			factory.getSessionFactoryOptions().getBaselineSessionEventsListenerBuilder()
+					.addListenerSupplier( () -> new MetricsSessionEventListener( meters ) );
+		}
+	}
+
+	private Timer timer(String name, String description, MeterRegistry registry, String... tags) {
+		return Timer.builder( name )
+				.tags( this.tags )
+				.tags( tags )
+				.description( description )
+				.publishPercentiles( PERCENTILES )
+				.publishPercentileHistogram()
+				.register( registry );
+	}
+
+	/**
+	 * The meters, shared by all sessions.
+	 */
+	class Meters {
+		private final MeterRegistry registry;
+		private final Timer flush;
+		private final Timer partialFlush;
+		private final Timer connectionAcquisition;
+		private final Timer statementExecution;
+		private final Timer resultsProcessing;
+		private final Timer batchExecution;
+		private final DistributionSummary batchSize;
+		private final Map<String, Timer> entityLoads = new ConcurrentHashMap<>();
+
+		Meters(MeterRegistry registry) {
+			this.registry = registry;
+			flush = timer( "hibernate.flush.duration", "Duration of flushes", registry, "type", "full" );
+			partialFlush = timer( "hibernate.flush.duration", "Duration of flushes", registry, "type", "partial" );
+			connectionAcquisition = timer(
+					"hibernate.connections.acquisition",
+					"Time spent obtaining JDBC connections",
+					registry
+			);
+			statementExecution = timer(
+					"hibernate.statements.execution",
+					"Time spent executing JDBC statements, excluding the processing of results",
+					registry
+			);
+			resultsProcessing = timer(
+					"hibernate.query.results.processing",
+					"Time spent reading the rows of query results, excluding the execution of JDBC statements",
+					registry
+			);
+			batchExecution = timer( "hibernate.batch.execution", "Time spent executing JDBC batches", registry );
+			batchSize = DistributionSummary.builder( "hibernate.batch.size" )
+					.tags( tags )
+					.description( "Number of rows in executed JDBC batches" )
+					.publishPercentiles( PERCENTILES )
+					.publishPercentileHistogram()
+					.register( registry );
+		}
+
+		Timer entityLoad(String entityName) {
+			return entityLoads.computeIfAbsent(
+					entityName,
+					name -> timer( "hibernate.entities.load", "Duration of entity loads by id", registry, "entity", name )
+			);
+		}
+	}
+
+	/**
+	 * Records the events of a single session.
+	 */
+	static class MetricsSessionEventListener implements SessionEventListener {
+		private final transient Meters meters;
+
+		private long flushStart;
+		private long partialFlushStart;
+		private long connectionAcquisitionStart;
+		private long statementExecutionStart;
+		private long batchExecutionStart;
+
+		// the processing of results might trigger further queries
+		private int resultsProcessingDepth;
+		private long resultsProcessingStart;
+		private long statementExecutionTime;
+
+		// the loading of an entity might trigger further loads
+		private long[] entityLoadStarts = new long[4];
+		private int entityLoadDepth;
+
+		MetricsSessionEventListener(Meters meters) {
+			this.meters = meters;
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionStart() {
+			connectionAcquisitionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionEnd() {
+			record( meters == null ? null : meters.connectionAcquisition, connectionAcquisitionStart );
+		}
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			statementExecutionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			final long time = record( meters == null ? null : meters.statementExecution, statementExecutionStart );
+			if ( resultsProcessingDepth > 0 ) {
+				statementExecutionTime += time;
+			}
+		}
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			batchExecutionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteBatchEnd() {
+			record( meters == null ? null : meters.batchExecution, batchExecutionStart );
+		}
+
+		@Override
+		public void jdbcBatchExecuted(int batchSize) {
+			if ( meters != null ) {
+				meters.batchSize.record( batchSize );
+			}
+		}
+
+		@Override
+		public void resultsProcessingStart() {
+			if ( resultsProcessingDepth++ == 0 ) {
+				resultsProcessingStart = System.nanoTime();
+				statementExecutionTime = 0;
+			}
+		}
+
+		@Override
+		public void resultsProcessingEnd() {
+			if ( --resultsProcessingDepth == 0 && meters != null ) {
+				final long time = System.nanoTime() - resultsProcessingStart - statementExecutionTime;
+				meters.resultsProcessing.record( Math.max( time, 0 ), TimeUnit.NANOSECONDS );
+			}
+		}
+
+		@Override
+		public void entityLoadStart() {
+			if ( entityLoadDepth == entityLoadStarts.length ) {
+				entityLoadStarts = Arrays.copyOf( entityLoadStarts, entityLoadDepth * 2 );
+			}
+			entityLoadStarts[entityLoadDepth++] = System.nanoTime();
+		}
+
+		@Override
+		public void entityLoadEnd(String entityName) {
+			final long start = entityLoadStarts[--entityLoadDepth];
+			record( meters == null ? null : meters.entityLoad( entityName ), start );
+		}
+
+		@Override
+		public void flushStart() {
+			flushStart = System.nanoTime();
+		}
+
+		@Override
+		public void flushEnd(int numberOfEntities, int numberOfCollections) {
+			record( meters == null ? null : meters.flush, flushStart );
+		}
+
+		@Override
+		public void partialFlushStart() {
+			partialFlushStart = System.nanoTime();
+		}
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			record( meters == null ? null : meters.partialFlush, partialFlushStart );
+		}
+
+		private static long record(Timer timer, long start) {
+			final long time = System.nanoTime() - start;
+			if ( timer != null ) {
+				timer.record( time, TimeUnit.NANOSECONDS );
+			}
+			return time;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.stat.HibernateTimerMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerTimerMetricsTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "false" );
+		configuration.setProperty( Environment.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		HibernateTimerMetrics.monitor( registry, sessionFactory(), "something", Tags.empty() );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testTimersWithoutStatistics() {
+		assertFalse( sessionFactory().getStatistics().isStatisticsEnabled() );
+
+		Session session = openSession();
+		session.beginTransaction();
+		for ( int i = 1; i <= 3; i++ ) {
+			session.persist( new Account( new AccountId( i ), "acct" + i ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+
+		assertEquals( 1, registry.get( "hibernate.flush.duration" ).tags( "type", "full" ).timer().count() );
+		assertTrue( registry.get( "hibernate.connections.acquisition" ).timer().count() > 0 );
+		assertEquals( 1, registry.get( "hibernate.batch.execution" ).timer().count() );
+		assertEquals( 1, registry.get( "hibernate.batch.size" ).summary().count() );
+		assertEquals( 3, registry.get( "hibernate.batch.size" ).summary().totalAmount(), 0 );
+
+		session = openSession();
+		session.beginTransaction();
+		final List<Account> accounts = session.createQuery( "from Account", Account.class ).getResultList();
+		assertEquals( 3, accounts.size() );
+		session.getTransaction().commit();
+		session.close();
+
+		assertTrue( registry.get( "hibernate.statements.execution" ).timer().count() > 0 );
+		assertEquals( 1, registry.get( "hibernate.query.results.processing" ).timer().count() );
+
+		session = openSession();
+		session.beginTransaction();
+		session.get( Account.class, new AccountId( 1 ) );
+		session.getTransaction().commit();
+		session.close();
+
+		assertEquals(
+				1,
+				registry.get( "hibernate.entities.load" )
+						.tags( "entity", Account.class.getName() )
+						.timer()
+						.count()
+		);
+		assertEquals(
+				1,
+				registry.get( "hibernate.flush.duration" ).tags( "entityManagerFactory", "something" ).timers().stream()
+						.filter( timer -> "partial".equals( timer.getId().getTag( "type" ) ) )
+						.count()
+		);
+
+		// clean up
+		session = openSession();
+		session.beginTransaction();
+		session.createMutationQuery( "delete from Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testSecondRegistry() {
+		final EventListenerGroup<LoadEventListener> loadListeners = sessionFactory().getEventEngine()
+				.getListenerRegistry()
+				.getEventListenerGroup( EventType.LOAD );
+		final int loadListenerCount = loadListeners.count();
+		final SimpleMeterRegistry secondRegistry = new SimpleMeterRegistry();
+		HibernateTimerMetrics.monitor( secondRegistry, sessionFactory(), "other", Tags.empty() );
+		// the load listeners are left alone
+		assertEquals( loadListenerCount, loadListeners.count() );
+
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 1 ), "acct1" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		session.get( Account.class, new AccountId( 1 ) );
+		session.createMutationQuery( "delete from Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+
+		// each load is recorded once by each registry
+		for ( SimpleMeterRegistry meterRegistry : List.of( registry, secondRegistry ) ) {
+			assertEquals(
+					1,
+					meterRegistry.get( "hibernate.entities.load" )
+							.tags( "entity", Account.class.getName() )
+							.timer()
+							.count()
+			);
+		}
+	}
+}